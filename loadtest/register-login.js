@@ -0,0 +1,64 @@
+// 회원가입 → 로그인 → 내 정보 조회 부하 테스트 (k6)
+//
+// 플랫폼 스레드(기본) 와 가상 스레드(virtual 프로필) 비교 방법
+//   1) ./gradlew bootRun
+//      k6 run -e BASE_URL=http://localhost:8888 --summary-export=build/loadtest-platform.json loadtest/register-login.js
+//   2) ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=virtual'
+//      k6 run -e BASE_URL=http://localhost:8888 --summary-export=build/loadtest-virtual.json loadtest/register-login.js
+//   3) 두 summary 의 http_req_duration p(95)/p(99), http_reqs, 503(SERVER_BUSY) 비율을 비교하고
+//      virtual 실행 중 /actuator/metrics/jvm.threads.virtual.pinned 값을 확인한다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8888';
+const PASSWORD = 'loadTest1!';
+
+export const options = {
+    scenarios: {
+        auth: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '2m', target: 200 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.05'],
+    },
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export default function () {
+    // VU(3자리) + 반복 번호(5자리) 고정 폭이라 VU/반복 조합마다 겹치지 않는다
+    // (아이디 9자: 5-10자, 이메일 14자: 20자 제한 안, VU 는 999 까지)
+    const suffix = `${String(__VU).padStart(3, '0')}${String(__ITER).padStart(5, '0')}`;
+    const userId = `u${suffix}`;
+
+    const signup = http.post(`${BASE_URL}/api/register/signup`, JSON.stringify({
+        userId: userId,
+        password: PASSWORD,
+        nickname: `n${suffix}`,
+        email: `${suffix}@lt.io`,
+        phone: '01000000000',
+    }), JSON_HEADERS);
+    check(signup, { 'signup 201/409': (r) => r.status === 201 || r.status === 409 });
+
+    const login = http.post(`${BASE_URL}/api/register/login`, JSON.stringify({
+        userId: userId,
+        password: PASSWORD,
+    }), JSON_HEADERS);
+    check(login, { 'login 200': (r) => r.status === 200 });
+    if (login.status !== 200) {
+        return;
+    }
+
+    const accessToken = login.json('accessToken');
+    const me = http.get(`${BASE_URL}/api/register/user/me/0`, {
+        headers: { Authorization: `Bearer ${accessToken}` },
+    });
+    check(me, { 'me 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,254 @@
+package io.fundy.fundyserver.project.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.fundy.fundyserver.common.id.SnowflakeIdGenerator;
+import io.fundy.fundyserver.common.id.SnowflakeIds;
+import io.fundy.fundyserver.project.dto.project.ProjectRequestDTO;
+import io.fundy.fundyserver.project.dto.reward.RewardRequestDTO;
+import io.fundy.fundyserver.project.entity.Category;
+import io.fundy.fundyserver.project.entity.Project;
+import io.fundy.fundyserver.project.entity.Reward;
+import jakarta.persistence.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 리워드 20개짜리 프로젝트 1건 생성에 드는 DB 왕복 수 (IDENTITY vs Snowflake ID + JDBC 배치)
+// 왕복 = Statement.execute* / executeBatch / commit 호출 수 (rewriteBatchedStatements 로 배치는 1회)
+// identity : 벤치마크 전용 IDENTITY 엔티티 (bench_identity_* 테이블) → INSERT 21 + commit
+// snowflake: 운영 엔티티 (Project/Reward) → 프로젝트 INSERT + 리워드 배치 + commit (ID 는 메모리에서 발급)
+// 테이블을 만들고(hbm2ddl update) 행을 계속 쌓으므로 반드시 버려도 되는 DB 를 지정한다.
+//   BENCH_DB_URL=jdbc:mysql://localhost:3306/fundy_bench?rewriteBatchedStatements=true \
+//   BENCH_DB_USER=... BENCH_DB_PASSWORD=... ./gradlew jmh -PjmhInclude=ProjectCreateRoundTrip
+// 결과의 roundTrips / projects 가 프로젝트 1건당 왕복 수이다.
+// createService 는 여기에 카테고리 존재 확인 SELECT 1회가 더해진다 (두 방식 공통이라 제외).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectCreateRoundTripBenchmark {
+
+    private static final int REWARDS = 20;
+
+    @Param({"identity", "snowflake"})
+    public String strategy;
+
+    private final AtomicLong statements = new AtomicLong();
+    private HikariDataSource pool;
+    private SessionFactory sessionFactory;
+    private ProjectRequestDTO request;
+    private Long categoryId;
+
+    // 반복(iteration)마다 누적되는 보조 지표
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+        public long roundTrips;
+        public long projects;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            roundTrips = 0;
+            projects = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl(env("BENCH_DB_URL", "jdbc:mysql://localhost:3306/fundy_bench?rewriteBatchedStatements=true"));
+        pool.setUsername(env("BENCH_DB_USER", "root"));
+        pool.setPassword(env("BENCH_DB_PASSWORD", ""));
+        pool.setMaximumPoolSize(4);
+        // 노드 임대 없이 고정 노드 번호로 발급
+        SnowflakeIds.install(new SnowflakeIdGenerator(Instant.parse("2025-01-01T00:00:00Z").toEpochMilli(),
+                SnowflakeIdGenerator.MAX_NODE_ID, 0, 2_000, Long.MAX_VALUE));
+
+        // application.yml 의 spring.jpa.properties.hibernate 와 같은 배치 설정
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, counting(pool))
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "update")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .applySetting(AvailableSettings.ORDER_UPDATES, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClasses(Category.class, Project.class, Reward.class,
+                        IdentityProject.class, IdentityReward.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            session.createNativeMutationQuery("INSERT INTO categories (name) VALUES ('bench')").executeUpdate();
+            categoryId = ((Number) session.createNativeQuery("SELECT MAX(id) FROM categories", Object.class)
+                    .getSingleResult()).longValue();
+            tx.commit();
+        }
+
+        List<RewardRequestDTO> rewards = new ArrayList<>(REWARDS);
+        for (int i = 0; i < REWARDS; i++) {
+            rewards.add(new RewardRequestDTO("리워드 " + i, 10_000 + i * 1_000, "리워드 설명 " + i, 100));
+        }
+        request = new ProjectRequestDTO("벤치마크 프로젝트", "프로젝트 설명", 1_000_000,
+                LocalDate.now().plusDays(30), categoryId, null, rewards);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        pool.close();
+    }
+
+    @Benchmark
+    public Long create(RoundTrips counters) {
+        long before = statements.get();
+        Long id;
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            id = "identity".equals(strategy) ? persistIdentity(session) : persistSnowflake(session);
+            tx.commit();
+        }
+        counters.roundTrips += statements.get() - before;
+        counters.projects++;
+        return id;
+    }
+
+    // ProjectService.createService 와 같은 방식 (카테고리 존재 확인 뒤 참조만)
+    private Long persistSnowflake(Session session) {
+        Project project = Project.create(session.getReference(Category.class, categoryId), request);
+        for (RewardRequestDTO rewardDto : request.getRewards()) {
+            Reward.of(rewardDto, project);
+        }
+        session.persist(project);
+        session.flush();
+        return project.getId();
+    }
+
+    private Long persistIdentity(Session session) {
+        IdentityProject project = new IdentityProject();
+        project.title = request.getTitle();
+        project.goalAmount = request.getGoalAmount();
+        for (RewardRequestDTO rewardDto : request.getRewards()) {
+            IdentityReward reward = new IdentityReward();
+            reward.project = project;
+            reward.title = rewardDto.getTitle();
+            reward.amount = rewardDto.getAmount();
+            project.rewards.add(reward);
+        }
+        session.persist(project);
+        session.flush();
+        return project.id;
+    }
+
+    // 실행한 SQL 문/배치/커밋 수를 세는 DataSource
+    private DataSource counting(DataSource target) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                forward(target, (result, method) -> result instanceof Connection c ? countingConnection(c) : result));
+    }
+
+    private Connection countingConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                forward(target, (result, method) -> {
+                    if ("commit".equals(method)) {
+                        statements.incrementAndGet();
+                    }
+                    if (result instanceof Statement statement) {
+                        return countingStatement(statement);
+                    }
+                    return result;
+                }));
+    }
+
+    private Statement countingStatement(Statement target) {
+        // PreparedStatement / CallableStatement 도 그대로 노출
+        Class<?> type = target instanceof CallableStatement ? CallableStatement.class
+                : target instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type},
+                forward(target, (result, method) -> {
+                    if (method.startsWith("execute")) {
+                        statements.incrementAndGet();
+                    }
+                    return result;
+                }));
+    }
+
+    private static InvocationHandler forward(Object target, AfterCall after) {
+        return (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return after.apply(result, method.getName());
+        };
+    }
+
+    private interface AfterCall {
+        Object apply(Object result, String method);
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? fallback : value;
+    }
+
+    // 비교용 IDENTITY 엔티티 (기존 Project/Reward 매핑과 같은 키 전략)
+    @Entity
+    @Table(name = "bench_identity_projects")
+    public static class IdentityProject {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        @Column(nullable = false, length = 100)
+        String title;
+
+        @Column(name = "goal_amount", nullable = false)
+        Integer goalAmount;
+
+        @OneToMany(mappedBy = "project", cascade = CascadeType.ALL)
+        List<IdentityReward> rewards = new ArrayList<>();
+    }
+
+    @Entity
+    @Table(name = "bench_identity_rewards")
+    public static class IdentityReward {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "project_id", nullable = false)
+        IdentityProject project;
+
+        @Column(nullable = false, length = 100)
+        String title;
+
+        @Column(nullable = false)
+        Integer amount;
+    }
+}
@@ -0,0 +1,40 @@
+package io.fundy.fundyserver.register.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// BCrypt 작업 비용(strength)별 encode / matches 지연 시간
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BCryptBenchmark {
+
+    private static final String RAW_PASSWORD = "benchPass1!";
+
+    @Param({"4", "8", "10", "12"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setup() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encoded = encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(RAW_PASSWORD, encoded);
+    }
+}
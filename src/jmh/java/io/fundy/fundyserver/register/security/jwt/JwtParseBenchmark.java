@@ -0,0 +1,58 @@
+package io.fundy.fundyserver.register.security.jwt;
+
+import io.fundy.fundyserver.register.entity.RoleType;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 인증된 요청 1건이 토큰 파싱에 쓰는 비용 비교
+// before : 필터(validateToken + getUserId) + 컨트롤러(getUserId) 에서 매번 파서 생성 후 HMAC 검증 (3회)
+// after  : 필터(parse) + 컨트롤러(getUserId) 가 재사용 파서 + 검증된 Claims 캐시 사용
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtParseBenchmark {
+
+    static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtTokenProvider provider;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setup() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret(SECRET);
+        props.setAccessTokenExpireMs(TimeUnit.HOURS.toMillis(1));
+        props.setRefreshTokenExpireMs(TimeUnit.DAYS.toMillis(14));
+        provider = new JwtTokenProvider(props);
+        provider.init();
+
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = provider.createAccessToken("benchuser", RoleType.USER);
+    }
+
+    @Benchmark
+    public void perRequestBefore(Blackhole bh) {
+        for (int i = 0; i < 3; i++) {
+            bh.consume(Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token));
+        }
+    }
+
+    @Benchmark
+    public void perRequestAfter(Blackhole bh) {
+        bh.consume(provider.parse(token));
+        bh.consume(provider.getUserId(token));
+    }
+}
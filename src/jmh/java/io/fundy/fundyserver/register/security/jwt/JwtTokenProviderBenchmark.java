@@ -0,0 +1,46 @@
+package io.fundy.fundyserver.register.security.jwt;
+
+import io.fundy.fundyserver.register.entity.RoleType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Access Token 발급 / 검증 비용
+// claimsCacheSize = 0 이면 매 검증마다 HMAC 을 다시 계산한다.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"0", "10000"})
+    public long claimsCacheSize;
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setup() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret(JwtParseBenchmark.SECRET);
+        props.setAccessTokenExpireMs(TimeUnit.HOURS.toMillis(1));
+        props.setRefreshTokenExpireMs(TimeUnit.DAYS.toMillis(14));
+        props.setClaimsCacheSize(claimsCacheSize);
+        provider = new JwtTokenProvider(props);
+        provider.init();
+
+        token = provider.createAccessToken("benchuser", RoleType.USER);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return provider.createAccessToken("benchuser", RoleType.USER);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+}
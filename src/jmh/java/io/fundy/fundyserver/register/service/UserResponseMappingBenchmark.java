@@ -0,0 +1,53 @@
+package io.fundy.fundyserver.register.service;
+
+import io.fundy.fundyserver.register.dto.UserResponseDTO;
+import io.fundy.fundyserver.register.entity.RoleType;
+import io.fundy.fundyserver.register.entity.User;
+import io.fundy.fundyserver.register.entity.UserStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// UserService.toResponse (Entity → DTO) 변환 비용
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserResponseMappingBenchmark {
+
+    private UserService userService;
+    private User user;
+
+    @Setup
+    public void setup() {
+        // toResponse 는 의존성을 사용하지 않는다.
+        userService = new UserService(null, null, null, null, null, null);
+        user = sampleUser();
+    }
+
+    @Benchmark
+    public UserResponseDTO toResponse() {
+        return userService.toResponse(user);
+    }
+
+    private static User sampleUser() {
+        LocalDateTime now = LocalDateTime.now();
+        return User.builder()
+                .id(1)
+                .userId("benchuser")
+                .email("bench@fundy.io")
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .nickname("벤치마크")
+                .phone("01012345678")
+                .address("서울시 강남구")
+                .accountNumber("1234567890")
+                .userStatus(UserStatus.LOGIN)
+                .roleType(RoleType.USER)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package io.fundy.fundyserver.admin.controller;
+
+import io.fundy.fundyserver.project.service.ProjectImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/admin/projects")
+@RequiredArgsConstructor
+public class AdminProjectImportController {
+
+    private final ProjectImportService projectImportService;
+
+    // 프로젝트 일괄 등록 (본문: NDJSON 한 줄당 프로젝트 JSON, 또는 헤더가 있는 CSV)
+    // 응답: 입력 레코드마다 {"line","status","projectId","errors"} 한 줄, 마지막 줄은 {"summary": true, ...}
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public void importProjects(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        projectImportService.importProjects(request.getInputStream(), request.getContentType(), response);
+    }
+}
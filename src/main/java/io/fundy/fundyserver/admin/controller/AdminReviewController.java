@@ -0,0 +1,33 @@
+package io.fundy.fundyserver.admin.controller;
+
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import io.fundy.fundyserver.review.service.ReviewStatsRepairJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin/reviews")
+@RequiredArgsConstructor
+public class AdminReviewController {
+
+    private final ReviewStatsRepairJob repairJob;
+
+    // 후기 만족도 집계 전체 재계산
+    @PostMapping("/stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> rebuildStats() {
+        int rebuilt = repairJob.repair();
+        if (rebuilt < 0) {
+            // 이미 재계산 중
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        }
+        return ResponseEntity.ok(Map.of("rebuiltProjects", rebuilt));
+    }
+}
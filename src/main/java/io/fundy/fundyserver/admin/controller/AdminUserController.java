@@ -1,10 +1,13 @@
 package io.fundy.fundyserver.admin.controller;
 
+import io.fundy.fundyserver.admin.dto.AdminUserPageDto;
 import io.fundy.fundyserver.admin.dto.AdminUserRequestDto;
+import io.fundy.fundyserver.admin.service.AdminUserService;
 import io.fundy.fundyserver.register.entity.UserStatus;
 import io.fundy.fundyserver.register.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -13,6 +16,16 @@ import org.springframework.web.bind.annotation.*;
 public class AdminUserController {
 
     private final UserService userService;
+    private final AdminUserService adminUserService;
+
+    // 회원 목록 (최근 가입 순, 응답의 nextCursor 를 다음 요청의 cursor 로 전달)
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AdminUserPageDto> getUsers(@RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "20") int size,
+                                                     @RequestParam(required = false) String nickname) {
+        return ResponseEntity.ok(adminUserService.getUsers(cursor, size, nickname));
+    }
 
     @PostMapping("/status")
     public ResponseEntity<Void> updateUserStatus(@RequestBody AdminUserRequestDto dto) {
@@ -0,0 +1,17 @@
+package io.fundy.fundyserver.admin.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminUserPageDto {
+
+    private List<AdminUserResponseDto> users; // 회원 목록 (가입일 역순)
+    private String nextCursor;                // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext;                  // 다음 페이지 존재 여부
+}
@@ -1,32 +1,105 @@
-//package io.fundy.fundyserver.admin.service;
-//
-//import io.fundy.fundyserver.admin.dto.AdminUserResponseDto;
-//import io.fundy.fundyserver.register.entity.User;
-//import io.fundy.fundyserver.register.repository.UserRepository;
-//import lombok.RequiredArgsConstructor;
-//import org.springframework.data.domain.Page;
-//import org.springframework.data.domain.PageRequest;
-//import org.springframework.data.domain.Pageable;
-//import org.springframework.data.domain.Sort;
-//import org.springframework.stereotype.Service;
-//
-//@Service
-//@RequiredArgsConstructor
-//public class AdminUserService {
-//
-//    private final UserRepository userRepository;
-//
-//    public Page<AdminUserResponseDto> getUsers(int page, String nickname) {
-//        Pageable pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-//
-//        Page<User> users;
-//
-//        if (nickname != null && !nickname.trim().isEmpty()) {
-//            users = userRepository.findByNicknameContainingIgnoreCase(nickname, pageable);
-//        } else {
-//            users = userRepository.findAll(pageable);
-//        }
-//
-//        return users.map(AdminUserResponseDto::fromEntity);
-//    }
-//}
+package io.fundy.fundyserver.admin.service;
+
+import io.fundy.fundyserver.admin.dto.AdminUserPageDto;
+import io.fundy.fundyserver.admin.dto.AdminUserResponseDto;
+import io.fundy.fundyserver.register.entity.User;
+import io.fundy.fundyserver.register.repository.UserRepository;
+import io.fundy.fundyserver.register.service.NicknameSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 관리자 회원 목록
+// OFFSET 페이지 + '%닉네임%' LIKE 는 뒤 페이지로 갈수록, 회원이 많을수록 users 전체를 훑게 되므로
+// 목록은 (createdAt, id) 키셋 커서로 읽고, 닉네임 검색은 NicknameSearchIndex 에서 id 만 찾은 뒤 PK 로 조회한다.
+@Service
+@RequiredArgsConstructor
+public class AdminUserService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final NicknameSearchIndex nicknameIndex;
+
+    @Transactional(readOnly = true)
+    public AdminUserPageDto getUsers(String cursor, int size, String nickname) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        LocalDateTime afterCreatedAt = null;
+        Integer afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decode(cursor);
+            afterCreatedAt = LocalDateTime.parse(parts[0]);
+            afterId = Integer.parseInt(parts[1]);
+        }
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+        List<User> rows;
+        if (nickname != null && !nickname.trim().isEmpty()) {
+            rows = findByIds(nicknameIndex.search(nickname, afterCreatedAt, afterId, pageSize + 1));
+        } else if (afterId == null) {
+            rows = userRepository.findFirstPage(PageRequest.of(0, pageSize + 1));
+        } else {
+            rows = userRepository.findPageAfter(afterCreatedAt, afterId, PageRequest.of(0, pageSize + 1));
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<User> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            User last = page.get(page.size() - 1);
+            nextCursor = encode(last.getCreatedAt(), last.getId());
+        }
+
+        return AdminUserPageDto.builder()
+                .users(page.stream().map(AdminUserResponseDto::fromEntity).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 인덱스가 돌려준 순서 그대로 PK 일괄 조회 (그 사이 삭제된 회원은 제외)
+    private List<User> findByIds(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, User> byId = userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<User> ordered = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            User user = byId.get(id);
+            if (user != null) {
+                ordered.add(user);
+            }
+        }
+        return ordered;
+    }
+
+    static String encode(LocalDateTime createdAt, Integer id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            LocalDateTime.parse(parts[0]);
+            Integer.parseInt(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.fundy.fundyserver.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Snowflake ID 노드 번호 임대 (인스턴스마다 서로 다른 node_id 를 쓰도록)
+// 시각은 모두 epoch millis 로 저장해 인스턴스/DB 시간대와 무관하게 비교한다.
+@Entity
+@Table(name = "id_node_leases")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdNodeLease {
+
+    @Id
+    @Column(name = "node_id")
+    private Integer nodeId;
+
+    // 임대한 인스턴스 (pid@host/임의값)
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    // 이 시각까지 owner 만 ID 를 발급할 수 있다 (반납 시 마지막 발급 시각으로 당김)
+    @Column(name = "lease_until", nullable = false)
+    private Long leaseUntil;
+}
@@ -0,0 +1,17 @@
+package io.fundy.fundyserver.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+// 엔티티 ID 를 INSERT 전에 Snowflake 방식으로 발급 (@GeneratedValue 대신 사용, 타입은 Long)
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,101 @@
+package io.fundy.fundyserver.common.id;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+// 시간순 64비트 ID 생성기 (노드 1개분)
+// [timestamp 41비트 | node 5비트 | sequence 7비트] = 53비트
+// JavaScript Number 로도 정확히 표현되도록(2^53 미만) 노드/순번 비트를 줄였다.
+// (노드 32개, 노드당 ms 당 128개 = 초당 128,000개)
+// 마지막으로 발급한 (timestamp, sequence) 를 AtomicLong 하나에 담아 CAS 로만 갱신하므로 잠금이 없다.
+public final class SnowflakeIdGenerator {
+
+    public static final int NODE_BITS = 5;
+    public static final int SEQUENCE_BITS = 7;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << 41) - 1;
+
+    private final long epochMillis;
+    private final int nodeId;
+    private final long maxBackwardMillis;
+    private final LongSupplier clock; // 현재 시각 (epoch millis)
+    // (epoch 기준 ms << SEQUENCE_BITS) | sequence
+    private final AtomicLong last;
+    // 이 시각(epoch millis)이 지나면 발급하지 않음 (노드 임대 만료)
+    private volatile long validUntil;
+
+    // floorMillis: 이 노드 번호로 이전에 발급됐을 수 있는 마지막 시각 (이보다 뒤 시각으로만 발급)
+    public SnowflakeIdGenerator(long epochMillis, int nodeId, long floorMillis, long maxBackwardMillis, long validUntil) {
+        this(epochMillis, nodeId, floorMillis, maxBackwardMillis, validUntil, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시계를 바꿔 끼울 때
+    SnowflakeIdGenerator(long epochMillis, int nodeId, long floorMillis, long maxBackwardMillis, long validUntil,
+                         LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID);
+        }
+        this.epochMillis = epochMillis;
+        this.nodeId = nodeId;
+        this.maxBackwardMillis = maxBackwardMillis;
+        this.clock = clock;
+        this.last = new AtomicLong((Math.max(floorMillis - epochMillis, 0) << SEQUENCE_BITS) | SEQUENCE_MASK);
+        this.validUntil = validUntil;
+    }
+
+    public long nextId() {
+        while (true) {
+            long now = clock.getAsLong();
+            if (now > validUntil) {
+                throw new IllegalStateException("Snowflake node " + nodeId + " lease is not valid");
+            }
+            long elapsed = now - epochMillis;
+            long prev = last.get();
+            // 같은 ms 면 순번 +1, 순번을 다 쓰면 다음 ms 로 넘어간다 (시계가 뒤로 가도 마지막 값 다음부터)
+            long next = Math.max(prev + 1, elapsed << SEQUENCE_BITS);
+            long ahead = (next >>> SEQUENCE_BITS) - elapsed;
+            if (ahead > 0) {
+                // 시계가 따라올 때까지 대기 (짧은 역행 / 순번 소진), 길게 역행하면 중복을 막기 위해 실패
+                if (ahead > maxBackwardMillis) {
+                    throw new IllegalStateException("Clock moved backwards by " + ahead + "ms on snowflake node " + nodeId);
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(ahead));
+                continue;
+            }
+            if (elapsed > MAX_TIMESTAMP) {
+                throw new IllegalStateException("Snowflake timestamp overflow");
+            }
+            if (last.compareAndSet(prev, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                        | ((long) nodeId << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    // 마지막으로 발급한 시각 (epoch millis)
+    public long lastIssuedAt() {
+        return (last.get() >>> SEQUENCE_BITS) + epochMillis;
+    }
+
+    void extendUntil(long validUntil) {
+        this.validUntil = validUntil;
+    }
+
+    // 발급 중단 (임대 반납/상실)
+    void stop() {
+        this.validUntil = Long.MIN_VALUE;
+    }
+
+    // ID 에 담긴 발급 시각 (epoch millis)
+    public static long timestampOf(long id, long epochMillis) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + epochMillis;
+    }
+}
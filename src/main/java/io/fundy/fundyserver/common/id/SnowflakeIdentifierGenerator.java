@@ -0,0 +1,23 @@
+package io.fundy.fundyserver.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+// @SnowflakeId 용 Hibernate 생성기
+// Hibernate 가 직접 만드는 객체라 스프링 빈 대신 SnowflakeIds 에 설치된 노드 생성기를 사용한다.
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return SnowflakeIds.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,171 @@
+package io.fundy.fundyserver.common.id;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Snowflake ID 발급 (인스턴스 = 노드)
+// 노드 번호는 id_node_leases 테이블에서 임대하며, 임대 기간(leaseTtl) 안에서만 ID 를 발급한다.
+// 갱신은 DB 에 먼저 기록한 뒤 메모리의 유효 기간을 늘리므로, 갱신하지 못한 인스턴스는
+// DB 에 기록된 lease_until 이 지나면 스스로 발급을 멈추고 그 뒤에야 다른 인스턴스가 같은 번호를 가져간다.
+// 새 임대자는 이전 lease_until 보다 뒤 시각으로만 발급하므로 같은 노드 번호로 ID 가 겹치지 않는다.
+// 갱신은 전용 데몬 스레드에서 하므로 다른 @Scheduled 작업이 공용 스케줄러를 오래 잡아도 밀리지 않는다.
+@Slf4j
+@Component
+@EnableConfigurationProperties(SnowflakeProperties.class)
+public class SnowflakeIds implements SmartInitializingSingleton {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO id_node_leases (node_id, owner, lease_until) VALUES (?, ?, ?)";
+    private static final String TAKE_OVER_SQL = "UPDATE id_node_leases SET owner = ?, lease_until = ? "
+            + "WHERE node_id = ? AND lease_until = ?";
+    private static final String RENEW_SQL = "UPDATE id_node_leases SET lease_until = ? WHERE node_id = ? AND owner = ?";
+
+    // Hibernate 생성기(SnowflakeIdentifierGenerator)가 사용하는 현재 노드 생성기
+    private static volatile SnowflakeIdGenerator installed;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeProperties props;
+    private final String owner;
+    private final ReentrantLock leaseLock = new ReentrantLock(); // 가상 스레드 고정을 피하려고 synchronized 대신 사용
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "snowflake-lease-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile SnowflakeIdGenerator generator;
+
+    public SnowflakeIds(JdbcTemplate jdbcTemplate, SnowflakeProperties props, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.props = props;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+        meterRegistry.gauge("id.snowflake.node", this, ids -> {
+            SnowflakeIdGenerator g = ids.generator;
+            return g != null ? g.getNodeId() : -1;
+        });
+    }
+
+    // 현재 노드에서 ID 발급 (임대 전/만료 후에는 IllegalStateException)
+    public static long next() {
+        SnowflakeIdGenerator g = installed;
+        if (g == null) {
+            throw new IllegalStateException("Snowflake node id is not leased");
+        }
+        return g.nextId();
+    }
+
+    // 스프링 밖(벤치마크 등)에서 생성기를 직접 지정할 때
+    public static void install(SnowflakeIdGenerator generator) {
+        installed = generator;
+    }
+
+    public long nextId() {
+        return next();
+    }
+
+    // 스키마 생성(ddl-auto) 이후, 요청을 받기 전에 노드 번호 임대하고 갱신 시작
+    @Override
+    public void afterSingletonsInstantiated() {
+        renew();
+        long interval = props.getRenewInterval().toMillis();
+        renewer.scheduleWithFixedDelay(() -> {
+            try {
+                renew();
+            } catch (RuntimeException e) {
+                // 예외가 빠져나가면 이후 실행이 취소되므로 여기서 막는다
+                log.error("Snowflake node lease renewal failed", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // 임대 갱신, 임대가 없거나 잃었으면 새로 임대
+    public void renew() {
+        leaseLock.lock();
+        try {
+            SnowflakeIdGenerator g = generator;
+            if (g != null) {
+                long until = System.currentTimeMillis() + props.getLeaseTtl().toMillis();
+                if (jdbcTemplate.update(RENEW_SQL, until, g.getNodeId(), owner) == 1) {
+                    g.extendUntil(until);
+                    return;
+                }
+                log.warn("Snowflake node {} lease was lost, acquiring a new node id", g.getNodeId());
+                g.stop();
+                generator = null;
+            }
+            acquire();
+        } catch (DataAccessException e) {
+            // 임대 기간이 남아 있으면 계속 발급, 다음 주기에 다시 시도
+            log.warn("Snowflake node lease renewal failed: {}", e.getMessage());
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    // 비어 있거나 만료된 노드 번호 중 하나를 임대 (임의 위치부터 찾아 인스턴스끼리 경합을 줄임)
+    private void acquire() {
+        int nodes = SnowflakeIdGenerator.MAX_NODE_ID + 1;
+        int start = ThreadLocalRandom.current().nextInt(nodes);
+        for (int i = 0; i < nodes; i++) {
+            int nodeId = (start + i) % nodes;
+            long now = System.currentTimeMillis();
+            long until = now + props.getLeaseTtl().toMillis();
+            if (jdbcTemplate.update(INSERT_SQL, nodeId, owner, until) == 1) {
+                start(nodeId, 0, until);
+                return;
+            }
+            List<Long> leaseUntil = jdbcTemplate.queryForList(
+                    "SELECT lease_until FROM id_node_leases WHERE node_id = ?", Long.class, nodeId);
+            if (leaseUntil.isEmpty() || leaseUntil.get(0) >= now) {
+                continue;
+            }
+            // 조회한 lease_until 그대로일 때만 가져감 (다른 인스턴스와 동시에 가져가지 않도록)
+            if (jdbcTemplate.update(TAKE_OVER_SQL, owner, until, nodeId, leaseUntil.get(0)) == 1) {
+                start(nodeId, leaseUntil.get(0), until);
+                return;
+            }
+        }
+        log.error("No free snowflake node id (all {} are leased), entity inserts will fail until one is released", nodes);
+    }
+
+    private void start(int nodeId, long floorMillis, long until) {
+        SnowflakeIdGenerator g = new SnowflakeIdGenerator(props.getEpoch().toEpochMilli(), nodeId, floorMillis,
+                props.getMaxBackwardWait().toMillis(), until);
+        generator = g;
+        installed = g;
+        log.info("Leased snowflake node id {}", nodeId);
+    }
+
+    // 종료 시 반납 (lease_until 을 마지막 발급 시각으로 당겨 다른 인스턴스가 바로 쓸 수 있게)
+    @PreDestroy
+    public void release() {
+        renewer.shutdownNow();
+        leaseLock.lock();
+        try {
+            SnowflakeIdGenerator g = generator;
+            if (g == null) {
+                return;
+            }
+            g.stop();
+            generator = null;
+            jdbcTemplate.update(RENEW_SQL, Math.max(g.lastIssuedAt(), System.currentTimeMillis()), g.getNodeId(), owner);
+        } catch (DataAccessException e) {
+            log.warn("Snowflake node lease could not be released: {}", e.getMessage());
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+}
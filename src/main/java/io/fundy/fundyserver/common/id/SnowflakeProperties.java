@@ -0,0 +1,22 @@
+package io.fundy.fundyserver.common.id;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "id.snowflake")
+public class SnowflakeProperties {
+    // ID 시각 기준점 (바꾸면 기존 ID 와 순서/중복이 깨지므로 운영 중 변경 금지)
+    private Instant epoch = Instant.parse("2025-01-01T00:00:00Z");
+    // 노드 번호 임대 기간 (갱신하지 못하면 이 시간 뒤 발급 중단, 다른 인스턴스가 가져갈 수 있음)
+    private Duration leaseTtl = Duration.ofSeconds(60);
+    // 임대 갱신 주기
+    private Duration renewInterval = Duration.ofSeconds(15);
+    // 시계가 뒤로 가거나 ms 당 순번을 다 쓴 경우 기다리는 최대 시간 (넘으면 발급 실패)
+    private Duration maxBackwardWait = Duration.ofSeconds(2);
+}
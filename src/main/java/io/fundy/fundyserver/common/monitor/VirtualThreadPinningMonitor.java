@@ -0,0 +1,97 @@
+package io.fundy.fundyserver.common.monitor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 가상 스레드 캐리어 고정(pinning) 진단
+// JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 받아
+// 발생 위치별 카운터/타이머를 남기고, 위치별로 처음 한 번만 스택을 로그로 출력한다.
+// (synchronized 블록 안에서 JDBC I/O 를 기다리는 경우 등)
+@Slf4j
+@Component
+@Profile("virtual")
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final VirtualThreadProperties props;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void start() {
+        if (Runtime.version().feature() < 21) {
+            log.warn("virtual profile is active but JVM {} has no virtual threads; run with -PjavaVersion=21",
+                    Runtime.version());
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(props.getPinnedThreshold())
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", props.getPinnedThreshold().toMillis());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                ? event.getStackTrace().getFrames()
+                : List.of();
+        String site = pinnedSite(frames);
+
+        meterRegistry.counter("jvm.threads.virtual.pinned", "site", site).increment();
+        meterRegistry.timer("jvm.threads.virtual.pinned.duration", "site", site)
+                .record(event.getDuration().toNanos(), TimeUnit.NANOSECONDS);
+
+        if (reportedSites.add(site)) {
+            String stack = frames.stream()
+                    .limit(props.getStackDepth())
+                    .map(f -> "\tat " + frameName(f))
+                    .collect(Collectors.joining("\n"));
+            log.warn("Virtual thread pinned for {} ms at {}\n{}", event.getDuration().toMillis(), site, stack);
+        }
+    }
+
+    // JDK 내부 프레임(park, 락 구현 등)을 건너뛴 첫 번째 호출 위치
+    private static String pinnedSite(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(f -> {
+                    String type = f.getMethod().getType().getName();
+                    return !type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.");
+                })
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::frameName)
+                .orElse("unknown");
+    }
+
+    private static String frameName(RecordedFrame f) {
+        return f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
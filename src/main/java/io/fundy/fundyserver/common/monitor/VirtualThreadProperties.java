@@ -0,0 +1,17 @@
+package io.fundy.fundyserver.common.monitor;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "virtual-threads")
+public class VirtualThreadProperties {
+    // 이 시간 이상 캐리어 스레드가 고정(pinning)되면 기록
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+    // 로그에 남길 스택 프레임 수
+    private int stackDepth = 12;
+}
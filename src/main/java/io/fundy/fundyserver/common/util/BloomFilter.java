@@ -0,0 +1,85 @@
+package io.fundy.fundyserver.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 스레드 안전한 문자열 Bloom filter
+// mightContain 이 false 면 확실히 없는 값, true 면 fpp 확률로 오탐일 수 있다.
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("expectedInsertions > 0, 0 < fpp < 1");
+        }
+        // m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 처음 추가된 값이면 true (mightContain + put)
+    public boolean putIfAbsent(String value) {
+        boolean absent = !mightContain(value);
+        put(value);
+        return absent;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long prev;
+        do {
+            prev = bits.get(word);
+            if ((prev & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, prev, prev | mask));
+    }
+
+    // FNV-1a 64bit + 비트 혼합(splitmix64 finalizer)
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
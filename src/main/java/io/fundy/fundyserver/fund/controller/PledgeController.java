@@ -0,0 +1,57 @@
+package io.fundy.fundyserver.fund.controller;
+
+import io.fundy.fundyserver.fund.dto.PledgeCancelRequestDTO;
+import io.fundy.fundyserver.fund.dto.PledgeRequestDTO;
+import io.fundy.fundyserver.fund.dto.PledgeResponseDTO;
+import io.fundy.fundyserver.fund.service.PledgeService;
+import io.fundy.fundyserver.register.entity.RoleType;
+import io.fundy.fundyserver.register.security.CustomUserDetails;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/pledge")
+@RequiredArgsConstructor
+public class PledgeController {
+
+    private final PledgeService pledgeService;
+
+    // 후원 신청
+    @PostMapping
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<PledgeResponseDTO> pledge(@AuthenticationPrincipal CustomUserDetails principal,
+                                                    @Valid @RequestBody PledgeRequestDTO req) {
+        PledgeResponseDTO res = pledgeService.pledge(principal.getUsername(), req);
+        return ResponseEntity.status(HttpStatus.CREATED).body(res);
+    }
+
+    // 후원 조회 (본인 또는 관리자)
+    @GetMapping("/{pledgeId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<PledgeResponseDTO> getPledge(@AuthenticationPrincipal CustomUserDetails principal,
+                                                       @PathVariable Long pledgeId) {
+        boolean admin = principal.getUser().getRoleType() == RoleType.ADMIN;
+        return ResponseEntity.ok(pledgeService.getPledge(pledgeId, principal.getUsername(), admin));
+    }
+
+    // 후원 취소
+    @PatchMapping("/{pledgeId}/cancel")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<PledgeResponseDTO> cancel(@AuthenticationPrincipal CustomUserDetails principal,
+                                                    @PathVariable Long pledgeId,
+                                                    @Valid @RequestBody PledgeCancelRequestDTO req) {
+        return ResponseEntity.ok(pledgeService.cancel(pledgeId, principal.getUsername(), req.getReason()));
+    }
+
+    // 결제 확정 (관리자)
+    @PatchMapping("/{pledgeId}/confirm")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PledgeResponseDTO> confirm(@PathVariable Long pledgeId) {
+        return ResponseEntity.ok(pledgeService.confirm(pledgeId));
+    }
+}
@@ -0,0 +1,16 @@
+package io.fundy.fundyserver.fund.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+
+// 후원 취소 요청 DTO
+public class PledgeCancelRequestDTO {
+    @Size(max = 255, message = "※ 취소 사유는 최대 255자까지 입력 가능합니다.")
+    private String reason;
+}
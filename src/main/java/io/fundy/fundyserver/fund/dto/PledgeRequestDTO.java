@@ -0,0 +1,23 @@
+package io.fundy.fundyserver.fund.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+
+// 후원 요청 DTO
+public class PledgeRequestDTO {
+    @NotNull(message = "프로젝트를 선택하세요.")
+    private Long projectId;
+
+    private Long rewardId;
+
+    @NotNull(message = "후원 금액을 입력하세요.")
+    @Positive(message = "후원 금액은 0보다 커야 합니다.")
+    private Integer amount;
+}
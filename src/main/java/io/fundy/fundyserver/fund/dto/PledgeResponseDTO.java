@@ -0,0 +1,38 @@
+package io.fundy.fundyserver.fund.dto;
+
+import io.fundy.fundyserver.fund.entity.PledgeLedgerEntry;
+import io.fundy.fundyserver.fund.entity.PledgeStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+
+// 후원 응답 DTO
+public class PledgeResponseDTO {
+    private Long pledgeId;
+    private String userId;
+    private Long projectId;
+    private Long rewardId;
+    private Integer amount;
+    private PledgeStatus status;
+    private String cancelReason;
+    private LocalDateTime updatedAt;   // 마지막 상태 변경 시각
+
+    public static PledgeResponseDTO fromEntry(PledgeLedgerEntry e) {
+        return PledgeResponseDTO.builder()
+                .pledgeId(e.getPledgeId())
+                .userId(e.getUserId())
+                .projectId(e.getProjectId())
+                .rewardId(e.getRewardId())
+                .amount(e.getAmount())
+                .status(e.getStatus())
+                .cancelReason(e.getCancelReason())
+                .updatedAt(e.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package io.fundy.fundyserver.fund.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+// 프로젝트 현재 금액에 아직 반영하지 않은 원장 변화량
+// 원장 행과 같은 트랜잭션에서 기록하고(amount_delta 가 0 이 아닌 행만),
+// PledgeAmountProjector 가 반영한 행을 같은 트랜잭션에서 지운다.
+@Entity
+@Immutable
+@Table(name = "pledge_amount_outbox",
+        indexes = @Index(name = "idx_pledge_amount_outbox_project", columnList = "project_id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PledgeAmountOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "pledge_id", nullable = false)
+    private Long pledgeId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "amount_delta", nullable = false)
+    private Integer amountDelta;
+}
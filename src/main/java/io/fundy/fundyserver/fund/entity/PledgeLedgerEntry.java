@@ -0,0 +1,71 @@
+package io.fundy.fundyserver.fund.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// 후원 원장 (append-only)
+// 후원 1건의 상태가 바뀔 때마다 행을 추가하고, 기존 행은 수정/삭제하지 않는다.
+// 후원의 현재 상태는 pledge_id 별 마지막 행이다.
+// (pledge_id, status) 유니크 제약으로 같은 상태 전이가 두 번 기록되지 않도록 하고,
+// 상태 전이 행은 직전 행의 entry_id 를 supersedes_entry_id 에 담아(유니크) 같은 행에서 갈라지는
+// 전이(확정과 취소가 동시에, 취소 두 번 등)는 하나만 기록되게 한다.
+@Entity
+@Immutable
+@Table(name = "pledge_ledger",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_pledge_ledger_pledge_status", columnNames = {"pledge_id", "status"}),
+                @UniqueConstraint(name = "uk_pledge_ledger_supersedes", columnNames = "supersedes_entry_id")
+        },
+        indexes = {
+                @Index(name = "idx_pledge_ledger_project", columnList = "project_id"),
+                @Index(name = "idx_pledge_ledger_status_created", columnList = "status, created_at") // 미결제 만료 조회용
+        })
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class PledgeLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "entry_id")
+    private Long entryId;
+
+    // 이 행이 대체하는 직전 행 (첫 행은 null)
+    @Column(name = "supersedes_entry_id")
+    private Long supersedesEntryId;
+
+    // 후원 ID (상태가 바뀌어도 동일)
+    @Column(name = "pledge_id", nullable = false)
+    private Long pledgeId;
+
+    @Column(name = "user_id", length = 50, nullable = false)
+    private String userId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "reward_id")
+    private Long rewardId;
+
+    // 후원 금액
+    @Column(nullable = false)
+    private Integer amount;
+
+    // 이 행이 프로젝트 현재 금액에 더하는 값 (확정 +amount, 확정 후 취소 -amount, 그 외 0)
+    @Column(name = "amount_delta", nullable = false)
+    private Integer amountDelta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private PledgeStatus status;
+
+    @Column(name = "cancel_reason", length = 255)
+    private String cancelReason;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,11 @@
+package io.fundy.fundyserver.fund.entity;
+
+// 후원 상태
+// PENDING   : 결제 대기
+// CONFIRMED : 결제 확정 (프로젝트 현재 금액에 반영)
+// CANCELLED : 취소
+public enum PledgeStatus {
+    PENDING,
+    CONFIRMED,
+    CANCELLED
+}
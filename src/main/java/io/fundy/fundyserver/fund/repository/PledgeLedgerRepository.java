@@ -0,0 +1,23 @@
+package io.fundy.fundyserver.fund.repository;
+
+import io.fundy.fundyserver.fund.entity.PledgeLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// 후원 원장 조회 레포지토리 (쓰기는 PledgeLedgerWriter 의 JDBC 배치로만 수행)
+public interface PledgeLedgerRepository extends JpaRepository<PledgeLedgerEntry, Long> {
+
+    // 후원의 현재 상태 (마지막 행)
+    Optional<PledgeLedgerEntry> findFirstByPledgeIdOrderByEntryIdDesc(Long pledgeId);
+
+    // before 이전에 신청하고 아직 PENDING 인 후원 (마지막 행이 PENDING 인 것)
+    @Query(value = "SELECT l.* FROM pledge_ledger l WHERE l.status = 'PENDING' AND l.created_at < :before "
+            + "AND NOT EXISTS (SELECT 1 FROM pledge_ledger n WHERE n.pledge_id = l.pledge_id AND n.entry_id > l.entry_id) "
+            + "ORDER BY l.created_at LIMIT :limit", nativeQuery = true)
+    List<PledgeLedgerEntry> findExpiredPending(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
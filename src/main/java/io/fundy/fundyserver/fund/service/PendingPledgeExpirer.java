@@ -0,0 +1,52 @@
+package io.fundy.fundyserver.fund.service;
+
+import io.fundy.fundyserver.fund.entity.PledgeLedgerEntry;
+import io.fundy.fundyserver.fund.repository.PledgeLedgerRepository;
+import io.fundy.fundyserver.register.exception.ApiException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 결제 확정 없이 pendingTtl 이 지난 후원 취소 + 리워드 재고 복귀
+// 인스턴스가 여러 개여도 같은 후원의 취소는 원장 유니크 제약으로 한 번만 기록된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingPledgeExpirer {
+
+    private final PledgeLedgerRepository ledgerRepository;
+    private final PledgeService pledgeService;
+    private final PledgeLedgerProperties props;
+
+    @Scheduled(fixedDelayString = "${fund.ledger.expire-interval:1m}",
+            initialDelayString = "${fund.ledger.expire-interval:1m}")
+    public void expire() {
+        List<PledgeLedgerEntry> expired;
+        try {
+            expired = ledgerRepository.findExpiredPending(LocalDateTime.now().minus(props.getPendingTtl()),
+                    props.getExpireBatchSize());
+        } catch (DataAccessException e) {
+            log.warn("Pending pledge lookup failed: {}", e.getMessage());
+            return;
+        }
+        int cancelled = 0;
+        for (PledgeLedgerEntry pending : expired) {
+            try {
+                pledgeService.expire(pending);
+                cancelled++;
+            } catch (ApiException e) {
+                log.debug("Pledge {} was not expired: {}", pending.getPledgeId(), e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("Failed to expire pledge {}: {}", pending.getPledgeId(), e.getMessage());
+            }
+        }
+        if (cancelled > 0) {
+            log.info("Cancelled {} expired pending pledges", cancelled);
+        }
+    }
+}
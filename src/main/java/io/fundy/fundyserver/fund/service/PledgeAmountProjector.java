@@ -0,0 +1,107 @@
+package io.fundy.fundyserver.fund.service;
+
+import io.fundy.fundyserver.notification.entity.NotificationType;
+import io.fundy.fundyserver.notification.service.NotificationPublisher;
+import io.fundy.fundyserver.project.event.ProjectChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+// 원장 → projects.current_amount 비동기 반영
+// 원장과 같은 트랜잭션에서 기록된 pledge_amount_outbox 행을 id 순으로 잡아(FOR UPDATE SKIP LOCKED)
+// 프로젝트별로 합산해 배치 UPDATE 하고, 같은 트랜잭션에서 그 행들을 지우므로 각 변화량은 정확히 한 번 반영된다.
+// 커밋된 행만 보이므로 늦게 커밋된 낮은 id 도 다음 주기에 반영되고,
+// 이미 잡힌 행은 건너뛰므로 여러 인스턴스가 동시에 돌아도 겹치지 않는다.
+// projects 행은 id 순으로 갱신해 인스턴스 간 잠금 순서를 맞춘다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PledgeAmountProjector {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final PledgeLedgerProperties props;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationPublisher notificationPublisher;
+
+    @Scheduled(fixedDelayString = "${fund.ledger.projection-interval:2s}")
+    public void project() {
+        try {
+            Integer applied = new TransactionTemplate(transactionManager).execute(status -> applyNextChunk());
+            if (applied != null && applied > 0) {
+                log.debug("Applied pledge ledger deltas to {} projects", applied);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Pledge amount projection failed: {}", e.getMessage());
+        }
+    }
+
+    private int applyNextChunk() {
+        List<long[]> rows = jdbcTemplate.query(
+                "SELECT id, project_id, amount_delta FROM pledge_amount_outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+                (rs, i) -> new long[]{rs.getLong("id"), rs.getLong("project_id"), rs.getLong("amount_delta")},
+                props.getProjectionChunkSize());
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> sums = new TreeMap<>();
+        for (long[] row : rows) {
+            sums.merge(row[1], row[2], Long::sum);
+        }
+        List<Object[]> deltas = new ArrayList<>(sums.size());
+        sums.forEach((projectId, delta) -> {
+            if (delta != 0) {
+                deltas.add(new Object[]{delta, projectId});
+            }
+        });
+        if (!deltas.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE projects SET current_amount = current_amount + ? WHERE id = ?", deltas);
+            publishGoalReached(deltas);
+        }
+        String placeholders = String.join(",", Collections.nCopies(rows.size(), "?"));
+        jdbcTemplate.update("DELETE FROM pledge_amount_outbox WHERE id IN (" + placeholders + ")",
+                rows.stream().map(row -> row[0]).toArray());
+
+        // 목록 등 읽기 모델 갱신
+        deltas.forEach(row -> eventPublisher.publishEvent(new ProjectChangedEvent((Long) row[1], ProjectChangedEvent.Change.AMOUNT)));
+        return deltas.size();
+    }
+
+    // 이번 반영으로 목표 금액을 넘긴 프로젝트의 후원자 알림 발행
+    // 같은 트랜잭션에서 알림 outbox 에 기록하므로 금액 반영과 함께 정확히 한 번 발행된다.
+    private void publishGoalReached(List<Object[]> deltas) {
+        Map<Long, Long> increased = new HashMap<>();
+        for (Object[] row : deltas) {
+            if ((Long) row[0] > 0) {
+                increased.put((Long) row[1], (Long) row[0]);
+            }
+        }
+        if (increased.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(increased.size(), "?"));
+        List<Object[]> reached = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, title, goal_amount, current_amount FROM projects WHERE id IN (" + placeholders + ")",
+                rs -> {
+                    long projectId = rs.getLong("id");
+                    long goal = rs.getLong("goal_amount");
+                    long current = rs.getLong("current_amount");
+                    if (goal > 0 && current >= goal && current - increased.get(projectId) < goal) {
+                        reached.add(new Object[]{projectId, rs.getString("title")});
+                    }
+                }, increased.keySet().toArray());
+        for (Object[] project : reached) {
+            notificationPublisher.publishToBackers((Long) project[0], NotificationType.GOAL_REACHED,
+                    "'" + project[1] + "' 프로젝트가 목표 금액을 달성했습니다.");
+        }
+    }
+}
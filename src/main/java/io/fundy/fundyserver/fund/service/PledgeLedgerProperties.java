@@ -0,0 +1,28 @@
+package io.fundy.fundyserver.fund.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fund.ledger")
+public class PledgeLedgerProperties {
+    // 한 번에 INSERT 하는 최대 행 수
+    private int batchSize = 200;
+    // 첫 요청 이후 배치를 모으며 기다리는 최대 시간
+    private Duration maxBatchDelay = Duration.ofMillis(5);
+    // 쓰기 대기열 크기 (가득 차면 503)
+    private int queueCapacity = 10_000;
+    // 기록 완료를 기다리는 최대 시간 (넘으면 503, 기록은 뒤늦게 될 수 있다)
+    private Duration appendTimeout = Duration.ofSeconds(5);
+    // 프로젝트 현재 금액 반영 주기 / 1회 처리 행 수
+    private Duration projectionInterval = Duration.ofSeconds(2);
+    private int projectionChunkSize = 1_000;
+    // 결제 확정 전 후원 유지 시간 (지나면 취소하고 리워드 재고를 돌려놓는다) / 확인 주기 / 1회 처리 건수
+    private Duration pendingTtl = Duration.ofMinutes(10);
+    private Duration expireInterval = Duration.ofMinutes(1);
+    private int expireBatchSize = 500;
+}
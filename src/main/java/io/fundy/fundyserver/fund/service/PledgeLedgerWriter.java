@@ -0,0 +1,187 @@
+package io.fundy.fundyserver.fund.service;
+
+import io.fundy.fundyserver.fund.entity.PledgeLedgerEntry;
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// 후원 원장 group commit 기록기
+// 요청 스레드마다 INSERT + COMMIT 하지 않고, 단일 기록 스레드가 maxBatchDelay 또는 batchSize 만큼 모아서
+// 한 트랜잭션의 JDBC 배치 INSERT 로 기록한 뒤 대기 중인 요청들을 한꺼번에 완료시킨다.
+// 금액이 바뀌는 행은 같은 트랜잭션에서 pledge_amount_outbox 에도 기록한다 (PledgeAmountProjector 가 반영).
+@Slf4j
+@Component
+@EnableConfigurationProperties(PledgeLedgerProperties.class)
+public class PledgeLedgerWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO pledge_ledger "
+            + "(supersedes_entry_id, pledge_id, user_id, project_id, reward_id, amount, amount_delta, status, cancel_reason, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String OUTBOX_SQL = "INSERT INTO pledge_amount_outbox (pledge_id, project_id, amount_delta) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PledgeLedgerProperties props;
+    private final BlockingQueue<PendingAppend> queue;
+    private final DistributionSummary batchSizeSummary;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    public PledgeLedgerWriter(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              PledgeLedgerProperties props,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.props = props;
+        this.queue = new ArrayBlockingQueue<>(props.getQueueCapacity());
+        this.batchSizeSummary = DistributionSummary.builder("pledge.ledger.batch.size")
+                .description("group commit 1회당 기록한 원장 행 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("pledge.ledger.queue.depth", queue, BlockingQueue::size);
+        this.writerThread = new Thread(this::runLoop, "pledge-ledger-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread.start();
+    }
+
+    // 원장 행 기록 요청 (커밋되면 완료되는 future 반환)
+    public CompletableFuture<Void> append(PledgeLedgerEntry entry) {
+        PendingAppend pending = new PendingAppend(entry, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        }
+        return pending.future;
+    }
+
+    private void runLoop() {
+        List<PendingAppend> batch = new ArrayList<>(props.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingAppend first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + props.getMaxBatchDelay().toNanos();
+                while (batch.size() < props.getBatchSize()) {
+                    queue.drainTo(batch, props.getBatchSize() - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= props.getBatchSize() || remaining <= 0) {
+                        break;
+                    }
+                    PendingAppend next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (!running) {
+                    break;
+                }
+            } catch (RuntimeException e) {
+                log.error("Pledge ledger writer failed", e);
+                batch.forEach(p -> p.future.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingAppend> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+            batch.forEach(p -> p.future.complete(null));
+            batchSizeSummary.record(batch.size());
+        } catch (DuplicateKeyException e) {
+            // 중복/경합한 상태 전이가 섞여 있으면 한 행씩 다시 기록해서 해당 요청만 실패 처리
+            for (PendingAppend p : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(p)));
+                    p.future.complete(null);
+                } catch (DuplicateKeyException dup) {
+                    p.future.completeExceptionally(new ApiException(ErrorCode.PLEDGE_INVALID_STATE));
+                } catch (DataAccessException ex) {
+                    p.future.completeExceptionally(ex);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to write {} pledge ledger entries", batch.size(), e);
+            batch.forEach(p -> p.future.completeExceptionally(e));
+        }
+    }
+
+    private void insert(List<PendingAppend> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (PreparedStatement ps, PendingAppend p) -> bind(ps, p.entry));
+        List<PledgeLedgerEntry> changed = batch.stream()
+                .map(PendingAppend::entry)
+                .filter(e -> e.getAmountDelta() != 0)
+                .toList();
+        if (!changed.isEmpty()) {
+            jdbcTemplate.batchUpdate(OUTBOX_SQL, changed, changed.size(), (PreparedStatement ps, PledgeLedgerEntry e) -> {
+                ps.setLong(1, e.getPledgeId());
+                ps.setLong(2, e.getProjectId());
+                ps.setInt(3, e.getAmountDelta());
+            });
+        }
+    }
+
+    private static void bind(PreparedStatement ps, PledgeLedgerEntry e) throws SQLException {
+        setNullableLong(ps, 1, e.getSupersedesEntryId());
+        ps.setLong(2, e.getPledgeId());
+        ps.setString(3, e.getUserId());
+        ps.setLong(4, e.getProjectId());
+        setNullableLong(ps, 5, e.getRewardId());
+        ps.setInt(6, e.getAmount());
+        ps.setInt(7, e.getAmountDelta());
+        ps.setString(8, e.getStatus().name());
+        ps.setString(9, e.getCancelReason());
+        ps.setTimestamp(10, Timestamp.valueOf(e.getCreatedAt()));
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    // 종료 시 대기열에 남은 요청까지 기록 후 정지
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private record PendingAppend(PledgeLedgerEntry entry, CompletableFuture<Void> future) {
+    }
+}
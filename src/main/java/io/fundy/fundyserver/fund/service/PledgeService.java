@@ -0,0 +1,196 @@
+package io.fundy.fundyserver.fund.service;
+
+import io.fundy.fundyserver.common.id.SnowflakeIds;
+import io.fundy.fundyserver.fund.dto.PledgeRequestDTO;
+import io.fundy.fundyserver.fund.dto.PledgeResponseDTO;
+import io.fundy.fundyserver.fund.entity.PledgeLedgerEntry;
+import io.fundy.fundyserver.fund.entity.PledgeStatus;
+import io.fundy.fundyserver.fund.repository.PledgeLedgerRepository;
+import io.fundy.fundyserver.project.entity.Project;
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import io.fundy.fundyserver.project.entity.Reward;
+import io.fundy.fundyserver.project.repository.ProjectRepository;
+import io.fundy.fundyserver.project.repository.RewardRepository;
+import io.fundy.fundyserver.project.service.ProjectDeadlineProperties;
+import io.fundy.fundyserver.project.service.RewardStockEngine;
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 후원 서비스
+// 모든 변경은 원장(pledge_ledger)에 행을 추가하는 것으로만 표현하며,
+// 프로젝트 현재 금액은 PledgeAmountProjector 가 비동기로 반영한다.
+// 상태 전이 행은 직전 행을 supersedes_entry_id 로 가리키므로, 같은 상태에서 동시에 들어온 전이는
+// 하나만 기록되고 나머지는 PLEDGE_INVALID_STATE 가 된다.
+// 리워드 재고는 신청 시 차감하고 취소/만료 시 돌려놓는다 (RewardStockEngine).
+@Service
+@RequiredArgsConstructor
+public class PledgeService {
+
+    static final String EXPIRED_REASON = "결제 시간이 초과되었습니다.";
+
+    private final PledgeLedgerRepository ledgerRepository;
+    private final PledgeLedgerWriter ledgerWriter;
+    private final SnowflakeIds snowflakeIds; // 후원 ID 채번 (인스턴스가 여러 개여도 겹치지 않음)
+    private final ProjectRepository projectRepository;
+    private final RewardRepository rewardRepository;
+    private final RewardStockEngine stockEngine;
+    private final PledgeLedgerProperties props;
+    private final ProjectDeadlineProperties deadlineProps; // 마감일 판정 시간대 (마감 처리와 같게)
+
+    // 후원 신청
+    public PledgeResponseDTO pledge(String userId, PledgeRequestDTO req) {
+        Project project = projectRepository.findById(req.getProjectId())
+                .orElseThrow(() -> new ApiException(ErrorCode.PROJECT_NOT_FOUND));
+        if (!isOpen(project)) {
+            throw new ApiException(ErrorCode.PROJECT_CLOSED);
+        }
+        if (req.getRewardId() != null) {
+            Reward reward = rewardRepository.findByIdAndProject_Id(req.getRewardId(), req.getProjectId())
+                    .orElseThrow(() -> new ApiException(ErrorCode.REWARD_NOT_FOUND));
+            if (req.getAmount() < reward.getAmount()) {
+                throw new IllegalArgumentException("후원 금액은 리워드 금액(" + reward.getAmount() + "원) 이상이어야 합니다.");
+            }
+            stockEngine.reserve(reward.getId(), 1);
+        }
+
+        PledgeLedgerEntry entry = PledgeLedgerEntry.builder()
+                .pledgeId(snowflakeIds.nextId())
+                .userId(userId)
+                .projectId(req.getProjectId())
+                .rewardId(req.getRewardId())
+                .amount(req.getAmount())
+                .amountDelta(0)
+                .status(PledgeStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build();
+        // 기록에 실패하면 차감한 재고를 돌려놓는다 (시간 초과는 뒤늦게 기록될 수 있으므로 만료 처리에 맡긴다)
+        append(entry, () -> releaseStock(entry));
+        return PledgeResponseDTO.fromEntry(entry);
+    }
+
+    // 진행 중이고 마감일이 지나지 않은 프로젝트만 후원 가능
+    // (마감일이 지났으면 ProjectDeadlineScheduler 가 아직 종료하지 않았어도 받지 않는다)
+    private boolean isOpen(Project project) {
+        return project.getProductStatus() == ProjectStatus.IN_PROGRESS
+                && project.getDeadline() != null
+                && !project.getDeadline().isBefore(LocalDate.now(deadlineProps.getZone()));
+    }
+
+    // 결제 확정
+    public PledgeResponseDTO confirm(Long pledgeId) {
+        PledgeLedgerEntry current = getCurrent(pledgeId);
+        if (current.getStatus() != PledgeStatus.PENDING) {
+            throw new ApiException(ErrorCode.PLEDGE_INVALID_STATE);
+        }
+        PledgeLedgerEntry entry = next(current)
+                .amountDelta(current.getAmount())
+                .status(PledgeStatus.CONFIRMED)
+                .build();
+        append(entry, null);
+        return PledgeResponseDTO.fromEntry(entry);
+    }
+
+    // 후원 취소 (본인만 가능, 확정된 후원이면 현재 금액에서 차감)
+    public PledgeResponseDTO cancel(Long pledgeId, String userId, String reason) {
+        PledgeLedgerEntry current = getCurrent(pledgeId);
+        if (!current.getUserId().equals(userId)) {
+            throw new ApiException(ErrorCode.PLEDGE_NOT_FOUND);
+        }
+        return PledgeResponseDTO.fromEntry(cancel(current, reason));
+    }
+
+    // 결제 확정 없이 pendingTtl 이 지난 후원 취소 (PendingPledgeExpirer)
+    // 그 사이 확정/취소됐으면 PLEDGE_INVALID_STATE
+    void expire(PledgeLedgerEntry pending) {
+        cancel(pending, EXPIRED_REASON);
+    }
+
+    private PledgeLedgerEntry cancel(PledgeLedgerEntry current, String reason) {
+        if (current.getStatus() == PledgeStatus.CANCELLED) {
+            throw new ApiException(ErrorCode.PLEDGE_INVALID_STATE);
+        }
+        PledgeLedgerEntry entry = next(current)
+                .amountDelta(current.getStatus() == PledgeStatus.CONFIRMED ? -current.getAmount() : 0)
+                .status(PledgeStatus.CANCELLED)
+                .cancelReason(reason)
+                .build();
+        append(entry, null);
+        releaseStock(entry);
+        return entry;
+    }
+
+    // 후원 현재 상태 조회 (본인 또는 관리자)
+    @Transactional(readOnly = true)
+    public PledgeResponseDTO getPledge(Long pledgeId, String userId, boolean admin) {
+        PledgeLedgerEntry current = getCurrent(pledgeId);
+        if (!admin && !current.getUserId().equals(userId)) {
+            throw new ApiException(ErrorCode.PLEDGE_NOT_FOUND);
+        }
+        return PledgeResponseDTO.fromEntry(current);
+    }
+
+    private PledgeLedgerEntry getCurrent(Long pledgeId) {
+        return ledgerRepository.findFirstByPledgeIdOrderByEntryIdDesc(pledgeId)
+                .orElseThrow(() -> new ApiException(ErrorCode.PLEDGE_NOT_FOUND));
+    }
+
+    // 직전 행을 대체하는 다음 행
+    private static PledgeLedgerEntry.PledgeLedgerEntryBuilder next(PledgeLedgerEntry current) {
+        return current.toBuilder()
+                .entryId(null)
+                .supersedesEntryId(current.getEntryId())
+                .createdAt(LocalDateTime.now());
+    }
+
+    private void releaseStock(PledgeLedgerEntry entry) {
+        if (entry.getRewardId() != null) {
+            stockEngine.release(entry.getRewardId(), 1);
+        }
+    }
+
+    // group commit 완료 대기 (기록되지 않은 것이 확실할 때만 onFailure 실행)
+    private void append(PledgeLedgerEntry entry, Runnable onFailure) {
+        CompletableFuture<Void> future;
+        try {
+            future = ledgerWriter.append(entry);
+        } catch (RuntimeException e) {
+            runQuietly(onFailure);
+            throw e;
+        }
+        try {
+            future.get(props.getAppendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            runQuietly(onFailure);
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new ApiException(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private static void runQuietly(Runnable action) {
+        if (action == null) {
+            return;
+        }
+        try {
+            action.run();
+        } catch (RuntimeException ignored) {
+            // 원래 예외를 그대로 알리는 것이 우선
+        }
+    }
+}
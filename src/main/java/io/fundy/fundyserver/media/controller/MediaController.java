@@ -0,0 +1,28 @@
+package io.fundy.fundyserver.media.controller;
+
+import io.fundy.fundyserver.media.service.MediaFileServer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/media")
+@RequiredArgsConstructor
+public class MediaController {
+
+    private final MediaFileServer mediaFileServer;
+
+    // 이미지 조회 (썸네일/후기 이미지 URL, 비로그인 허용, HEAD 도 처리)
+    @GetMapping("/{fileName:.+}")
+    public void serve(@PathVariable String fileName,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        mediaFileServer.serve(fileName, request, response);
+    }
+}
@@ -0,0 +1,35 @@
+package io.fundy.fundyserver.media.controller;
+
+import io.fundy.fundyserver.media.dto.MediaUploadResponseDTO;
+import io.fundy.fundyserver.media.service.MediaStorage;
+import io.fundy.fundyserver.media.service.MediaVariantWorker;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/media")
+@RequiredArgsConstructor
+public class MediaUploadController {
+
+    private final MediaStorage mediaStorage;
+    private final MediaVariantWorker variantWorker;
+
+    // 이미지 업로드 (multipart 가 아닌 원본 바이트 본문, Content-Type: image/*)
+    // 반환된 url 을 후기 작성(imageUrl) 등에 넣는다. 크기별 변형은 백그라운드에서 만든다.
+    @PostMapping(consumes = "image/*")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<MediaUploadResponseDTO> upload(HttpServletRequest request) throws IOException {
+        MediaStorage.StoredMedia media = mediaStorage.store(
+                request.getInputStream(), request.getContentType(), request.getContentLengthLong());
+        variantWorker.enqueue(media);
+        return ResponseEntity.status(HttpStatus.CREATED).body(MediaUploadResponseDTO.from(media));
+    }
+}
@@ -0,0 +1,25 @@
+package io.fundy.fundyserver.media.dto;
+
+import io.fundy.fundyserver.media.service.MediaStorage;
+import io.fundy.fundyserver.media.service.MediaVariant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MediaUploadResponseDTO {
+    private String url;          // 후기/썸네일에 넣을 이미지 URL
+    private String hash;         // SHA-256 (hex)
+    private String contentType;
+    private long size;
+    private Map<String, String> variants; // 크기별 변형 URL (card/mobile/detail)
+
+    public static MediaUploadResponseDTO from(MediaStorage.StoredMedia media) {
+        return new MediaUploadResponseDTO(media.url(), media.hash(), media.contentType(), media.size(),
+                MediaVariant.urlsOf(media.url()));
+    }
+}
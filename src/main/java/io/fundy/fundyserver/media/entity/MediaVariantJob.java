@@ -0,0 +1,45 @@
+package io.fundy.fundyserver.media.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 이미지 변형 생성 작업
+// 업로드 시 PENDING 으로 기록하고 MediaVariantWorker 가 lease 를 잡아 처리한다.
+// lease 가 지난 RUNNING 작업(처리 중 재시작 등)은 다시 가져간다.
+@Entity
+@Table(name = "media_variant_jobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_media_variant_jobs_file", columnNames = "file_name"),
+        indexes = @Index(name = "idx_media_variant_jobs_status", columnList = "status, lease_until"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MediaVariantJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 원본 파일 이름 ({hash}.{ext})
+    @Column(name = "file_name", length = 80, nullable = false)
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private MediaVariantJobStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
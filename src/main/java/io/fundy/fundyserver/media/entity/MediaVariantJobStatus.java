@@ -0,0 +1,8 @@
+package io.fundy.fundyserver.media.entity;
+
+public enum MediaVariantJobStatus {
+    PENDING,    // 처리 대기 (실패 후에는 lease_until 까지 재시도 대기)
+    RUNNING,    // 처리 중 (lease_until 까지)
+    DONE,       // 모든 변형 생성
+    FAILED      // 재시도 횟수 초과 또는 읽을 수 없는 원본 (원본만 제공)
+}
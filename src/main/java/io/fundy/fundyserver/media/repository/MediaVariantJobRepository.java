@@ -0,0 +1,66 @@
+package io.fundy.fundyserver.media.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+// 이미지 변형 작업 큐 (JDBC)
+@Repository
+@RequiredArgsConstructor
+public class MediaVariantJobRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 작업 등록 (같은 원본은 한 번만)
+    public void enqueue(String fileName, LocalDateTime now) {
+        jdbcTemplate.update("INSERT IGNORE INTO media_variant_jobs (file_name, status, attempts, created_at) "
+                + "VALUES (?, 'PENDING', 0, ?)", fileName, Timestamp.valueOf(now));
+    }
+
+    // 처리할 작업을 최대 limit 개 가져와 lease 설정
+    // 대기 작업(재시도 대기 시각이 지난 것)과 lease 가 지난 작업을 잠그고(다른 인스턴스가 잡은 행은 건너뜀)
+    // RUNNING 으로 바꾼다. 트랜잭션 안에서 호출.
+    // lease_until 은 RUNNING 이면 처리 기한, PENDING 이면 재시도 대기 시각(null 이면 즉시)이다.
+    // 결과: [id, file_name, attempts]
+    public List<Object[]> claim(int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+        List<Object[]> jobs = jdbcTemplate.query("SELECT id, file_name, attempts FROM media_variant_jobs "
+                        + "WHERE status IN ('PENDING', 'RUNNING') AND (lease_until IS NULL OR lease_until <= ?) "
+                        + "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+                (rs, i) -> new Object[]{rs.getLong("id"), rs.getString("file_name"), rs.getInt("attempts")},
+                Timestamp.valueOf(now), limit);
+        if (jobs.isEmpty()) {
+            return jobs;
+        }
+        String placeholders = String.join(",", Collections.nCopies(jobs.size(), "?"));
+        Object[] args = new Object[jobs.size() + 1];
+        args[0] = Timestamp.valueOf(leaseUntil);
+        for (int i = 0; i < jobs.size(); i++) {
+            args[i + 1] = jobs.get(i)[0];
+        }
+        jdbcTemplate.update("UPDATE media_variant_jobs SET status = 'RUNNING', attempts = attempts + 1, lease_until = ? "
+                + "WHERE id IN (" + placeholders + ")", args);
+        return jobs;
+    }
+
+    public void complete(Long id, LocalDateTime now) {
+        jdbcTemplate.update("UPDATE media_variant_jobs SET status = 'DONE', lease_until = NULL, completed_at = ? "
+                + "WHERE id = ?", Timestamp.valueOf(now), id);
+    }
+
+    // 실패 시 retryAt 이후 다시 처리하도록 대기로 되돌린다
+    public void retryLater(Long id, LocalDateTime retryAt) {
+        jdbcTemplate.update("UPDATE media_variant_jobs SET status = 'PENDING', lease_until = ? WHERE id = ?",
+                Timestamp.valueOf(retryAt), id);
+    }
+
+    // 더 시도하지 않음 (원본만 제공)
+    public void fail(Long id, LocalDateTime now) {
+        jdbcTemplate.update("UPDATE media_variant_jobs SET status = 'FAILED', lease_until = NULL, completed_at = ? "
+                + "WHERE id = ?", Timestamp.valueOf(now), id);
+    }
+}
@@ -0,0 +1,203 @@
+package io.fundy.fundyserver.media.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+// 저장된 이미지 전송 (목록 썸네일이 가장 많은 GET 요청)
+// 파일 이름이 내용 해시이므로 해시를 강한 ETag 로 쓰고 1년 immutable 캐시를 준다.
+// 아직 만들어지지 않은 변형({hash}_{suffix}) 요청에는 원본을 짧은 캐시로 보낸다.
+// 작은 인기 파일은 메모리 캐시(W-TinyLFU 로 자주 쓰이는 파일만 유지)에서 바로 쓰고,
+// 나머지는 Tomcat sendfile(커널 내 복사)로, 지원하지 않으면 FileChannel.transferTo 로 보낸다.
+@Component
+@EnableConfigurationProperties(MediaServingProperties.class)
+public class MediaFileServer {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final MediaStorage mediaStorage;
+    private final String cacheControl;
+    private final String pendingVariantCacheControl;
+    private final long hotFileMaxSize;
+    private final Cache<String, byte[]> hotFiles;
+
+    public MediaFileServer(MediaStorage mediaStorage,
+                           MediaServingProperties props,
+                           MeterRegistry meterRegistry) {
+        this.mediaStorage = mediaStorage;
+        this.cacheControl = "public, max-age=" + props.getMaxAge().toSeconds() + ", immutable";
+        this.pendingVariantCacheControl = "public, max-age=" + props.getPendingVariantMaxAge().toSeconds();
+        this.hotFileMaxSize = props.getHotFileMaxSize().toBytes();
+        this.hotFiles = Caffeine.newBuilder()
+                .maximumWeight(props.getHotCacheSize().toBytes())
+                .weigher((String name, byte[] bytes) -> bytes.length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, hotFiles, "mediaHotFiles");
+    }
+
+    public void serve(String fileName, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path path = mediaStorage.resolve(fileName)
+                .orElseThrow(() -> new ApiException(ErrorCode.MEDIA_NOT_FOUND));
+        String cacheControl = this.cacheControl;
+        // 변형이 아직 없으면 원본을 보내되, 곧 변형으로 바뀌므로 짧게만 캐시
+        if (!hotFiles.asMap().containsKey(fileName) && !Files.exists(path)) {
+            Optional<String> original = MediaStorage.originalNameOf(fileName);
+            if (original.isPresent()) {
+                fileName = original.get();
+                path = mediaStorage.resolve(fileName).orElseThrow();
+                cacheControl = pendingVariantCacheControl;
+            }
+        }
+        String etag = "\"" + fileName.substring(0, fileName.indexOf('.')) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] cached = hotFiles.getIfPresent(fileName);
+        long length;
+        if (cached != null) {
+            length = cached.length;
+        } else {
+            try {
+                length = Files.size(path);
+            } catch (NoSuchFileException e) {
+                throw new ApiException(ErrorCode.MEDIA_NOT_FOUND);
+            }
+        }
+
+        // If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체 전송
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            range = null;
+        }
+        long[] bounds = parseRange(range, length);
+        if (bounds == null) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+        long start = bounds[0];
+        long end = bounds[1]; // 포함
+        long count = end - start + 1;
+        if (count < length) {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        response.setContentType(MediaStorage.contentTypeOf(fileName));
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        // 작은 파일 전체 요청은 한 번 읽어 캐시에 올린다 (실제 유지 여부는 캐시 정책이 결정)
+        if (cached == null && count == length && length <= hotFileMaxSize) {
+            cached = Files.readAllBytes(path);
+            hotFiles.put(fileName, cached);
+        }
+        if (cached != null) {
+            response.getOutputStream().write(cached, (int) start, (int) count);
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문은 Tomcat 이 요청 처리 후 sendfile 로 보낸다
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = file.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // If-None-Match: "*" 또는 쉼표로 나열된 ETag (W/ 접두사는 약한 비교로 허용)
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // "bytes=a-b" / "bytes=a-" / "bytes=-n" → [start, end]
+    // Range 가 없거나 여러 구간이면 전체, 만족할 수 없는 구간이면 null
+    private static long[] parseRange(String range, long length) {
+        long[] full = {0, length - 1};
+        if (range == null || !range.startsWith("bytes=") || range.indexOf(',') >= 0) {
+            return length == 0 ? new long[]{0, -1} : full;
+        }
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return full;
+        }
+        try {
+            long start;
+            long end;
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                end = dash == spec.length() - 1 ? length - 1 : Math.min(length - 1, Long.parseLong(spec.substring(dash + 1)));
+            }
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return full; // 해석할 수 없는 Range 는 무시
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.fundy.fundyserver.media.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "media.serving")
+public class MediaServingProperties {
+    // 브라우저/CDN 캐시 기간 (파일 이름이 내용 해시라 내용이 바뀌지 않는다)
+    private Duration maxAge = Duration.ofDays(365);
+    // 변형 생성 전 원본을 대신 보낼 때의 캐시 기간
+    private Duration pendingVariantMaxAge = Duration.ofMinutes(1);
+    // 메모리에 올려 두는 작은 파일 최대 크기
+    private DataSize hotFileMaxSize = DataSize.ofKilobytes(256);
+    // 메모리 캐시 전체 크기 (자주 요청되는 파일 위주로 유지)
+    private DataSize hotCacheSize = DataSize.ofMegabytes(64);
+}
@@ -0,0 +1,272 @@
+package io.fundy.fundyserver.media.service;
+
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 이미지 저장소 (로컬 디스크, 내용 주소 방식)
+// 요청 본문을 고정 크기 direct 버퍼로 읽어 곧바로 파일 채널에 쓰면서 크기/형식 확인과 SHA-256 계산을 같이 한다.
+// 파일 전체를 힙이나 multipart 임시 파일에 올리지 않으며, 버퍼는 풀에서 빌려 쓰므로
+// 동시 업로드가 늘어도 메모리 사용량은 maxConcurrentUploads × bufferSize 로 고정된다.
+// 파일 이름이 내용 해시이므로 같은 이미지는 한 번만 저장되고 저장된 파일은 바뀌지 않는다.
+@Slf4j
+@Component
+@EnableConfigurationProperties(MediaStorageProperties.class)
+public class MediaStorage {
+
+    public static final String URL_PREFIX = "/media/";
+
+    private static final int SNIFF_BYTES = 12;
+    // {hash}.{ext} 또는 변형 {hash}_{suffix}.{ext}
+    private static final Pattern FILE_NAME = Pattern.compile("([0-9a-f]{64})(?:_(card|mobile|detail))?\\.(jpg|png|gif|webp)");
+    // 변형을 만드는 원본 형식 (ImageIO 기본 지원, GIF 는 애니메이션이 깨지므로 제외)
+    private static final Set<String> VARIANT_SOURCE_EXTENSIONS = Set.of("jpg", "png");
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/gif", "gif",
+            "image/webp", "webp");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "png", "image/png",
+            "gif", "image/gif",
+            "webp", "image/webp");
+
+    private final MediaStorageProperties props;
+    private final Path root;
+    private final Path tmpDir;
+    private final BlockingQueue<ByteBuffer> buffers;
+
+    public MediaStorage(MediaStorageProperties props) throws IOException {
+        this.props = props;
+        this.root = Paths.get(props.getRootDir()).toAbsolutePath().normalize();
+        this.tmpDir = root.resolve("tmp");
+        Files.createDirectories(tmpDir);
+        int bufferSize = (int) Math.max(SNIFF_BYTES, props.getBufferSize().toBytes());
+        this.buffers = new ArrayBlockingQueue<>(props.getMaxConcurrentUploads());
+        for (int i = 0; i < props.getMaxConcurrentUploads(); i++) {
+            buffers.add(ByteBuffer.allocateDirect(bufferSize));
+        }
+    }
+
+    // 요청 본문 스트림을 저장 (contentLength 를 모르면 -1)
+    public StoredMedia store(InputStream body, String declaredType, long contentLength) {
+        if (declaredType == null || !props.getAllowedTypes().contains(baseType(declaredType))) {
+            throw new ApiException(ErrorCode.MEDIA_UNSUPPORTED_TYPE);
+        }
+        long maxSize = props.getMaxUploadSize().toBytes();
+        if (contentLength > maxSize) {
+            throw new ApiException(ErrorCode.MEDIA_TOO_LARGE);
+        }
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        }
+        Path tmp = tmpDir.resolve(UUID.randomUUID() + ".part");
+        try {
+            buffer.clear();
+            MessageDigest digest = sha256();
+            String contentType = null;
+            long size = 0;
+            ReadableByteChannel in = Channels.newChannel(body);
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                int n;
+                while ((n = in.read(buffer)) >= 0) {
+                    size += n;
+                    if (size > maxSize) {
+                        throw new ApiException(ErrorCode.MEDIA_TOO_LARGE);
+                    }
+                    // 시그니처를 확인할 만큼 모일 때까지는 쓰지 않는다
+                    if (contentType == null) {
+                        if (buffer.position() < SNIFF_BYTES) {
+                            continue;
+                        }
+                        contentType = sniff(buffer);
+                    }
+                    flush(buffer, digest, out);
+                }
+                if (contentType == null) {
+                    contentType = sniff(buffer);
+                    flush(buffer, digest, out);
+                }
+            }
+            if (size == 0) {
+                throw new ApiException(ErrorCode.MEDIA_UNSUPPORTED_TYPE);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String fileName = hash + "." + EXTENSIONS.get(contentType);
+            Path target = pathOf(fileName);
+            if (Files.exists(target)) {
+                Files.delete(tmp); // 같은 내용이 이미 있음
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new StoredMedia(hash, fileName, contentType, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(tmp);
+            buffer.clear();
+            buffers.offer(buffer);
+        }
+    }
+
+    // 저장소에 있는 이미지 URL 인지 확인
+    public boolean exists(String url) {
+        return resolveUrl(url).map(Files::isRegularFile).orElse(false);
+    }
+
+    // "/media/{hash}.{ext}" → 파일 경로
+    public Optional<Path> resolveUrl(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            return Optional.empty();
+        }
+        return resolve(url.substring(URL_PREFIX.length()));
+    }
+
+    // 파일 이름 → 파일 경로 (형식이 다르면 비어 있음, 경로 조작 차단)
+    public Optional<Path> resolve(String fileName) {
+        if (fileName == null || !FILE_NAME.matcher(fileName).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(pathOf(fileName));
+    }
+
+    // 파일 이름 확장자 → Content-Type
+    public static String contentTypeOf(String fileName) {
+        Matcher m = FILE_NAME.matcher(fileName);
+        return m.matches() ? CONTENT_TYPES.get(m.group(3)) : null;
+    }
+
+    // 변형 파일 이름이면 원본 파일 이름
+    public static Optional<String> originalNameOf(String fileName) {
+        Matcher m = FILE_NAME.matcher(fileName);
+        if (!m.matches() || m.group(2) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(m.group(1) + "." + m.group(3));
+    }
+
+    // 변형을 만드는 원본 파일 이름/URL 인지
+    public static boolean isVariantSource(String fileNameOrUrl) {
+        String fileName = fileNameOrUrl.startsWith(URL_PREFIX) ? fileNameOrUrl.substring(URL_PREFIX.length()) : fileNameOrUrl;
+        Matcher m = FILE_NAME.matcher(fileName);
+        return m.matches() && m.group(2) == null && VARIANT_SOURCE_EXTENSIONS.contains(m.group(3));
+    }
+
+    // 원본 파일 이름/URL → 변형 파일 이름/URL ({hash}.{ext} → {hash}_{suffix}.{ext})
+    public static String variantName(String original, MediaVariant variant) {
+        int dot = original.lastIndexOf('.');
+        return original.substring(0, dot) + "_" + variant.getSuffix() + original.substring(dot);
+    }
+
+    // 변형 파일 기록 (임시 파일에 쓴 뒤 원자적으로 이동, 이미 있으면 덮어씀)
+    public void writeVariant(String originalFileName, MediaVariant variant, VariantWriter writer) throws IOException {
+        Path target = pathOf(variantName(originalFileName, variant));
+        Path tmp = tmpDir.resolve(UUID.randomUUID() + ".part");
+        try {
+            writer.write(tmp);
+            Files.createDirectories(target.getParent());
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            deleteQuietly(tmp);
+        }
+    }
+
+    @FunctionalInterface
+    public interface VariantWriter {
+        void write(Path tmp) throws IOException;
+    }
+
+    // 해시 앞 두 글자로 디렉터리를 나눠 한 디렉터리의 파일 수를 제한
+    private Path pathOf(String fileName) {
+        return root.resolve(fileName.substring(0, 2)).resolve(fileName);
+    }
+
+    // 파일 시그니처로 실제 형식 판별 (허용 목록에 없으면 거부)
+    private String sniff(ByteBuffer buffer) {
+        int len = buffer.position();
+        String type = null;
+        if (len >= 3 && u(buffer, 0) == 0xFF && u(buffer, 1) == 0xD8 && u(buffer, 2) == 0xFF) {
+            type = "image/jpeg";
+        } else if (len >= 8 && u(buffer, 0) == 0x89 && u(buffer, 1) == 'P' && u(buffer, 2) == 'N' && u(buffer, 3) == 'G'
+                && u(buffer, 4) == 0x0D && u(buffer, 5) == 0x0A && u(buffer, 6) == 0x1A && u(buffer, 7) == 0x0A) {
+            type = "image/png";
+        } else if (len >= 4 && u(buffer, 0) == 'G' && u(buffer, 1) == 'I' && u(buffer, 2) == 'F' && u(buffer, 3) == '8') {
+            type = "image/gif";
+        } else if (len >= 12 && u(buffer, 0) == 'R' && u(buffer, 1) == 'I' && u(buffer, 2) == 'F' && u(buffer, 3) == 'F'
+                && u(buffer, 8) == 'W' && u(buffer, 9) == 'E' && u(buffer, 10) == 'B' && u(buffer, 11) == 'P') {
+            type = "image/webp";
+        }
+        if (type == null || !props.getAllowedTypes().contains(type)) {
+            throw new ApiException(ErrorCode.MEDIA_UNSUPPORTED_TYPE);
+        }
+        return type;
+    }
+
+    private static int u(ByteBuffer buffer, int index) {
+        return buffer.get(index) & 0xFF;
+    }
+
+    // 버퍼 내용을 해시에 반영하고 파일에 기록
+    private static void flush(ByteBuffer buffer, MessageDigest digest, FileChannel out) throws IOException {
+        buffer.flip();
+        digest.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static String baseType(String contentType) {
+        int semicolon = contentType.indexOf(';');
+        return (semicolon < 0 ? contentType : contentType.substring(0, semicolon)).trim().toLowerCase();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete temp upload {}: {}", path, e.getMessage());
+        }
+    }
+
+    // 저장 결과
+    public record StoredMedia(String hash, String fileName, String contentType, long size) {
+        public String url() {
+            return URL_PREFIX + fileName;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.fundy.fundyserver.media.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "media.storage")
+public class MediaStorageProperties {
+    // 이미지 저장 루트 디렉터리
+    private String rootDir = "./media-store";
+    // 업로드 최대 크기 (스트리밍 중에도 확인)
+    private DataSize maxUploadSize = DataSize.ofMegabytes(10);
+    // 허용 이미지 형식 (선언된 Content-Type 과 파일 시그니처 모두 확인)
+    private List<String> allowedTypes = List.of("image/jpeg", "image/png", "image/gif", "image/webp");
+    // 업로드 1건당 전송 버퍼 크기
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+    // 동시 업로드 최대 수 (버퍼 풀 크기, 넘으면 503)
+    private int maxConcurrentUploads = 32;
+}
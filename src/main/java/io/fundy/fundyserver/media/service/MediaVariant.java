@@ -0,0 +1,36 @@
+package io.fundy.fundyserver.media.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 이미지 크기별 변형 (원본 파일 이름에 _{suffix} 를 붙여 저장)
+public enum MediaVariant {
+
+    CARD("card", 320),       // 목록 카드
+    MOBILE("mobile", 640),   // 모바일 상세
+    DETAIL("detail", 1280);  // 데스크톱 상세
+
+    private final String suffix;
+    private final int maxWidth;
+
+    MediaVariant(String suffix, int maxWidth) {
+        this.suffix = suffix;
+        this.maxWidth = maxWidth;
+    }
+
+    public String getSuffix() { return suffix; }
+    public int getMaxWidth() { return maxWidth; }
+
+    // 원본 URL 의 변형 URL 목록 (변형을 만들지 않는 형식/외부 URL 이면 비어 있음)
+    // 변형이 아직 없으면 같은 URL 로 원본이 내려가므로 클라이언트는 바로 사용해도 된다.
+    public static Map<String, String> urlsOf(String originalUrl) {
+        if (originalUrl == null || !MediaStorage.isVariantSource(originalUrl)) {
+            return Map.of();
+        }
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (MediaVariant variant : values()) {
+            urls.put(variant.suffix, MediaStorage.variantName(originalUrl, variant));
+        }
+        return urls;
+    }
+}
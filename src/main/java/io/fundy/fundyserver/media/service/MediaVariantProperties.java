@@ -0,0 +1,26 @@
+package io.fundy.fundyserver.media.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "media.variants")
+public class MediaVariantProperties {
+    // 동시에 처리하는 이미지 수 (작업 스레드 수, 이미지 디코딩은 CPU/메모리를 많이 쓴다)
+    private int workers = 2;
+    // 대기 작업 확인 주기
+    private Duration pollInterval = Duration.ofSeconds(2);
+    // 작업 1건 최대 처리 시간 (지나면 다른 작업자/재시작 후 다시 처리)
+    private Duration lease = Duration.ofMinutes(5);
+    // 최대 시도 횟수 (원본을 읽을 수 없는 경우는 바로 중단)
+    private int maxAttempts = 8;
+    // 실패 후 첫 재시도 대기 시간 (시도마다 두 배, 최대 maxRetryBackoff)
+    private Duration retryBackoff = Duration.ofSeconds(30);
+    private Duration maxRetryBackoff = Duration.ofHours(1);
+    // 디코딩을 허용하는 최대 픽셀 수 (압축 폭탄 방지)
+    private long maxPixels = 40_000_000L;
+}
@@ -0,0 +1,348 @@
+package io.fundy.fundyserver.media.service;
+
+import io.fundy.fundyserver.media.repository.MediaVariantJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.w3c.dom.NodeList;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 업로드 이미지의 크기별 변형(MediaVariant) 생성
+// 작업은 media_variant_jobs 에 기록되어 있어 재시작해도 남은 작업(대기 + lease 가 지난 처리 중 작업)을 이어서 처리하고,
+// 동시에 처리하는 이미지 수는 workers 로 제한한다 (큰 이미지 디코딩이 힙을 많이 쓰므로).
+// 변형이 생기기 전에는 MediaFileServer 가 변형 URL 요청에 원본을 짧은 캐시로 내려준다.
+// 실패한 작업은 retryBackoff 부터 두 배씩 늘려 기다린 뒤 다시 시도하고, 원본을 읽을 수 없으면 바로 중단한다.
+// JPEG 는 EXIF 방향(Orientation)대로 돌린 뒤 줄인다 (변형에는 EXIF 가 없으므로).
+@Slf4j
+@Component
+@EnableConfigurationProperties(MediaVariantProperties.class)
+public class MediaVariantWorker {
+
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private final MediaVariantJobRepository jobRepository;
+    private final MediaStorage mediaStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final MediaVariantProperties props;
+    private final ExecutorService workers;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter generated;
+    private final Counter failed;
+    private volatile boolean running = true;
+
+    public MediaVariantWorker(MediaVariantJobRepository jobRepository,
+                              MediaStorage mediaStorage,
+                              PlatformTransactionManager transactionManager,
+                              MediaVariantProperties props,
+                              MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.mediaStorage = mediaStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.props = props;
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(props.getWorkers(), r -> {
+            Thread t = new Thread(r, "media-variant-" + sequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.generated = Counter.builder("media.variants.generated")
+                .description("변형을 모두 만든 이미지 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("media.variants.failed")
+                .description("변형 생성에 실패한 시도 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("media.variants.in.flight", inFlight);
+    }
+
+    // 업로드된 원본의 변형 생성 예약 (변형을 만들지 않는 형식은 무시)
+    public void enqueue(MediaStorage.StoredMedia media) {
+        if (MediaStorage.isVariantSource(media.fileName())) {
+            jobRepository.enqueue(media.fileName(), LocalDateTime.now());
+        }
+    }
+
+    // 대기 작업을 빈 작업 스레드 수만큼 가져와 배정
+    @Scheduled(fixedDelayString = "${media.variants.poll-interval:2s}")
+    public void poll() {
+        int free = props.getWorkers() - inFlight.get();
+        if (!running || free <= 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> jobs;
+        try {
+            jobs = transactionTemplate.execute(status -> jobRepository.claim(free, now, now.plus(props.getLease())));
+        } catch (DataAccessException e) {
+            log.warn("Media variant job poll failed: {}", e.getMessage());
+            return;
+        }
+        for (Object[] job : jobs) {
+            Long id = (Long) job[0];
+            String fileName = (String) job[1];
+            int attempts = (Integer) job[2] + 1;
+            inFlight.incrementAndGet();
+            try {
+                workers.execute(() -> {
+                    try {
+                        process(id, fileName, attempts);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중: lease 가 지나면 다시 처리된다
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private void process(Long id, String fileName, int attempts) {
+        try {
+            generate(fileName);
+            jobRepository.complete(id, LocalDateTime.now());
+            generated.increment();
+        } catch (IOException | RuntimeException e) {
+            failed.increment();
+            // 종료 중 실패는 횟수와 무관하게 다시 처리
+            boolean unusable = e instanceof UnusableImageException || e instanceof IllegalArgumentException;
+            boolean retry = !unusable && (attempts < props.getMaxAttempts() || !running);
+            log.warn("Media variant generation failed for {} (attempt {}): {}", fileName, attempts, e.getMessage());
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                if (retry) {
+                    jobRepository.retryLater(id, now.plus(backoff(attempts)));
+                } else {
+                    jobRepository.fail(id, now);
+                }
+            } catch (DataAccessException ex) {
+                // lease 가 지나면 다시 처리된다
+                log.warn("Could not record media variant failure for {}: {}", fileName, ex.getMessage());
+            }
+        }
+    }
+
+    // attempts 번째 실패 후 대기 시간: retryBackoff * 2^(attempts - 1), 최대 maxRetryBackoff
+    Duration backoff(int attempts) {
+        Duration max = props.getMaxRetryBackoff();
+        Duration delay = props.getRetryBackoff();
+        for (int i = 1; i < attempts && delay.compareTo(max) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(max) < 0 ? delay : max;
+    }
+
+    // 원본을 한 번 디코딩해서 모든 변형 생성 (원본보다 크게 늘리지 않음)
+    void generate(String fileName) throws IOException {
+        Path source = mediaStorage.resolve(fileName)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid media file name: " + fileName));
+        BufferedImage original = read(source);
+        String format = fileName.endsWith(".png") ? "png" : "jpg";
+        for (MediaVariant variant : MediaVariant.values()) {
+            if (original.getWidth() <= variant.getMaxWidth()) {
+                // 이미 충분히 작으면 원본 그대로 (다시 인코딩하면 화질만 나빠진다)
+                mediaStorage.writeVariant(fileName, variant, tmp -> Files.copy(source, tmp));
+                continue;
+            }
+            BufferedImage scaled = scale(original, variant.getMaxWidth(), format.equals("png"));
+            mediaStorage.writeVariant(fileName, variant, tmp -> write(scaled, format, tmp));
+        }
+    }
+
+    // 헤더의 크기를 먼저 확인한 뒤 디코딩하고 EXIF 방향 적용
+    private BufferedImage read(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new UnusableImageException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, false);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > props.getMaxPixels()) {
+                    throw new UnusableImageException("Image too large to decode: " + pixels + " pixels");
+                }
+                BufferedImage image = reader.read(0);
+                return orient(image, orientation(reader.getImageMetadata(0)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // JPEG APP1(Exif) 의 Orientation 값 (없으면 1)
+    private static int orientation(IIOMetadata metadata) {
+        if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA_FORMAT)) {
+            return 1;
+        }
+        NodeList markers = ((IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT)).getElementsByTagName("unknown");
+        for (int i = 0; i < markers.getLength(); i++) {
+            IIOMetadataNode marker = (IIOMetadataNode) markers.item(i);
+            if (String.valueOf(APP1_MARKER).equals(marker.getAttribute("MarkerTag"))
+                    && marker.getUserObject() instanceof byte[] data) {
+                int orientation = exifOrientation(data);
+                if (orientation != 1) {
+                    return orientation;
+                }
+            }
+        }
+        return 1;
+    }
+
+    // "Exif\0\0" + TIFF 헤더 + IFD0 에서 Orientation(0x0112, SHORT) 을 찾는다. 형식이 맞지 않으면 1
+    static int exifOrientation(byte[] app1) {
+        if (app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f'
+                || app1[4] != 0 || app1[5] != 0) {
+            return 1;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(app1, 6, app1.length - 6).slice();
+        if (tiff.getShort(0) == 0x4949) {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.getShort(0) != 0x4D4D) {
+            return 1;
+        }
+        long ifd = Integer.toUnsignedLong(tiff.getInt(4));
+        if (ifd + 2 > tiff.limit()) {
+            return 1;
+        }
+        int entries = Short.toUnsignedInt(tiff.getShort((int) ifd));
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                return 1;
+            }
+            if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                int value = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    // EXIF Orientation(1~8) 대로 돌리거나 뒤집은 이미지 (5~8 은 가로/세로가 바뀐다)
+    static BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);    // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);   // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);    // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);     // 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);    // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);   // 반대 대각선 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);    // 반시계 방향 90도
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+        boolean swap = orientation >= 5;
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, type);
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+
+    // 목표 폭의 2배가 될 때까지 절반씩 줄인 뒤 마지막에 목표 크기로 (한 번에 줄일 때보다 계단 현상이 적다)
+    private static BufferedImage scale(BufferedImage image, int targetWidth, boolean keepAlpha) {
+        int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        int targetHeight = Math.max(1, (int) Math.round((double) image.getHeight() * targetWidth / image.getWidth()));
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = width / 2 >= targetWidth ? width / 2 : targetWidth;
+            height = width == targetWidth ? targetHeight : Math.max(1, height / 2);
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (!keepAlpha) {
+                    g.setColor(Color.WHITE); // 투명 영역이 있는 원본도 JPEG 는 흰 배경
+                    g.fillRect(0, 0, width, height);
+                }
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth);
+        return current;
+    }
+
+    private static void write(BufferedImage image, String format, Path target) throws IOException {
+        if (format.equals("png")) {
+            if (!ImageIO.write(image, "png", target.toFile())) {
+                throw new IOException("No PNG writer");
+            }
+            return;
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    // 다시 시도해도 결과가 같은 원본 (형식 미지원, 픽셀 수 초과)
+    static final class UnusableImageException extends IOException {
+        UnusableImageException(String message) {
+            super(message);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
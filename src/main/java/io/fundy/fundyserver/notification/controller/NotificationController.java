@@ -0,0 +1,55 @@
+package io.fundy.fundyserver.notification.controller;
+
+import io.fundy.fundyserver.notification.dto.NotificationResponseDTO;
+import io.fundy.fundyserver.notification.service.NotificationService;
+import io.fundy.fundyserver.register.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    // 내 알림 목록 (before 는 이전 페이지 마지막 notificationId)
+    @GetMapping
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<NotificationResponseDTO>> getNotifications(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(notificationService.getNotifications(principal.getUser().getId(), before, size));
+    }
+
+    // 읽지 않은 알림 수 (배지)
+    @GetMapping("/unread-count")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> getUnreadCount(@AuthenticationPrincipal CustomUserDetails principal) {
+        return ResponseEntity.ok(Map.of("unreadCount", notificationService.getUnreadCount(principal.getUser().getId())));
+    }
+
+    // 알림 읽음 처리
+    @PatchMapping("/{notificationId}/read")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<Void> markRead(@AuthenticationPrincipal CustomUserDetails principal,
+                                         @PathVariable Long notificationId) {
+        notificationService.markRead(principal.getUser().getId(), notificationId);
+        return ResponseEntity.ok().build();
+    }
+
+    // 전체 읽음 처리
+    @PatchMapping("/read-all")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<Void> markAllRead(@AuthenticationPrincipal CustomUserDetails principal) {
+        notificationService.markAllRead(principal.getUser().getId());
+        return ResponseEntity.ok().build();
+    }
+}
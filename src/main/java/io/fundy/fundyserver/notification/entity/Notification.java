@@ -1,45 +1,51 @@
-//package io.fundy.fundyserver.notification.entity;
-//
-//import jakarta.persistence.*;
-//import lombok.*;
-//import org.springframework.data.annotation.Id;
-//
-//import java.time.LocalDateTime;
-//
-//@Entity
-//@Table(name = "notifications")
-//@Getter
-//@Setter
-//@NoArgsConstructor
-//@AllArgsConstructor
-//@Builder
-//public class Notification {
-//
-//    @Id
-//    @GeneratedValue(strategy = GenerationType.IDENTITY)
-//    private Long notificationId;
-//
-//    @ManyToOne(fetch = FetchType.LAZY)
-//    @JoinColumn(name = "user_id", nullable = false)
-//    private User user;
-//
-//    @ManyToOne(fetch = FetchType.LAZY)
-//    @JoinColumn(name = "project_id", nullable = false)
-//    private Project project;
-//
-//    @Column(length = 50, nullable = false)
-//    private String type;
-//
-//    @Column(columnDefinition = "TEXT", nullable = false)
-//    private String message;
-//
-//    @Column(nullable = false)
-//    private Boolean isRead = false;
-//
-//    private LocalDateTime createdAt;
-//
-//    @PrePersist
-//    public void prePersist() {
-//        this.createdAt = LocalDateTime.now();
-//    }
-//}
+package io.fundy.fundyserver.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 사용자별 알림 (프로젝트 이벤트 1건 → 후원자 수만큼 행)
+// 행은 NotificationFanoutWorker 가 JDBC 배치 INSERT 로 기록하고,
+// (outbox_id, user_id) 유니크 제약으로 같은 이벤트가 한 사용자에게 두 번 가지 않도록 한다.
+@Entity
+@Table(name = "notifications",
+        uniqueConstraints = @UniqueConstraint(name = "uk_notifications_outbox_user", columnNames = {"outbox_id", "user_id"}),
+        indexes = @Index(name = "idx_notifications_user", columnList = "user_id, notification_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    // 원본 이벤트 (notification_outbox.id)
+    @Column(name = "outbox_id", nullable = false)
+    private Long outboxId;
+
+    // 수신자 (users.id)
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50, nullable = false)
+    private NotificationType type;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String message;
+
+    @Builder.Default
+    @Column(name = "is_read", nullable = false)
+    private Boolean isRead = false;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
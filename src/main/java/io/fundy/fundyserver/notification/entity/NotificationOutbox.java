@@ -0,0 +1,50 @@
+package io.fundy.fundyserver.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 알림 transactional outbox
+// 프로젝트 이벤트를 일으킨 트랜잭션 안에서 이 행 하나만 기록하고,
+// 후원자별 알림 행은 NotificationFanoutWorker 가 비동기로 청크 단위로 펼친다.
+// last_entry_id 는 어느 후원 원장 행까지 펼쳤는지 (재시작 시 이어서 처리)
+@Entity
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_status", columnList = "status, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50, nullable = false)
+    private NotificationType type;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String message;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Builder.Default
+    @Column(name = "last_entry_id", nullable = false)
+    private Long lastEntryId = 0L;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
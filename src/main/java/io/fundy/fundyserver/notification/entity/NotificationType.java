@@ -0,0 +1,11 @@
+package io.fundy.fundyserver.notification.entity;
+
+// 알림 종류
+// GOAL_REACHED      : 후원한 프로젝트가 목표 금액 달성
+// PROJECT_COMPLETED : 후원한 프로젝트 펀딩 성공 종료
+// PROJECT_FAILED    : 후원한 프로젝트 펀딩 실패 종료
+public enum NotificationType {
+    GOAL_REACHED,
+    PROJECT_COMPLETED,
+    PROJECT_FAILED
+}
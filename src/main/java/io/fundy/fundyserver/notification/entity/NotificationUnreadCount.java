@@ -0,0 +1,23 @@
+package io.fundy.fundyserver.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 사용자별 읽지 않은 알림 수 (알림 기록/읽음 처리 시 증감, 배지 조회 시 count(*) 대신 PK 조회)
+@Entity
+@Table(name = "notification_unread_counts")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationUnreadCount {
+
+    // users.id
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private Integer unreadCount;
+}
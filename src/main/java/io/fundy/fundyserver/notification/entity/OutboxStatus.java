@@ -0,0 +1,9 @@
+package io.fundy.fundyserver.notification.entity;
+
+// 알림 outbox 처리 상태
+// PENDING : 수신자 펼치기 대기/진행 중
+// DONE    : 모든 수신자에게 기록 완료
+public enum OutboxStatus {
+    PENDING,
+    DONE
+}
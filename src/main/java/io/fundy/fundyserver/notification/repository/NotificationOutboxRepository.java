@@ -0,0 +1,7 @@
+package io.fundy.fundyserver.notification.repository;
+
+import io.fundy.fundyserver.notification.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+}
@@ -0,0 +1,161 @@
+package io.fundy.fundyserver.notification.repository;
+
+import io.fundy.fundyserver.notification.dto.NotificationResponseDTO;
+import io.fundy.fundyserver.notification.entity.NotificationOutbox;
+import io.fundy.fundyserver.notification.entity.NotificationType;
+import io.fundy.fundyserver.notification.entity.OutboxStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 알림 / outbox / 읽지 않은 수 조회·기록 (JDBC)
+@Repository
+@RequiredArgsConstructor
+public class NotificationRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notifications "
+            + "(outbox_id, user_id, project_id, type, message, is_read, created_at) VALUES (?, ?, ?, ?, ?, false, ?)";
+
+    private static final String INCREMENT_UNREAD_SQL = "INSERT INTO notification_unread_counts (user_id, unread_count) "
+            + "VALUES (?, 1) ON DUPLICATE KEY UPDATE unread_count = unread_count + 1";
+
+    private static final RowMapper<NotificationOutbox> OUTBOX_MAPPER = (rs, i) -> NotificationOutbox.builder()
+            .id(rs.getLong("id"))
+            .projectId(rs.getLong("project_id"))
+            .type(NotificationType.valueOf(rs.getString("type")))
+            .message(rs.getString("message"))
+            .status(OutboxStatus.valueOf(rs.getString("status")))
+            .lastEntryId(rs.getLong("last_entry_id"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private static final RowMapper<NotificationResponseDTO> RESPONSE_MAPPER = (rs, i) -> new NotificationResponseDTO(
+            rs.getLong("notification_id"),
+            rs.getLong("project_id"),
+            rs.getString("project_name"),
+            rs.getString("type"),
+            rs.getString("message"),
+            rs.getBoolean("is_read"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getString("nickname"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 처리할 outbox 이벤트 (오래된 순)
+    public List<Long> findPendingOutboxIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM notification_outbox WHERE status = 'PENDING' ORDER BY id LIMIT ?", Long.class, limit);
+    }
+
+    // outbox 이벤트 잠금 (다른 인스턴스가 처리 중이면 기다리지 않고 빈 값)
+    public Optional<NotificationOutbox> lockPendingOutbox(Long outboxId) {
+        return jdbcTemplate.query("SELECT id, project_id, type, message, status, last_entry_id, created_at "
+                        + "FROM notification_outbox WHERE id = ? AND status = 'PENDING' FOR UPDATE SKIP LOCKED",
+                OUTBOX_MAPPER, outboxId).stream().findFirst();
+    }
+
+    // 프로젝트 확정 후원자 다음 청크 (원장 entry_id 순, 취소된 후원 제외)
+    // 결과: [entry_id, users.id]
+    public List<long[]> findRecipientChunk(Long projectId, long afterEntryId, int limit) {
+        return jdbcTemplate.query("SELECT pl.entry_id, u.id AS recipient_id FROM pledge_ledger pl "
+                        + "JOIN users u ON u.user_id = pl.user_id "
+                        + "WHERE pl.project_id = ? AND pl.entry_id > ? AND pl.status = 'CONFIRMED' "
+                        + "AND NOT EXISTS (SELECT 1 FROM pledge_ledger c WHERE c.pledge_id = pl.pledge_id AND c.status = 'CANCELLED') "
+                        + "ORDER BY pl.entry_id LIMIT ?",
+                (rs, i) -> new long[]{rs.getLong("entry_id"), rs.getLong("recipient_id")},
+                projectId, afterEntryId, limit);
+    }
+
+    // 이미 이 이벤트 알림을 받은 사용자 (같은 사용자가 여러 번 후원한 경우)
+    public Set<Integer> findAlreadyNotified(Long outboxId, Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        List<Object> args = new ArrayList<>(userIds.size() + 1);
+        args.add(outboxId);
+        args.addAll(userIds);
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT user_id FROM notifications WHERE outbox_id = ? AND user_id IN (" + placeholders + ")",
+                Integer.class, args.toArray()));
+    }
+
+    // 알림 행 배치 기록 + 읽지 않은 수 증가 (같은 트랜잭션)
+    // 증가는 user_id 오름차순으로 해서 동시에 도는 다른 이벤트와 잠금 순서가 엇갈리지 않게 한다.
+    public void insertNotifications(NotificationOutbox event, List<Integer> recipients, LocalDateTime now) {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_SQL, recipients, recipients.size(), (ps, userId) -> {
+            ps.setLong(1, event.getId());
+            ps.setInt(2, userId);
+            ps.setLong(3, event.getProjectId());
+            ps.setString(4, event.getType().name());
+            ps.setString(5, event.getMessage());
+            ps.setTimestamp(6, createdAt);
+        });
+        List<Integer> sorted = new ArrayList<>(recipients);
+        Collections.sort(sorted);
+        jdbcTemplate.batchUpdate(INCREMENT_UNREAD_SQL, sorted, sorted.size(), (ps, userId) -> ps.setInt(1, userId));
+    }
+
+    // outbox 진행 위치 갱신 (done 이면 완료 처리)
+    public void advanceOutbox(Long outboxId, long lastEntryId, boolean done) {
+        if (done) {
+            jdbcTemplate.update("UPDATE notification_outbox SET last_entry_id = ?, status = 'DONE', completed_at = ? WHERE id = ?",
+                    lastEntryId, Timestamp.valueOf(LocalDateTime.now()), outboxId);
+        } else {
+            jdbcTemplate.update("UPDATE notification_outbox SET last_entry_id = ? WHERE id = ?", lastEntryId, outboxId);
+        }
+    }
+
+    // 사용자 알림 목록 (notification_id 역순 키셋 페이지)
+    public List<NotificationResponseDTO> findPage(Integer userId, Long beforeId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT n.notification_id, n.project_id, p.title AS project_name, n.type, "
+                + "n.message, n.is_read, n.created_at, u.nickname FROM notifications n "
+                + "LEFT JOIN projects p ON p.id = n.project_id "
+                + "JOIN users u ON u.id = n.user_id "
+                + "WHERE n.user_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(userId);
+        if (beforeId != null) {
+            sql.append(" AND n.notification_id < ?");
+            args.add(beforeId);
+        }
+        sql.append(" ORDER BY n.notification_id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), RESPONSE_MAPPER, args.toArray());
+    }
+
+    public int findUnreadCount(Integer userId) {
+        List<Integer> counts = jdbcTemplate.queryForList(
+                "SELECT unread_count FROM notification_unread_counts WHERE user_id = ?", Integer.class, userId);
+        return counts.isEmpty() ? 0 : Math.max(0, counts.get(0));
+    }
+
+    // 읽음 처리한 행 수만큼 읽지 않은 수 감소
+    // (0 으로 덮어쓰지 않으므로 그 사이 새로 기록된 알림 수가 사라지지 않는다)
+    public int markRead(Integer userId, Long notificationId) {
+        int updated = jdbcTemplate.update("UPDATE notifications SET is_read = true "
+                + "WHERE notification_id = ? AND user_id = ? AND is_read = false", notificationId, userId);
+        decrementUnread(userId, updated);
+        return updated;
+    }
+
+    public int markAllRead(Integer userId) {
+        int updated = jdbcTemplate.update(
+                "UPDATE notifications SET is_read = true WHERE user_id = ? AND is_read = false", userId);
+        decrementUnread(userId, updated);
+        return updated;
+    }
+
+    private void decrementUnread(Integer userId, int count) {
+        if (count > 0) {
+            jdbcTemplate.update("UPDATE notification_unread_counts SET unread_count = GREATEST(unread_count - ?, 0) "
+                    + "WHERE user_id = ?", count, userId);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.fundy.fundyserver.notification.service;
+
+import io.fundy.fundyserver.notification.entity.NotificationOutbox;
+import io.fundy.fundyserver.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 알림 outbox → 후원자별 알림 행 펼치기
+// outbox 이벤트 하나를 작업 스레드 하나가 맡아 chunkSize 명씩 처리하고,
+// 청크마다 [알림 배치 INSERT + 읽지 않은 수 증가 + outbox 위치 갱신] 을 한 트랜잭션으로 커밋한다.
+// outbox 행을 FOR UPDATE SKIP LOCKED 로 잡으므로 여러 인스턴스가 같은 이벤트를 동시에 처리하지 않고,
+// 중간에 재시작해도 마지막으로 커밋한 위치부터 이어서 처리한다.
+@Slf4j
+@Component
+@EnableConfigurationProperties(NotificationProperties.class)
+public class NotificationFanoutWorker {
+
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationProperties props;
+    private final ExecutorService workers;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter delivered;
+    private volatile boolean running = true;
+
+    public NotificationFanoutWorker(NotificationRepository notificationRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    NotificationProperties props,
+                                    MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.props = props;
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(props.getWorkers(), r -> {
+            Thread t = new Thread(r, "notification-fanout-" + sequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.delivered = Counter.builder("notification.fanout.delivered")
+                .description("기록한 후원자별 알림 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("notification.fanout.in.flight", inFlight, Set::size);
+    }
+
+    // 대기 중인 outbox 이벤트를 빈 작업 스레드에 배정
+    @Scheduled(fixedDelayString = "${notification.fanout.poll-interval:1s}")
+    public void poll() {
+        int free = props.getWorkers() - inFlight.size();
+        if (!running || free <= 0) {
+            return;
+        }
+        List<Long> pending;
+        try {
+            pending = notificationRepository.findPendingOutboxIds(props.getWorkers() + inFlight.size());
+        } catch (DataAccessException e) {
+            log.warn("Notification outbox poll failed: {}", e.getMessage());
+            return;
+        }
+        for (Long outboxId : pending) {
+            if (inFlight.size() >= props.getWorkers()) {
+                break;
+            }
+            if (!inFlight.add(outboxId)) {
+                continue;
+            }
+            try {
+                workers.execute(() -> {
+                    try {
+                        drain(outboxId);
+                    } finally {
+                        inFlight.remove(outboxId);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(outboxId);
+            }
+        }
+    }
+
+    // 이벤트 하나의 수신자를 끝까지 펼침 (청크마다 별도 트랜잭션)
+    void drain(Long outboxId) {
+        try {
+            boolean more = true;
+            while (more && running) {
+                more = Boolean.TRUE.equals(transactionTemplate.execute(status -> fanOutChunk(outboxId)));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Notification fan-out failed for outbox {}, will retry: {}", outboxId, e.getMessage());
+        }
+    }
+
+    // 다음 청크 처리 (남은 수신자가 있으면 true)
+    private boolean fanOutChunk(Long outboxId) {
+        Optional<NotificationOutbox> locked = notificationRepository.lockPendingOutbox(outboxId);
+        if (locked.isEmpty()) {
+            return false; // 완료되었거나 다른 인스턴스가 처리 중
+        }
+        NotificationOutbox event = locked.get();
+        int chunkSize = props.getChunkSize();
+
+        List<long[]> rows = notificationRepository.findRecipientChunk(event.getProjectId(), event.getLastEntryId(), chunkSize);
+        // 여러 번 후원한 사용자는 한 번만
+        Set<Integer> recipients = new LinkedHashSet<>();
+        for (long[] row : rows) {
+            recipients.add((int) row[1]);
+        }
+        recipients.removeAll(notificationRepository.findAlreadyNotified(event.getId(), recipients));
+        if (!recipients.isEmpty()) {
+            notificationRepository.insertNotifications(event, new ArrayList<>(recipients), LocalDateTime.now());
+            delivered.increment(recipients.size());
+        }
+
+        boolean done = rows.size() < chunkSize;
+        long lastEntryId = rows.isEmpty() ? event.getLastEntryId() : rows.get(rows.size() - 1)[0];
+        notificationRepository.advanceOutbox(event.getId(), lastEntryId, done);
+        return !done;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
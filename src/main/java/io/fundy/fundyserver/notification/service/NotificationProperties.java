@@ -0,0 +1,19 @@
+package io.fundy.fundyserver.notification.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "notification.fanout")
+public class NotificationProperties {
+    // 동시에 펼치는 outbox 이벤트 수 (작업 스레드 수)
+    private int workers = 2;
+    // 한 트랜잭션에서 기록하는 최대 수신자 수
+    private int chunkSize = 1000;
+    // 처리할 outbox 이벤트 확인 주기
+    private Duration pollInterval = Duration.ofSeconds(1);
+}
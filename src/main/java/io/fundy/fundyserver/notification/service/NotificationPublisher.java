@@ -0,0 +1,31 @@
+package io.fundy.fundyserver.notification.service;
+
+import io.fundy.fundyserver.notification.entity.NotificationOutbox;
+import io.fundy.fundyserver.notification.entity.NotificationType;
+import io.fundy.fundyserver.notification.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 프로젝트 후원자 전체 알림 발행
+// 호출한 트랜잭션 안에서 outbox 행 하나만 기록하므로 이벤트와 알림 발행이 함께 커밋/롤백된다.
+// 후원자별 알림 행은 NotificationFanoutWorker 가 비동기로 기록한다.
+@Service
+@RequiredArgsConstructor
+public class NotificationPublisher {
+
+    private final NotificationOutboxRepository outboxRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishToBackers(Long projectId, NotificationType type, String message) {
+        outboxRepository.save(NotificationOutbox.builder()
+                .projectId(projectId)
+                .type(type)
+                .message(message)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
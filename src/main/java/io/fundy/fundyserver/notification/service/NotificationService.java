@@ -0,0 +1,41 @@
+package io.fundy.fundyserver.notification.service;
+
+import io.fundy.fundyserver.notification.dto.NotificationResponseDTO;
+import io.fundy.fundyserver.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 사용자 알림 조회/읽음 처리
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationRepository notificationRepository;
+
+    // 알림 목록 (최신순, beforeId 는 이전 페이지 마지막 notificationId)
+    @Transactional(readOnly = true)
+    public List<NotificationResponseDTO> getNotifications(Integer userId, Long beforeId, int size) {
+        return notificationRepository.findPage(userId, beforeId, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    // 읽지 않은 알림 수 (카운터 행 PK 조회, count(*) 없음)
+    @Transactional(readOnly = true)
+    public int getUnreadCount(Integer userId) {
+        return notificationRepository.findUnreadCount(userId);
+    }
+
+    @Transactional
+    public void markRead(Integer userId, Long notificationId) {
+        notificationRepository.markRead(userId, notificationId);
+    }
+
+    @Transactional
+    public void markAllRead(Integer userId) {
+        notificationRepository.markAllRead(userId);
+    }
+}
@@ -0,0 +1,21 @@
+package io.fundy.fundyserver.project.controller;
+
+import io.fundy.fundyserver.project.service.FundingProgressStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/project")
+@RequiredArgsConstructor
+public class FundingProgressController {
+
+    private final FundingProgressStream progressStream;
+
+    // 후원 진행률 실시간 구독 (SSE, progress 이벤트)
+    @GetMapping(value = "/{projectId}/progress/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProgress(@PathVariable Long projectId) {
+        return progressStream.subscribe(projectId);
+    }
+}
@@ -1,31 +1,42 @@
-//package io.fundy.fundyserver.project.controller;
-//
-//import io.fundy.fundyserver.project.dto.project.ProjectRequestDTO;
-//import io.fundy.fundyserver.project.dto.project.ProjectResponseDTO;
-//import io.fundy.fundyserver.project.service.ProjectService;
-//import jakarta.validation.Valid;
-//import lombok.AllArgsConstructor;
-//import org.springframework.http.ResponseEntity;
-//import org.springframework.security.core.annotation.AuthenticationPrincipal;
-//import org.springframework.web.bind.annotation.PostMapping;
-//import org.springframework.web.bind.annotation.RequestBody;
-//import org.springframework.web.bind.annotation.RequestMapping;
-//import org.springframework.web.bind.annotation.RestController;
-//
-//@RestController
-//@RequestMapping("/api")
-//@AllArgsConstructor
-//public class ProductController {
-//
-//    private final ProjectService projectService;
-//
-//    @PostMapping("/project")
-//    public ResponseEntity<ProjectResponseDTO> createProject(
-//            @Valid @RequestBody ProjectRequestDTO requestDTO,
-//            @AuthenticationPrincipal String userId
-//    ) {
-//        ProjectResponseDTO response = projectService.createService(requestDTO, userId);
-//        return ResponseEntity.status(201).body(response);
-//    }
-//
-//}
+package io.fundy.fundyserver.project.controller;
+
+import io.fundy.fundyserver.project.dto.project.ProjectDetailDTO;
+import io.fundy.fundyserver.project.dto.project.ProjectRequestDTO;
+import io.fundy.fundyserver.project.dto.project.ProjectResponseDTO;
+import io.fundy.fundyserver.project.service.ProjectService;
+import io.fundy.fundyserver.register.security.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api")
+@AllArgsConstructor
+public class ProductController {
+
+    private final ProjectService projectService;
+
+    @PostMapping("/project")
+    public ResponseEntity<ProjectResponseDTO> createProject(
+            @Valid @RequestBody ProjectRequestDTO requestDTO,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        ProjectResponseDTO response = projectService.createService(requestDTO, principal.getUsername());
+        return ResponseEntity.status(201).body(response);
+    }
+
+    // 프로젝트 상세 (비로그인 허용, 조회수는 로그인 사용자면 회원 ID, 아니면 IP 기준으로 중복 제거)
+    @GetMapping("/project/{projectId:\\d+}")
+    public ResponseEntity<ProjectDetailDTO> getProject(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal CustomUserDetails principal,
+            HttpServletRequest request
+    ) {
+        String viewerKey = principal != null ? "u:" + principal.getUser().getId() : "ip:" + request.getRemoteAddr();
+        return ResponseEntity.ok(projectService.getProject(projectId, viewerKey));
+    }
+
+}
@@ -0,0 +1,29 @@
+package io.fundy.fundyserver.project.controller;
+
+import io.fundy.fundyserver.project.dto.project.ProjectBrowsePageDTO;
+import io.fundy.fundyserver.project.dto.project.ProjectBrowseSort;
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import io.fundy.fundyserver.project.service.ProjectBrowseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/project")
+@RequiredArgsConstructor
+public class ProjectBrowseController {
+
+    private final ProjectBrowseService browseService;
+
+    // 프로젝트 목록 (카테고리/상태 필터, 마감 임박 또는 최신 순, 커서 기반 페이지네이션)
+    @GetMapping("/browse")
+    public ResponseEntity<ProjectBrowsePageDTO> browse(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "IN_PROGRESS") ProjectStatus status,
+            @RequestParam(defaultValue = "DEADLINE") ProjectBrowseSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(browseService.browse(categoryId, status, sort, cursor, size));
+    }
+}
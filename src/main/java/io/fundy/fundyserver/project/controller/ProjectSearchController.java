@@ -0,0 +1,40 @@
+package io.fundy.fundyserver.project.controller;
+
+import io.fundy.fundyserver.project.dto.project.ProjectSearchResultDTO;
+import io.fundy.fundyserver.project.dto.project.ProjectSuggestionDTO;
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import io.fundy.fundyserver.project.service.ProjectSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/project/search")
+@RequiredArgsConstructor
+public class ProjectSearchController {
+
+    private final ProjectSearchIndex searchIndex;
+
+    // 제목/본문 검색 (관련도 순, 카테고리/상태 필터)
+    @GetMapping
+    public ResponseEntity<List<ProjectSearchResultDTO>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "IN_PROGRESS") ProjectStatus status,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(searchIndex.search(q, categoryId, status, size));
+    }
+
+    // 제목 자동완성
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<ProjectSuggestionDTO>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "IN_PROGRESS") ProjectStatus status,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(searchIndex.autocomplete(prefix, status, size));
+    }
+}
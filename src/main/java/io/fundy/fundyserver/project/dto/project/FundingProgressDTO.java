@@ -0,0 +1,17 @@
+package io.fundy.fundyserver.project.dto.project;
+
+import lombok.*;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+
+// 프로젝트 후원 진행률 DTO (SSE progress 이벤트)
+public class FundingProgressDTO {
+    private Long projectId;
+    private Integer currentAmount;
+    private Integer goalAmount;
+    private int percent;     // 달성률 (%)
+}
@@ -0,0 +1,28 @@
+package io.fundy.fundyserver.project.dto.project;
+
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+
+// 프로젝트 목록 항목 DTO
+public class ProjectBrowseItemDTO {
+    private Long projectId;
+    private Long categoryId;
+    private String title;
+    private String thumbnailUrl;
+    private Map<String, String> thumbnailVariants; // 크기별 썸네일 URL (목록은 card)
+    private Integer goalAmount;
+    private Integer currentAmount;
+    private LocalDate deadline;
+    private ProjectStatus productStatus;
+    private LocalDateTime createdAt;
+}
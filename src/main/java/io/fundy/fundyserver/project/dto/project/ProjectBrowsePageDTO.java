@@ -0,0 +1,18 @@
+package io.fundy.fundyserver.project.dto.project;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+
+// 프로젝트 목록 페이지 DTO (전체 개수 없이 다음 페이지 커서만 제공)
+public class ProjectBrowsePageDTO {
+    private List<ProjectBrowseItemDTO> items;
+    private String nextCursor;   // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,9 @@
+package io.fundy.fundyserver.project.dto.project;
+
+// 프로젝트 목록 정렬
+// DEADLINE : 마감 임박 순 (deadline ASC)
+// NEWEST   : 최신 등록 순 (created_at DESC)
+public enum ProjectBrowseSort {
+    DEADLINE,
+    NEWEST
+}
@@ -0,0 +1,51 @@
+package io.fundy.fundyserver.project.dto.project;
+
+import io.fundy.fundyserver.project.dto.reward.RewardResponseDTO;
+import io.fundy.fundyserver.project.entity.Project;
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+
+// 프로젝트 상세 DTO
+public class ProjectDetailDTO {
+    private Long projectId;
+    private Long categoryId;
+    private String title;
+    private String description;
+    private String thumbnailUrl;
+    private Integer goalAmount;
+    private Integer currentAmount;
+    private LocalDate deadline;
+    private ProjectStatus productStatus;
+    private Long viewCount;       // DB 반영분 + 아직 반영되지 않은 조회수
+    private LocalDateTime createdAt;
+    private List<RewardResponseDTO> rewards;
+
+    public static ProjectDetailDTO fromEntity(Project project, long viewCount) {
+        return ProjectDetailDTO.builder()
+                .projectId(project.getId())
+                .categoryId(project.getCategory().getId())
+                .title(project.getTitle())
+                .description(project.getDescription())
+                .thumbnailUrl(project.getThumbnailUrl())
+                .goalAmount(project.getGoalAmount())
+                .currentAmount(project.getCurrentAmount())
+                .deadline(project.getDeadline())
+                .productStatus(project.getProductStatus())
+                .viewCount(viewCount)
+                .createdAt(project.getCreatedAt())
+                .rewards(project.getRewards().stream()
+                        .map(r -> new RewardResponseDTO(r.getId(), r.getTitle(), r.getAmount(), r.getDescription(), r.getStock()))
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package io.fundy.fundyserver.project.dto.project;
+
+import io.fundy.fundyserver.register.exception.FieldErrorResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일괄 등록 결과 (입력 레코드 1건당 한 줄)
+@Getter
+@AllArgsConstructor
+public class ProjectImportResultDTO {
+
+    private int line;                        // 레코드가 시작하는 입력 줄 번호 (1부터)
+    private Status status;
+    private Long projectId;                  // CREATED 일 때만
+    private List<FieldErrorResponse> errors; // INVALID / FAILED 일 때만
+
+    public enum Status {
+        CREATED, // 저장됨
+        INVALID, // 형식/검증 오류 (저장하지 않음)
+        FAILED   // 저장 중 DB 오류
+    }
+
+    public static ProjectImportResultDTO created(int line, Long projectId) {
+        return new ProjectImportResultDTO(line, Status.CREATED, projectId, null);
+    }
+
+    public static ProjectImportResultDTO invalid(int line, List<FieldErrorResponse> errors) {
+        return new ProjectImportResultDTO(line, Status.INVALID, null, errors);
+    }
+
+    public static ProjectImportResultDTO failed(int line, String message) {
+        return new ProjectImportResultDTO(line, Status.FAILED, null, List.of(new FieldErrorResponse(null, message)));
+    }
+}
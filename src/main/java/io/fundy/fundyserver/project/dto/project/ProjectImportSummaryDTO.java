@@ -0,0 +1,17 @@
+package io.fundy.fundyserver.project.dto.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 등록 결과 마지막 줄
+@Getter
+@AllArgsConstructor
+public class ProjectImportSummaryDTO {
+
+    private final boolean summary = true; // 결과 줄과 구분용
+    private long total;
+    private long created;
+    private long invalid;
+    private long failed;
+    private long elapsedMillis;
+}
@@ -1,24 +1,42 @@
-//package io.fundy.fundyserver.project.dto.project;
-//
-//import io.fundy.fundyserver.project.dto.reward.RewardRequestDTO;
-//import lombok.AllArgsConstructor;
-//import lombok.Getter;
-//import lombok.NoArgsConstructor;
-//import lombok.Setter;
-//
-//import java.time.LocalDate;
-//import java.util.List;
-//
-//@Getter
-//@Setter
-//@NoArgsConstructor
-//@AllArgsConstructor
-//public class ProjectRequestDTO {
-//    private String title;
-//    private String description;
-//    private Integer goalAmount;
-//    private LocalDate deadline;
-//    private Long categoryId;
-//    private List<RewardRequestDTO> rewards;
-//}
-//
+package io.fundy.fundyserver.project.dto.project;
+
+import io.fundy.fundyserver.project.dto.reward.RewardRequestDTO;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectRequestDTO {
+    @NotBlank(message = "프로젝트 제목은 필수입니다.")
+    @Size(max = 100, message = "프로젝트 제목은 100자 이하여야 합니다.")
+    private String title;
+
+    @NotBlank(message = "프로젝트 설명은 필수입니다.")
+    private String description;
+
+    @NotNull(message = "목표 금액은 필수입니다.")
+    @Positive(message = "목표 금액은 0보다 커야 합니다.")
+    private Integer goalAmount;
+
+    @NotNull(message = "마감일은 필수입니다.")
+    @Future(message = "마감일은 오늘 이후여야 합니다.")
+    private LocalDate deadline;
+
+    @NotNull(message = "카테고리는 필수입니다.")
+    private Long categoryId;
+
+    @Size(max = 255, message = "썸네일 URL 은 255자 이하여야 합니다.")
+    private String thumbnailUrl; // POST /api/media 로 올린 이미지 URL (선택)
+
+    @Size(max = 100, message = "리워드는 100개 이하여야 합니다.")
+    private List<@Valid RewardRequestDTO> rewards;
+}
@@ -1,15 +1,15 @@
-//package io.fundy.fundyserver.project.dto.project;
-//
-//import lombok.AllArgsConstructor;
-//import lombok.Getter;
-//import lombok.NoArgsConstructor;
-//import lombok.Setter;
-//
-//@Getter
-//@Setter
-//@NoArgsConstructor
-//@AllArgsConstructor
-//public class ProjectResponseDTO {
-//    private Long projectId;
-//    private String status; // WAITING_APPROVAL
-//}
+package io.fundy.fundyserver.project.dto.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectResponseDTO {
+    private Long projectId;
+    private String status; // WAITING_APPROVAL
+}
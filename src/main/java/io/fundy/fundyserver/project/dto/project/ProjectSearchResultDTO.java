@@ -0,0 +1,19 @@
+package io.fundy.fundyserver.project.dto.project;
+
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import lombok.*;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+
+// 프로젝트 검색 결과 항목 DTO (score 내림차순)
+public class ProjectSearchResultDTO {
+    private Long projectId;
+    private Long categoryId;
+    private String title;
+    private ProjectStatus productStatus;
+    private double score;   // BM25 점수
+}
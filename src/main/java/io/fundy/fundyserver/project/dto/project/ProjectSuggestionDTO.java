@@ -0,0 +1,15 @@
+package io.fundy.fundyserver.project.dto.project;
+
+import lombok.*;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+
+// 프로젝트 제목 자동완성 항목 DTO
+public class ProjectSuggestionDTO {
+    private Long projectId;
+    private String title;
+}
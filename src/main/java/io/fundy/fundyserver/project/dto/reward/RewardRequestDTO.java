@@ -1,17 +1,27 @@
-//package io.fundy.fundyserver.project.dto.reward;
-//
-//import lombok.AllArgsConstructor;
-//import lombok.Getter;
-//import lombok.NoArgsConstructor;
-//import lombok.Setter;
-//
-//@Getter
-//@Setter
-//@NoArgsConstructor
-//@AllArgsConstructor
-//public class RewardRequestDTO {
-//    private String title;
-//    private Integer amount;
-//    private String description;
-//    private Integer stock; // null 또는 -1 가능
-//}
+package io.fundy.fundyserver.project.dto.reward;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RewardRequestDTO {
+    @NotBlank(message = "리워드 제목은 필수입니다.")
+    @Size(max = 100, message = "리워드 제목은 100자 이하여야 합니다.")
+    private String title;
+
+    @NotNull(message = "리워드 금액은 필수입니다.")
+    @Positive(message = "리워드 금액은 0보다 커야 합니다.")
+    private Integer amount;
+
+    @NotBlank(message = "리워드 설명은 필수입니다.")
+    private String description;
+
+    @Min(value = -1, message = "수량은 -1(무제한) 이상이어야 합니다.")
+    private Integer stock; // null 또는 -1 가능
+}
@@ -0,0 +1,52 @@
+package io.fundy.fundyserver.project.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 프로젝트 목록 조회용 비정규화 읽기 모델
+// projects 의 목록 화면 컬럼만 복제하고, (필터, 정렬키, id) 복합 인덱스로 keyset 페이지네이션을 한다.
+@Entity
+@Table(name = "project_browse", indexes = {
+        @Index(name = "idx_browse_status_deadline", columnList = "product_status, deadline, project_id"),
+        @Index(name = "idx_browse_category_status_deadline", columnList = "category_id, product_status, deadline, project_id"),
+        @Index(name = "idx_browse_status_created", columnList = "product_status, created_at, project_id"),
+        @Index(name = "idx_browse_category_status_created", columnList = "category_id, product_status, created_at, project_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectBrowse {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(name = "thumbnail_url", length = 255)
+    private String thumbnailUrl;
+
+    @Column(name = "goal_amount", nullable = false)
+    private Integer goalAmount;
+
+    @Column(name = "current_amount", nullable = false)
+    private Integer currentAmount;
+
+    @Column(nullable = false)
+    private LocalDate deadline;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "product_status", nullable = false, length = 30)
+    private ProjectStatus productStatus;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,12 +1,12 @@
-//package io.fundy.fundyserver.project.entity;
-//
-//public enum ProjectStatus {
-//    WAITING_APPROVAL, // 관리자 심사 중
-//    APPROVED,         // 심사 통과
-//    IN_PROGRESS,      // 진행 중 (목표금액 달성 전, 마감일 전)
-//    REJECTED,         // 심사 거절
-//    COMPLETED,        // 마감일 까지 펀딩 성공
-//    FAILED            // 마감일 까지 펀딩 실패
-//}
-//
-//
+package io.fundy.fundyserver.project.entity;
+
+public enum ProjectStatus {
+    WAITING_APPROVAL, // 관리자 심사 중
+    APPROVED,         // 심사 통과
+    IN_PROGRESS,      // 진행 중 (목표금액 달성 전, 마감일 전)
+    REJECTED,         // 심사 거절
+    COMPLETED,        // 마감일 까지 펀딩 성공
+    FAILED            // 마감일 까지 펀딩 실패
+}
+
+
@@ -0,0 +1,16 @@
+package io.fundy.fundyserver.project.event;
+
+// 프로젝트 행(projects)이 생성/수정/삭제되었음을 알리는 이벤트
+// 목록/검색 등 읽기 모델은 이 이벤트를 받아 해당 프로젝트만 갱신한다.
+// change 가 AMOUNT 이면 후원 금액만 바뀐 것이므로 제목/본문을 쓰는 검색 인덱스는 건너뛴다.
+public record ProjectChangedEvent(Long projectId, Change change) {
+
+    public ProjectChangedEvent(Long projectId) {
+        this(projectId, Change.CONTENT);
+    }
+
+    public enum Change {
+        CONTENT, // 생성/수정/상태 변경/삭제
+        AMOUNT   // current_amount 만 변경
+    }
+}
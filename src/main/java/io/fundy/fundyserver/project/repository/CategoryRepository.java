@@ -1,11 +1,9 @@
-//package io.fundy.fundyserver.project.repository;
-//
-//import io.fundy.fundyserver.project.entity.Category;
-//import org.springframework.stereotype.Repository;
-//
-//import java.util.Optional;
-//
-//@Repository
-//public interface CategoryRepository {
-//    Optional<Category> findById(Long categoryId);
-//}
+package io.fundy.fundyserver.project.repository;
+
+import io.fundy.fundyserver.project.entity.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+}
@@ -0,0 +1,112 @@
+package io.fundy.fundyserver.project.repository;
+
+import io.fundy.fundyserver.media.service.MediaVariant;
+import io.fundy.fundyserver.project.dto.project.ProjectBrowseItemDTO;
+import io.fundy.fundyserver.project.dto.project.ProjectBrowseSort;
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// project_browse 읽기 모델 조회/갱신 (JDBC)
+// 목록은 OFFSET/COUNT 없이 (정렬키, project_id) 기준 keyset 조건으로 인덱스 범위만 읽는다.
+@Repository
+@RequiredArgsConstructor
+public class ProjectBrowseRepository {
+
+    private static final String COLUMNS =
+            "project_id, category_id, title, thumbnail_url, goal_amount, current_amount, deadline, product_status, created_at";
+
+    private static final String UPSERT_SQL = "INSERT INTO project_browse (" + COLUMNS + ") "
+            + "SELECT id, category_id, title, thumbnail_url, goal_amount, current_amount, deadline, product_status, created_at "
+            + "FROM projects WHERE id = ? "
+            + "ON DUPLICATE KEY UPDATE category_id = VALUES(category_id), title = VALUES(title), "
+            + "thumbnail_url = VALUES(thumbnail_url), goal_amount = VALUES(goal_amount), "
+            + "current_amount = VALUES(current_amount), deadline = VALUES(deadline), "
+            + "product_status = VALUES(product_status)";
+
+    private static final String REBUILD_SQL = "INSERT INTO project_browse (" + COLUMNS + ") "
+            + "SELECT id, category_id, title, thumbnail_url, goal_amount, current_amount, deadline, product_status, created_at "
+            + "FROM projects "
+            + "ON DUPLICATE KEY UPDATE category_id = VALUES(category_id), title = VALUES(title), "
+            + "thumbnail_url = VALUES(thumbnail_url), goal_amount = VALUES(goal_amount), "
+            + "current_amount = VALUES(current_amount), deadline = VALUES(deadline), "
+            + "product_status = VALUES(product_status)";
+
+    private static final RowMapper<ProjectBrowseItemDTO> ROW_MAPPER = (rs, i) -> ProjectBrowseItemDTO.builder()
+            .projectId(rs.getLong("project_id"))
+            .categoryId(rs.getLong("category_id"))
+            .title(rs.getString("title"))
+            .thumbnailUrl(rs.getString("thumbnail_url"))
+            .thumbnailVariants(MediaVariant.urlsOf(rs.getString("thumbnail_url")))
+            .goalAmount(rs.getInt("goal_amount"))
+            .currentAmount(rs.getInt("current_amount"))
+            .deadline(rs.getDate("deadline").toLocalDate())
+            .productStatus(ProjectStatus.valueOf(rs.getString("product_status")))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // keyset 목록 조회 (afterSortKey/afterId 가 null 이면 첫 페이지)
+    public List<ProjectBrowseItemDTO> findPage(Long categoryId, ProjectStatus status, ProjectBrowseSort sort,
+                                               Object afterSortKey, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS)
+                .append(" FROM project_browse WHERE product_status = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(status.name());
+
+        if (categoryId != null) {
+            sql.append(" AND category_id = ?");
+            args.add(categoryId);
+        }
+
+        if (sort == ProjectBrowseSort.DEADLINE) {
+            if (afterId != null) {
+                sql.append(" AND (deadline > ? OR (deadline = ? AND project_id > ?))");
+                Date key = Date.valueOf((LocalDate) afterSortKey);
+                args.add(key);
+                args.add(key);
+                args.add(afterId);
+            }
+            sql.append(" ORDER BY deadline ASC, project_id ASC");
+        } else {
+            if (afterId != null) {
+                sql.append(" AND (created_at < ? OR (created_at = ? AND project_id < ?))");
+                Timestamp key = Timestamp.valueOf((LocalDateTime) afterSortKey);
+                args.add(key);
+                args.add(key);
+                args.add(afterId);
+            }
+            sql.append(" ORDER BY created_at DESC, project_id DESC");
+        }
+        sql.append(" LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    // projects 의 현재 행으로 읽기 모델 갱신 (원본이 없으면 삭제)
+    public void refresh(Long projectId) {
+        jdbcTemplate.update(UPSERT_SQL, projectId);
+        jdbcTemplate.update("DELETE FROM project_browse WHERE project_id = ? "
+                + "AND NOT EXISTS (SELECT 1 FROM projects WHERE id = ?)", projectId, projectId);
+    }
+
+    // 전체 재구성
+    public int rebuild() {
+        return jdbcTemplate.update(REBUILD_SQL);
+    }
+
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("SELECT project_id FROM project_browse LIMIT 1", Long.class).isEmpty();
+    }
+}
@@ -1,9 +1,9 @@
-//package io.fundy.fundyserver.project.repository;
-//
-//import io.fundy.fundyserver.project.entity.Project;
-//import org.springframework.stereotype.Repository;
-//
-//@Repository
-//public interface ProjectRepository {
-//    Project save(Project project);
-//}
+package io.fundy.fundyserver.project.repository;
+
+import io.fundy.fundyserver.project.entity.Project;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProjectRepository extends JpaRepository<Project, Long> {
+}
@@ -0,0 +1,14 @@
+package io.fundy.fundyserver.project.repository;
+
+import io.fundy.fundyserver.project.entity.Reward;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RewardRepository extends JpaRepository<Reward, Long> {
+
+    // 프로젝트에 속한 리워드만 조회
+    Optional<Reward> findByIdAndProject_Id(Long id, Long projectId);
+}
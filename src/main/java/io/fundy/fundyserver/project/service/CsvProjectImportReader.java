@@ -0,0 +1,218 @@
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.project.dto.project.ProjectRequestDTO;
+import io.fundy.fundyserver.project.dto.reward.RewardRequestDTO;
+import io.fundy.fundyserver.register.exception.FieldErrorResponse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+// CSV 입력 (RFC 4180, 첫 행은 헤더, 열 순서 무관)
+// 한 행 = 프로젝트 1건 + 리워드 0~1개. 리워드가 여러 개면 같은 ref 값을 가진 행을 연속으로 두며,
+// 프로젝트 열은 그 묶음의 첫 행 값을 사용한다 (ref 가 비어 있으면 행마다 별도 프로젝트).
+final class CsvProjectImportReader implements ProjectImportReader {
+
+    static final List<String> REQUIRED_COLUMNS = List.of("title", "description", "goalAmount", "deadline", "categoryId");
+    private static final List<String> REWARD_COLUMNS = List.of("rewardTitle", "rewardAmount", "rewardDescription", "rewardStock");
+    // 검증(@Size max = 100)에서 걸리도록 하나만 더 담고 나머지는 버린다 (메모리 상한)
+    private static final int MAX_REWARDS = 101;
+
+    private final BufferedReader in;
+    private final int maxChars;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int line = 1;
+    private boolean eof;
+    private Record pending; // 다음 묶음의 첫 행 (묶음 끝을 확인하며 미리 읽은 행)
+
+    CsvProjectImportReader(BufferedReader in, int maxChars) throws IOException {
+        this.in = in;
+        this.maxChars = maxChars;
+        Record header = readRecord();
+        if (header == null || header.tooLong()) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+        for (int i = 0; i < header.fields().size(); i++) {
+            columns.put(header.fields().get(i).strip().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("CSV 헤더에 " + column + " 열이 없습니다.");
+            }
+        }
+    }
+
+    @Override
+    public Row next() throws IOException {
+        Record first = pending != null ? pending : readRecord();
+        pending = null;
+        while (first != null && first.isBlank()) {
+            first = readRecord();
+        }
+        if (first == null) {
+            return null;
+        }
+        if (first.tooLong()) {
+            skipGroup(value(first, "ref"));
+            return Row.error(first.line(), null, "레코드가 최대 크기(" + maxChars + "자)를 넘습니다.");
+        }
+
+        List<FieldErrorResponse> errors = new ArrayList<>();
+        ProjectRequestDTO request = new ProjectRequestDTO();
+        request.setTitle(value(first, "title"));
+        request.setDescription(value(first, "description"));
+        request.setGoalAmount(integer(first, "goalAmount", "goalAmount", errors));
+        request.setDeadline(date(first, errors));
+        Integer categoryId = integer(first, "categoryId", "categoryId", errors);
+        request.setCategoryId(categoryId != null ? categoryId.longValue() : null);
+        request.setThumbnailUrl(value(first, "thumbnailUrl"));
+
+        List<RewardRequestDTO> rewards = new ArrayList<>();
+        addReward(first, rewards, errors);
+        String ref = value(first, "ref");
+        if (ref != null) {
+            while ((pending = readRecord()) != null) {
+                if (pending.isBlank()) {
+                    continue;
+                }
+                if (!ref.equals(value(pending, "ref"))) {
+                    break;
+                }
+                if (pending.tooLong()) {
+                    errors.add(new FieldErrorResponse(null, pending.line() + "행이 최대 크기(" + maxChars + "자)를 넘습니다."));
+                } else {
+                    addReward(pending, rewards, errors);
+                }
+                pending = null;
+            }
+        }
+        request.setRewards(rewards);
+        return errors.isEmpty() ? Row.of(first.line(), request) : new Row(first.line(), null, errors);
+    }
+
+    private void addReward(Record record, List<RewardRequestDTO> rewards, List<FieldErrorResponse> errors) {
+        if (REWARD_COLUMNS.stream().allMatch(column -> value(record, column) == null)) {
+            return; // 리워드 없는 행
+        }
+        if (rewards.size() >= MAX_REWARDS) {
+            return;
+        }
+        String prefix = "rewards[" + rewards.size() + "].";
+        rewards.add(new RewardRequestDTO(
+                value(record, "rewardTitle"),
+                integer(record, "rewardAmount", prefix + "amount", errors),
+                value(record, "rewardDescription"),
+                integer(record, "rewardStock", prefix + "stock", errors)));
+    }
+
+    // 묶음의 나머지 행 건너뜀
+    private void skipGroup(String ref) throws IOException {
+        if (ref == null) {
+            return;
+        }
+        while ((pending = readRecord()) != null && (pending.isBlank() || ref.equals(value(pending, "ref")))) {
+            pending = null;
+        }
+    }
+
+    // 열 값 (없거나 비어 있으면 null)
+    private String value(Record record, String column) {
+        Integer index = columns.get(column.toLowerCase(Locale.ROOT));
+        if (index == null || index >= record.fields().size()) {
+            return null;
+        }
+        String value = record.fields().get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Integer integer(Record record, String column, String field, List<FieldErrorResponse> errors) {
+        String value = value(record, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            errors.add(new FieldErrorResponse(field, "숫자가 아닙니다: " + value));
+            return null;
+        }
+    }
+
+    private LocalDate date(Record record, List<FieldErrorResponse> errors) {
+        String value = value(record, "deadline");
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            errors.add(new FieldErrorResponse("deadline", "날짜 형식(yyyy-MM-dd)이 아닙니다: " + value));
+            return null;
+        }
+    }
+
+    // 레코드 하나 읽기 (따옴표 안의 쉼표/줄바꿈 허용, "" 는 따옴표 한 개), 입력이 끝나면 null
+    private Record readRecord() throws IOException {
+        if (eof) {
+            return null;
+        }
+        int startLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int chars = 0;
+        boolean quoted = false;
+        boolean read = false;
+        int c;
+        while ((c = in.read()) != -1) {
+            read = true;
+            if (c == '\n') {
+                line++;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    if (in.read() == '"') {
+                        chars = append(field, '"', chars);
+                    } else {
+                        in.reset();
+                        quoted = false;
+                    }
+                } else {
+                    chars = append(field, (char) c, chars);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                fields.add(field.toString());
+                return new Record(startLine, fields, chars > maxChars);
+            } else if (c != '\r') {
+                chars = append(field, (char) c, chars);
+            }
+        }
+        eof = true;
+        if (!read) {
+            return null;
+        }
+        fields.add(field.toString());
+        return new Record(startLine, fields, chars > maxChars);
+    }
+
+    // maxChars 를 넘으면 더 담지 않고 개수만 센다 (레코드 끝까지는 읽어야 다음 레코드를 찾을 수 있음)
+    private int append(StringBuilder field, char c, int chars) {
+        if (chars < maxChars) {
+            field.append(c);
+        }
+        return chars + 1;
+    }
+
+    private record Record(int line, List<String> fields, boolean tooLong) {
+        boolean isBlank() {
+            return fields.size() == 1 && fields.get(0).isBlank();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.fundy.fundyserver.project.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "project.progress-stream")
+public class FundingProgressProperties {
+    // 진행률 확인 주기 (프로젝트당 최대 한 프레임)
+    private Duration tick = Duration.ofSeconds(1);
+    // 연결별 미전송 프레임 최대 수 (넘치면 느린 구독자로 보고 연결 종료)
+    private int bufferSize = 16;
+    // 값이 바뀌지 않아도 연결 확인용 주석 프레임을 보내는 간격
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    // 연결 최대 유지 시간 (클라이언트는 EventSource 로 자동 재연결)
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+    // 전송 스레드 수
+    private int senderThreads = 4;
+    // 인스턴스당 최대 구독자 수 (넘으면 503)
+    private int maxSubscribers = 10_000;
+}
@@ -0,0 +1,269 @@
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.project.dto.project.FundingProgressDTO;
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 프로젝트 후원 진행률 SSE 스트림
+// 구독자가 몇 명이든 tick 마다 구독 중인 프로젝트를 한 번의 IN 쿼리로 읽고,
+// 값이 바뀐 프로젝트에만 프레임 하나를 만들어 모든 구독자에게 보낸다 (그 사이 후원 건수와 무관).
+// 전송은 연결별 크기 제한 대기열 + 전송 스레드에서 하며, 대기열이 넘치는 느린 구독자는 연결을 끊는다.
+@Slf4j
+@Component
+@EnableConfigurationProperties(FundingProgressProperties.class)
+public class FundingProgressStream {
+
+    private static final int QUERY_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FundingProgressProperties props;
+    private final Map<Long, ProjectChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final Counter framesSent;
+    private final Counter droppedSubscribers;
+
+    @Autowired
+    public FundingProgressStream(JdbcTemplate jdbcTemplate,
+                                 FundingProgressProperties props,
+                                 MeterRegistry meterRegistry) {
+        this(jdbcTemplate, props, meterRegistry, newSender(props.getSenderThreads()));
+    }
+
+    // 테스트에서 전송 스레드를 직접 넘길 때
+    FundingProgressStream(JdbcTemplate jdbcTemplate,
+                          FundingProgressProperties props,
+                          MeterRegistry meterRegistry,
+                          ExecutorService sender) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.props = props;
+        this.sender = sender;
+        meterRegistry.gauge("funding.progress.subscribers", subscriberCount);
+        meterRegistry.gauge("funding.progress.projects", channels, Map::size);
+        this.framesSent = Counter.builder("funding.progress.frames")
+                .description("구독자에게 보낸 진행률 프레임 수")
+                .register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("funding.progress.dropped")
+                .description("대기열이 넘쳐 끊은 느린 구독자 수")
+                .register(meterRegistry);
+    }
+
+    // 프로젝트 진행률 구독 (현재 값을 바로 한 번 보낸다)
+    public SseEmitter subscribe(Long projectId) {
+        if (subscriberCount.incrementAndGet() > props.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        }
+        SseEmitter emitter = new SseEmitter(props.getEmitterTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(projectId, emitter, new ArrayBlockingQueue<>(props.getBufferSize()));
+        ProjectChannel channel = channels.compute(projectId, (id, existing) -> {
+            ProjectChannel c = existing != null ? existing : new ProjectChannel();
+            c.subscribers.add(subscriber);
+            return c;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        // 이미 구독자가 있는 프로젝트는 마지막으로 보낸 값 재사용
+        FundingProgressDTO current = channel.last;
+        if (current == null) {
+            try {
+                current = load(List.of(projectId)).get(projectId);
+            } catch (DataAccessException e) {
+                unsubscribe(subscriber);
+                throw e;
+            }
+            if (current == null) {
+                unsubscribe(subscriber);
+                throw new ApiException(ErrorCode.PROJECT_NOT_FOUND);
+            }
+            // 방금 보낸 값을 기록해 다음 tick 이 같은 프레임을 다시 보내지 않게 한다
+            // (그 사이 tick 이 기록한 값은 덮어쓰지 않는다, 경합으로 덮어써도 다음 tick 에 한 번 더 보낼 뿐이다)
+            if (channel.last == null) {
+                channel.last = current;
+                channel.lastSentAt = System.nanoTime();
+            }
+        }
+        enqueue(subscriber, progressEvent(current));
+        return emitter;
+    }
+
+    // 구독 중인 프로젝트 진행률 확인 후 바뀐 프로젝트에만 전송
+    @Scheduled(fixedDelayString = "${project.progress-stream.tick:1s}")
+    public void tick() {
+        if (channels.isEmpty()) {
+            return;
+        }
+        List<Long> projectIds = new ArrayList<>(channels.keySet());
+        long now = System.nanoTime();
+        long heartbeatNanos = props.getHeartbeatInterval().toNanos();
+        try {
+            for (int from = 0; from < projectIds.size(); from += QUERY_CHUNK) {
+                List<Long> chunk = projectIds.subList(from, Math.min(from + QUERY_CHUNK, projectIds.size()));
+                Map<Long, FundingProgressDTO> progress = load(chunk);
+                for (Long projectId : chunk) {
+                    ProjectChannel channel = channels.get(projectId);
+                    FundingProgressDTO current = progress.get(projectId);
+                    if (channel == null || current == null) {
+                        continue;
+                    }
+                    if (!sameProgress(channel.last, current)) {
+                        channel.last = current;
+                        channel.lastSentAt = now;
+                        broadcast(channel, progressEvent(current));
+                    } else if (now - channel.lastSentAt >= heartbeatNanos) {
+                        channel.lastSentAt = now;
+                        broadcast(channel, new Frame(SseEmitter.event().comment("keep-alive").build()));
+                    }
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Funding progress tick failed: {}", e.getMessage());
+        }
+    }
+
+    private static ExecutorService newSender(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "funding-progress-sender-" + sequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private Map<Long, FundingProgressDTO> load(List<Long> projectIds) {
+        String placeholders = String.join(",", Collections.nCopies(projectIds.size(), "?"));
+        Map<Long, FundingProgressDTO> result = new HashMap<>();
+        jdbcTemplate.query("SELECT id, current_amount, goal_amount FROM projects WHERE id IN (" + placeholders + ")",
+                rs -> {
+                    int current = rs.getInt("current_amount");
+                    int goal = rs.getInt("goal_amount");
+                    long projectId = rs.getLong("id");
+                    result.put(projectId, new FundingProgressDTO(projectId, current, goal,
+                            goal > 0 ? (int) (current * 100L / goal) : 0));
+                }, projectIds.toArray());
+        return result;
+    }
+
+    private void broadcast(ProjectChannel channel, Frame event) {
+        for (Subscriber subscriber : channel.subscribers) {
+            enqueue(subscriber, event);
+        }
+    }
+
+    // 연결 대기열에 추가 (넘치면 연결 종료), 전송 중이 아니면 전송 작업 시작
+    private void enqueue(Subscriber subscriber, Frame event) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            // 연결 종료(complete)는 전송 스레드에서 (느린 소켓 쓰기에 tick 스레드가 묶이지 않도록)
+            droppedSubscribers.increment();
+            unsubscribe(subscriber);
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                unsubscribe(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        Frame event;
+        while (!subscriber.closed.get() && (event = subscriber.queue.poll()) != null) {
+            try {
+                subscriber.emitter.send(event.items());
+                framesSent.increment();
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(subscriber);
+                return;
+            }
+        }
+        if (subscriber.closed.get()) {
+            subscriber.emitter.complete();
+            return;
+        }
+        subscriber.draining.set(false);
+        // 플래그를 내리는 사이에 들어온 프레임 / 종료 요청 처리
+        if (!subscriber.queue.isEmpty() || subscriber.closed.get()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscriber.queue.clear();
+        channels.computeIfPresent(subscriber.projectId, (id, channel) -> {
+            channel.subscribers.remove(subscriber);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    // SseEventBuilder.build() 는 호출할 때마다 내용을 덧붙이므로 한 번만 만들어 모든 구독자가 공유한다
+    private static Frame progressEvent(FundingProgressDTO progress) {
+        return new Frame(SseEmitter.event().name("progress").data(progress).build());
+    }
+
+    private static boolean sameProgress(FundingProgressDTO a, FundingProgressDTO b) {
+        return a != null && Objects.equals(a.getCurrentAmount(), b.getCurrentAmount())
+                && Objects.equals(a.getGoalAmount(), b.getGoalAmount());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(s -> s.emitter.complete()));
+        sender.shutdown();
+    }
+
+    // 프로젝트별 구독자 묶음과 마지막으로 보낸 값
+    private static final class ProjectChannel {
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        volatile FundingProgressDTO last;
+        volatile long lastSentAt = System.nanoTime();
+    }
+
+    private record Frame(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+    }
+
+    private static final class Subscriber {
+        final Long projectId;
+        final SseEmitter emitter;
+        final BlockingQueue<Frame> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(Long projectId, SseEmitter emitter, BlockingQueue<Frame> queue) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
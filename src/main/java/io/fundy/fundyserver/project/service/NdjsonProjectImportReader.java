@@ -0,0 +1,72 @@
+package io.fundy.fundyserver.project.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fundy.fundyserver.project.dto.project.ProjectRequestDTO;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.stream.Collectors;
+
+// NDJSON 입력 (한 줄 = ProjectRequestDTO JSON 하나, 빈 줄은 건너뜀)
+final class NdjsonProjectImportReader implements ProjectImportReader {
+
+    private final Reader in;
+    private final ObjectMapper objectMapper;
+    private final int maxChars;
+    private final StringBuilder buffer = new StringBuilder();
+    private int line;
+    private boolean eof;
+
+    NdjsonProjectImportReader(Reader in, ObjectMapper objectMapper, int maxChars) {
+        this.in = in;
+        this.objectMapper = objectMapper;
+        this.maxChars = maxChars;
+    }
+
+    @Override
+    public Row next() throws IOException {
+        while (!eof) {
+            line++;
+            if (!readLine()) {
+                return Row.error(line, null, "레코드가 최대 크기(" + maxChars + "자)를 넘습니다.");
+            }
+            String json = buffer.toString().strip();
+            if (json.isEmpty()) {
+                continue;
+            }
+            try {
+                return Row.of(line, objectMapper.readValue(json, ProjectRequestDTO.class));
+            } catch (JsonMappingException e) {
+                // 타입이 맞지 않는 필드는 필드 경로와 함께 보고
+                String field = e.getPath().isEmpty() ? null : e.getPath().stream()
+                        .map(ref -> ref.getFieldName() != null ? "." + ref.getFieldName() : "[" + ref.getIndex() + "]")
+                        .collect(Collectors.joining()).substring(1);
+                return Row.error(line, field, "JSON 형식 오류: " + e.getOriginalMessage());
+            } catch (JsonProcessingException e) {
+                return Row.error(line, null, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    // 한 줄을 buffer 에 읽음 (maxChars 를 넘는 줄은 끝까지 버리고 false)
+    private boolean readLine() throws IOException {
+        buffer.setLength(0);
+        boolean fits = true;
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\n') {
+                return fits;
+            }
+            if (buffer.length() < maxChars) {
+                buffer.append((char) c);
+            } else {
+                fits = false;
+            }
+        }
+        eof = true;
+        return fits;
+    }
+}
@@ -0,0 +1,110 @@
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.project.dto.project.ProjectBrowseItemDTO;
+import io.fundy.fundyserver.project.dto.project.ProjectBrowsePageDTO;
+import io.fundy.fundyserver.project.dto.project.ProjectBrowseSort;
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import io.fundy.fundyserver.project.event.ProjectChangedEvent;
+import io.fundy.fundyserver.project.repository.ProjectBrowseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+// 프로젝트 목록 (project_browse 읽기 모델 + keyset 페이지네이션)
+// 커서는 마지막 항목의 (정렬키, project_id) 를 인코딩한 값이라 몇 번째 페이지든 비용이 같다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectBrowseService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ProjectBrowseRepository browseRepository;
+
+    @Transactional(readOnly = true)
+    public ProjectBrowsePageDTO browse(Long categoryId, ProjectStatus status, ProjectBrowseSort sort,
+                                       String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Object afterSortKey = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            Cursor after = decode(cursor, sort);
+            afterSortKey = after.sortKey();
+            afterId = after.projectId();
+        }
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+        List<ProjectBrowseItemDTO> rows = browseRepository.findPage(categoryId, status, sort, afterSortKey, afterId, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<ProjectBrowseItemDTO> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ProjectBrowseItemDTO last = items.get(items.size() - 1);
+            String sortKey = sort == ProjectBrowseSort.DEADLINE ? last.getDeadline().toString() : last.getCreatedAt().toString();
+            nextCursor = encode(sort, sortKey, last.getProjectId());
+        }
+
+        return ProjectBrowsePageDTO.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 프로젝트 변경 시 같은 트랜잭션 안에서 읽기 모델 갱신 (트랜잭션 밖이면 즉시)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        browseRepository.refresh(event.projectId());
+    }
+
+    // 기동 시 읽기 모델이 비어 있으면 projects 로부터 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (browseRepository.isEmpty()) {
+                int rows = browseRepository.rebuild();
+                log.info("Project browse index rebuilt with {} projects", rows);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Project browse index was not rebuilt: {}", e.getMessage());
+        }
+    }
+
+    // 커서 = base64url("정렬|정렬키|project_id"), 다른 정렬에서 받은 커서는 거부한다
+    static String encode(ProjectBrowseSort sort, String sortKey, Long projectId) {
+        String raw = sort.name() + "|" + sortKey + "|" + projectId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 형식/정렬 불일치는 조회 전에 IllegalArgumentException(400) 으로 알린다
+    static Cursor decode(String cursor, ProjectBrowseSort sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || !sort.name().equals(parts[0])) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            Object sortKey = sort == ProjectBrowseSort.DEADLINE ? LocalDate.parse(parts[1]) : LocalDateTime.parse(parts[1]);
+            return new Cursor(sortKey, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    record Cursor(Object sortKey, Long projectId) {
+    }
+}
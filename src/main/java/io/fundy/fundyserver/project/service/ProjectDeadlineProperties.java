@@ -0,0 +1,24 @@
+package io.fundy.fundyserver.project.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "project.deadline")
+public class ProjectDeadlineProperties {
+    // 마감 확인 주기 (메모리 큐 맨 앞만 확인하므로 DB 조회 없음)
+    private Duration tick = Duration.ofSeconds(1);
+    // 메모리에 올려 두는 마감 범위 (오늘부터 며칠 뒤 마감까지)
+    private int windowDays = 2;
+    // 범위 재적재 주기 (새로 범위에 들어온 프로젝트 반영, windowDays 보다 짧아야 한다)
+    private Duration reloadInterval = Duration.ofHours(1);
+    // 전환 실패 시 재시도 간격
+    private Duration retryDelay = Duration.ofSeconds(30);
+    // 마감일 기준 시간대 (마감일 다음 날 0시에 종료)
+    private ZoneId zone = ZoneId.of("Asia/Seoul");
+}
@@ -0,0 +1,239 @@
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.notification.entity.NotificationType;
+import io.fundy.fundyserver.notification.service.NotificationPublisher;
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import io.fundy.fundyserver.project.event.ProjectChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 프로젝트 마감 처리 (IN_PROGRESS → COMPLETED / FAILED)
+// 전체 프로젝트를 주기적으로 훑지 않고, 가까운 windowDays 안에 마감하는 진행 중 프로젝트만
+// 마감 시각 순 우선순위 큐에 올려 두고 tick 마다 큐 맨 앞의 기한이 지난 항목만 처리한다.
+// 마감일 변경/생성/상태 변경은 ProjectChangedEvent 로 받아 해당 프로젝트만 다시 읽어 큐를 고친다.
+// 전환은 "상태가 아직 IN_PROGRESS 인 경우에만" 조건부 UPDATE 로 하므로
+// 여러 인스턴스가 같은 프로젝트를 처리하더라도 한 번만 전환되고 알림도 한 번만 발행된다.
+// 성공/실패 판정은 미반영 증감(outbox) → 프로젝트 행 순으로 잠그고 읽은 금액으로 하므로(금액 반영과 같은 순서)
+// 판정과 전환 사이에 확정된 후원이 빠지지 않는다.
+@Slf4j
+@Component
+@EnableConfigurationProperties(ProjectDeadlineProperties.class)
+public class ProjectDeadlineScheduler {
+
+    private static final String SELECT_SQL = "SELECT id, deadline FROM projects WHERE product_status = 'IN_PROGRESS'";
+
+    // 아직 반영되지 않은 원장 증감 (locking read: 커밋된 최신 값을 읽고, 마감 트랜잭션 동안 이 프로젝트의 새 증감 기록을 막는다)
+    private static final String PENDING_DELTA_SQL =
+            "SELECT COALESCE(SUM(amount_delta), 0) FROM pledge_amount_outbox WHERE project_id = ? FOR SHARE";
+    // 반영된 금액 (행 잠금, 금액 반영 PledgeAmountProjector 와 직렬화)
+    private static final String LOCK_PROJECT_SQL = "SELECT title, goal_amount, current_amount, product_status, deadline "
+            + "FROM projects WHERE id = ? FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationPublisher notificationPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectDeadlineProperties props;
+
+    // 마감 시각(epoch ms) 순 큐, 같은 프로젝트의 이전 항목은 dueAt 과 비교해 버린다 (lazy 삭제)
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    private final Map<Long, Long> dueAt = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Counter completed;
+    private final Counter failed;
+
+    public ProjectDeadlineScheduler(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    NotificationPublisher notificationPublisher,
+                                    ApplicationEventPublisher eventPublisher,
+                                    ProjectDeadlineProperties props,
+                                    MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.notificationPublisher = notificationPublisher;
+        this.eventPublisher = eventPublisher;
+        this.props = props;
+        this.completed = Counter.builder("project.deadline.transitions")
+                .tag("result", ProjectStatus.COMPLETED.name())
+                .register(meterRegistry);
+        this.failed = Counter.builder("project.deadline.transitions")
+                .tag("result", ProjectStatus.FAILED.name())
+                .register(meterRegistry);
+        meterRegistry.gauge("project.deadline.scheduled", dueAt, Map::size);
+    }
+
+    // 기동 시 / 주기적으로 가까운 마감 프로젝트 적재 (이미 지난 마감도 포함)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${project.deadline.reload-interval:1h}",
+            initialDelayString = "${project.deadline.reload-interval:1h}")
+    public void reload() {
+        LocalDate windowEnd = today().plusDays(props.getWindowDays());
+        try {
+            // (product_status, deadline) 범위 조회
+            List<Object[]> rows = jdbcTemplate.query(SELECT_SQL + " AND deadline < ?",
+                    (rs, i) -> new Object[]{rs.getLong("id"), rs.getDate("deadline").toLocalDate()},
+                    Date.valueOf(windowEnd));
+            lock.lock();
+            try {
+                for (Object[] row : rows) {
+                    scheduleLocked((Long) row[0], closesAt((LocalDate) row[1]));
+                }
+            } finally {
+                lock.unlock();
+            }
+            log.info("Loaded {} project deadlines before {}", rows.size(), windowEnd);
+        } catch (DataAccessException e) {
+            log.warn("Project deadline load failed: {}", e.getMessage());
+        }
+    }
+
+    // 프로젝트 생성/수정/상태 변경 반영 (금액 변경은 마감과 무관)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.change() == ProjectChangedEvent.Change.AMOUNT) {
+            return;
+        }
+        try {
+            List<LocalDate> deadline = jdbcTemplate.query(SELECT_SQL + " AND id = ?",
+                    (rs, i) -> rs.getDate("deadline").toLocalDate(), event.projectId());
+            LocalDate windowEnd = today().plusDays(props.getWindowDays());
+            lock.lock();
+            try {
+                if (deadline.isEmpty() || !deadline.get(0).isBefore(windowEnd)) {
+                    dueAt.remove(event.projectId()); // 진행 중이 아니거나 범위 밖 (범위에 들어오면 reload 가 적재)
+                } else {
+                    scheduleLocked(event.projectId(), closesAt(deadline.get(0)));
+                }
+            } finally {
+                lock.unlock();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Project deadline refresh failed for {}: {}", event.projectId(), e.getMessage());
+        }
+    }
+
+    // 기한이 지난 프로젝트 전환
+    @Scheduled(fixedDelayString = "${project.deadline.tick:1s}")
+    public void tick() {
+        long now = System.currentTimeMillis();
+        for (Long projectId : pollDue(now)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> close(projectId));
+            } catch (RuntimeException e) {
+                // DB 오류뿐 아니라 알림 발행 등 어떤 실패든 다시 예약 (놓치면 마감되지 않은 채로 남는다)
+                log.warn("Project {} deadline transition failed, will retry: {}", projectId, e.getMessage());
+                lock.lock();
+                try {
+                    // 그 사이 마감일이 바뀌어 다시 예약되었으면 그 예약을 따른다
+                    if (!dueAt.containsKey(projectId)) {
+                        scheduleLocked(projectId, now + props.getRetryDelay().toMillis());
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    private List<Long> pollDue(long now) {
+        List<Long> due = new ArrayList<>();
+        lock.lock();
+        try {
+            Entry head;
+            while ((head = queue.peek()) != null && head.dueAt() <= now) {
+                queue.poll();
+                // 마감일이 바뀌었거나 이미 처리된 항목은 버림
+                if (Objects.equals(dueAt.get(head.projectId()), head.dueAt())) {
+                    dueAt.remove(head.projectId());
+                    due.add(head.projectId());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return due;
+    }
+
+    // 진행 중인 경우에만 전환하고, 전환한 트랜잭션에서 후원자 알림 발행 (호출 측 트랜잭션 안에서)
+    void close(Long projectId) {
+        Long pendingDelta = jdbcTemplate.queryForObject(PENDING_DELTA_SQL, Long.class, projectId);
+        List<Object[]> project = jdbcTemplate.query(LOCK_PROJECT_SQL,
+                (rs, i) -> new Object[]{rs.getString("title"), rs.getLong("goal_amount"), rs.getLong("current_amount"),
+                        rs.getString("product_status"), rs.getDate("deadline").toLocalDate()},
+                projectId);
+        if (project.isEmpty()) {
+            return;
+        }
+        Object[] row = project.get(0);
+        // 다른 인스턴스가 먼저 처리했거나 마감이 연장되었으면 그대로 둠
+        if (!ProjectStatus.IN_PROGRESS.name().equals(row[3]) || !((LocalDate) row[4]).isBefore(today())) {
+            return;
+        }
+        String title = (String) row[0];
+        ProjectStatus result = decide((Long) row[1], (Long) row[2] + (pendingDelta != null ? pendingDelta : 0));
+
+        int updated = jdbcTemplate.update("UPDATE projects SET product_status = ?, updated_at = NOW() "
+                        + "WHERE id = ? AND product_status = 'IN_PROGRESS' AND deadline < ?",
+                result.name(), projectId, Date.valueOf(today()));
+        if (updated == 0) {
+            return;
+        }
+        if (result == ProjectStatus.COMPLETED) {
+            completed.increment();
+            notificationPublisher.publishToBackers(projectId, NotificationType.PROJECT_COMPLETED,
+                    "'" + title + "' 프로젝트 펀딩이 성공적으로 마감되었습니다.");
+        } else {
+            failed.increment();
+            notificationPublisher.publishToBackers(projectId, NotificationType.PROJECT_FAILED,
+                    "'" + title + "' 프로젝트가 목표 금액에 도달하지 못해 마감되었습니다.");
+        }
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
+    }
+
+    // 마감 시점 금액이 목표 금액 이상이면 성공
+    static ProjectStatus decide(long goalAmount, long amount) {
+        return amount >= goalAmount ? ProjectStatus.COMPLETED : ProjectStatus.FAILED;
+    }
+
+    private void scheduleLocked(Long projectId, long closesAt) {
+        Long previous = dueAt.put(projectId, closesAt);
+        if (previous == null || previous != closesAt) {
+            queue.add(new Entry(closesAt, projectId));
+        }
+    }
+
+    // 마감일 다음 날 0시
+    private long closesAt(LocalDate deadline) {
+        return deadline.plusDays(1).atStartOfDay(props.getZone()).toInstant().toEpochMilli();
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(props.getZone());
+    }
+
+    private record Entry(long dueAt, Long projectId) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry o) {
+            int c = Long.compare(dueAt, o.dueAt);
+            return c != 0 ? c : Long.compare(projectId, o.projectId);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.fundy.fundyserver.project.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "project.import")
+public class ProjectImportProperties {
+    // 트랜잭션 1회당 저장하는 프로젝트 수 (결과 보고도 이 단위로 전송)
+    private int chunkSize = 500;
+    // 레코드(NDJSON 한 줄 / CSV 한 행) 최대 크기 (넘으면 해당 레코드만 실패 처리)
+    private DataSize maxRecordSize = DataSize.ofKilobytes(256);
+}
@@ -0,0 +1,26 @@
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.project.dto.project.ProjectRequestDTO;
+import io.fundy.fundyserver.register.exception.FieldErrorResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+// 일괄 등록 입력을 레코드 단위로 읽는다 (입력 전체를 메모리에 올리지 않음)
+interface ProjectImportReader {
+
+    // 다음 레코드, 입력이 끝나면 null
+    Row next() throws IOException;
+
+    // request 와 errors 중 하나만 있다 (형식 오류면 errors)
+    record Row(int line, ProjectRequestDTO request, List<FieldErrorResponse> errors) {
+
+        static Row of(int line, ProjectRequestDTO request) {
+            return new Row(line, request, null);
+        }
+
+        static Row error(int line, String field, String message) {
+            return new Row(line, null, List.of(new FieldErrorResponse(field, message)));
+        }
+    }
+}
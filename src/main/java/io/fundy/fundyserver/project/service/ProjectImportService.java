@@ -0,0 +1,229 @@
+package io.fundy.fundyserver.project.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fundy.fundyserver.project.dto.project.ProjectImportResultDTO;
+import io.fundy.fundyserver.project.dto.project.ProjectImportSummaryDTO;
+import io.fundy.fundyserver.project.dto.project.ProjectRequestDTO;
+import io.fundy.fundyserver.project.dto.reward.RewardRequestDTO;
+import io.fundy.fundyserver.project.entity.Category;
+import io.fundy.fundyserver.project.entity.Project;
+import io.fundy.fundyserver.project.entity.Reward;
+import io.fundy.fundyserver.project.event.ProjectChangedEvent;
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import io.fundy.fundyserver.register.exception.FieldErrorResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 관리자 프로젝트 일괄 등록 (NDJSON / CSV)
+// 요청 본문을 레코드 단위로 읽어 chunkSize 건씩 한 트랜잭션으로 저장하고(리워드 포함, JDBC 배치),
+// 커밋한 묶음의 결과를 입력 순서대로 한 줄씩(NDJSON) 바로 응답에 쓴다.
+// 메모리에는 한 묶음만 두므로 입력 크기와 무관하다.
+// 묶음 저장이 실패하면 그 묶음만 한 건씩 다시 저장해 실패한 레코드를 가려낸다.
+@Slf4j
+@Service
+@EnableConfigurationProperties(ProjectImportProperties.class)
+public class ProjectImportService {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectImportProperties props;
+    private final ReentrantLock importLock = new ReentrantLock(); // 동시에 한 건만 (가상 스레드 고정을 피하려고 synchronized 대신 사용)
+
+    public ProjectImportService(EntityManager entityManager,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                Validator validator,
+                                ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                ProjectImportProperties props) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.props = props;
+    }
+
+    // 입력 형식 오류(헤더 누락 등)는 응답을 쓰기 전에 IllegalArgumentException 으로 알린다
+    public void importProjects(InputStream body, String contentType, HttpServletResponse response) throws IOException {
+        if (!importLock.tryLock()) {
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        }
+        try {
+            ProjectImportReader reader = open(body, contentType);
+            Set<Long> categoryIds = new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM categories", Long.class));
+
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            Writer out = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+
+            long startedAt = System.currentTimeMillis();
+            Tally tally = new Tally();
+            List<ProjectImportReader.Row> chunk = new ArrayList<>(props.getChunkSize());
+            ProjectImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() >= props.getChunkSize()) {
+                    writeChunk(chunk, categoryIds, out, tally);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, categoryIds, out, tally);
+            }
+            writeLine(out, new ProjectImportSummaryDTO(tally.created + tally.invalid + tally.failed,
+                    tally.created, tally.invalid, tally.failed, System.currentTimeMillis() - startedAt));
+            out.flush();
+            log.info("Project import finished: {} created, {} invalid, {} failed",
+                    tally.created, tally.invalid, tally.failed);
+        } finally {
+            importLock.unlock();
+        }
+    }
+
+    private ProjectImportReader open(InputStream body, String contentType) throws IOException {
+        MediaType type;
+        try {
+            type = MediaType.parseMediaType(contentType);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다. (application/x-ndjson, text/csv)");
+        }
+        Charset charset = type.getCharset() != null ? type.getCharset() : StandardCharsets.UTF_8;
+        BufferedReader in = new BufferedReader(new InputStreamReader(body, charset));
+        skipBom(in);
+        int maxChars = (int) Math.min(props.getMaxRecordSize().toBytes(), Integer.MAX_VALUE);
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(type)) {
+            return new NdjsonProjectImportReader(in, objectMapper, maxChars);
+        }
+        if (TEXT_CSV.isCompatibleWith(type)) {
+            return new CsvProjectImportReader(in, maxChars);
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다. (application/x-ndjson, text/csv)");
+    }
+
+    // 검증 → 유효한 레코드만 한 트랜잭션으로 저장 → 결과를 입력 순서대로 전송
+    private void writeChunk(List<ProjectImportReader.Row> chunk, Set<Long> categoryIds, Writer out, Tally tally)
+            throws IOException {
+        ProjectImportResultDTO[] results = new ProjectImportResultDTO[chunk.size()];
+        List<Integer> valid = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            ProjectImportReader.Row row = chunk.get(i);
+            List<FieldErrorResponse> errors = row.errors() != null ? row.errors() : validate(row.request(), categoryIds);
+            if (errors.isEmpty()) {
+                valid.add(i);
+            } else {
+                results[i] = ProjectImportResultDTO.invalid(row.line(), errors);
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            try {
+                List<Long> ids = transactionTemplate.execute(status -> persistAll(chunk, valid));
+                for (int k = 0; k < valid.size(); k++) {
+                    results[valid.get(k)] = ProjectImportResultDTO.created(chunk.get(valid.get(k)).line(), ids.get(k));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Project import chunk failed, retrying records one by one: {}", e.getMessage());
+                for (int i : valid) {
+                    results[i] = persistOne(chunk.get(i));
+                }
+            }
+        }
+
+        for (ProjectImportResultDTO result : results) {
+            switch (result.getStatus()) {
+                case CREATED -> tally.created++;
+                case INVALID -> tally.invalid++;
+                case FAILED -> tally.failed++;
+            }
+            writeLine(out, result);
+        }
+        out.flush(); // 묶음마다 클라이언트로 전송
+    }
+
+    private ProjectImportResultDTO persistOne(ProjectImportReader.Row row) {
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> persistAll(List.of(row), List.of(0)));
+            return ProjectImportResultDTO.created(row.line(), ids.get(0));
+        } catch (RuntimeException e) {
+            return ProjectImportResultDTO.failed(row.line(), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        }
+    }
+
+    // ProjectService.createService 와 같은 방식 (카테고리는 참조만, 리워드는 cascade)
+    // 읽기 모델 갱신 리스너가 커밋 직전(BEFORE_COMMIT)에 projects 를 읽으므로 끝에서 flush 한다.
+    private List<Long> persistAll(List<ProjectImportReader.Row> rows, List<Integer> indexes) {
+        List<Long> ids = new ArrayList<>(indexes.size());
+        for (int i : indexes) {
+            ProjectRequestDTO dto = rows.get(i).request();
+            Project project = Project.create(entityManager.getReference(Category.class, dto.getCategoryId()), dto);
+            if (dto.getRewards() != null) {
+                for (RewardRequestDTO rewardDto : dto.getRewards()) {
+                    Reward.of(rewardDto, project);
+                }
+            }
+            entityManager.persist(project);
+            ids.add(project.getId());
+        }
+        entityManager.flush();
+        ids.forEach(id -> eventPublisher.publishEvent(new ProjectChangedEvent(id)));
+        return ids;
+    }
+
+    // ProjectRequestDTO / RewardRequestDTO 검증 규칙 + 카테고리 존재 여부
+    private List<FieldErrorResponse> validate(ProjectRequestDTO request, Set<Long> categoryIds) {
+        List<FieldErrorResponse> errors = new ArrayList<>();
+        for (ConstraintViolation<ProjectRequestDTO> violation : validator.validate(request)) {
+            errors.add(new FieldErrorResponse(violation.getPropertyPath().toString(), violation.getMessage()));
+        }
+        if (request.getCategoryId() != null && !categoryIds.contains(request.getCategoryId())) {
+            errors.add(new FieldErrorResponse("categoryId", "존재하지 않는 카테고리입니다."));
+        }
+        errors.sort(Comparator.comparing(FieldErrorResponse::getField, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return errors;
+    }
+
+    private void writeLine(Writer out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsString(value));
+        out.write('\n');
+    }
+
+    private static void skipBom(BufferedReader in) throws IOException {
+        in.mark(1);
+        if (in.read() != '\uFEFF') {
+            in.reset();
+        }
+    }
+
+    private static final class Tally {
+        long created;
+        long invalid;
+        long failed;
+    }
+}
@@ -0,0 +1,338 @@
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.project.dto.project.ProjectSearchResultDTO;
+import io.fundy.fundyserver.project.dto.project.ProjectSuggestionDTO;
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import io.fundy.fundyserver.project.event.ProjectChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 프로젝트 제목/본문 메모리 역색인 (외부 검색 클러스터 없이 BM25 검색 + 제목 자동완성)
+// 한글은 띄어쓰기/조사와 무관하게 찾을 수 있도록 2글자(bigram) 단위로, 영문/숫자는 단어 단위로 자른다.
+// 한 글자 검색어는 그 글자로 시작하는 bigram 을 모두 찾는다 (구간 끝 글자는 따로 한 글자로 색인).
+// 문서 원문은 보관하지 않고 단어별 빈도만 보관하며,
+// ProjectChangedEvent 를 받으면 해당 프로젝트 한 건만 다시 읽어 교체한다.
+@Slf4j
+@Component
+public class ProjectSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3; // 제목에 나온 단어는 본문보다 가중치를 준다
+    private static final int MAX_RESULTS = 50;
+
+    private static final String LOAD_ALL_SQL = "SELECT id, category_id, title, description, product_status FROM projects";
+    private static final String LOAD_ONE_SQL = LOAD_ALL_SQL + " WHERE id = ?";
+
+    private static final RowMapper<ProjectDocument> ROW_MAPPER = (rs, i) -> ProjectDocument.of(
+            rs.getLong("id"),
+            rs.getLong("category_id"),
+            ProjectStatus.valueOf(rs.getString("product_status")),
+            rs.getString("title"),
+            rs.getString("description"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    // 색인 변경은 한 번에 한 스레드만 (검색은 락 없이 읽는다)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Segment segment = new Segment();
+    // 재구성 중에 들어온 변경 (재구성이 끝나면 다시 반영), 재구성 중이 아니면 null
+    private volatile Set<Long> changedDuringRebuild;
+
+    public ProjectSearchIndex(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        // MySQL 은 fetchSize = Integer.MIN_VALUE 일 때 결과를 스트리밍한다.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    // BM25 검색 (categoryId/status 가 null 이면 해당 조건 없음)
+    public List<ProjectSearchResultDTO> search(String query, Long categoryId, ProjectStatus status, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_RESULTS));
+        Segment seg = segment;
+        int docCount = seg.docs.size();
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (docCount == 0 || terms.isEmpty()) {
+            return List.of();
+        }
+        double avgLength = Math.max(1.0, (double) seg.totalLength.get() / docCount);
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            Map<Long, Integer> posting = isSingleChar(term) ? seg.prefixPosting(term) : seg.postings.get(term);
+            if (posting == null || posting.isEmpty()) {
+                continue;
+            }
+            int df = posting.size();
+            double idf = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            posting.forEach((projectId, tf) -> {
+                ProjectDocument doc = seg.docs.get(projectId);
+                if (doc == null || !doc.matches(categoryId, status)) {
+                    return;
+                }
+                double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * doc.length() / avgLength));
+                scores.merge(projectId, idf * norm, Double::sum);
+            });
+        }
+
+        // 상위 limit 건만 힙으로 추림
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(limit + 1, Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<ProjectSearchResultDTO> results = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            Map.Entry<Long, Double> entry = top.poll();
+            ProjectDocument doc = seg.docs.get(entry.getKey());
+            if (doc != null) {
+                results.add(ProjectSearchResultDTO.builder()
+                        .projectId(doc.id())
+                        .categoryId(doc.categoryId())
+                        .title(doc.title())
+                        .productStatus(doc.status())
+                        .score(entry.getValue())
+                        .build());
+            }
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    // 제목 단어(또는 제목 전체) 접두어 자동완성
+    public List<ProjectSuggestionDTO> autocomplete(String prefix, ProjectStatus status, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_RESULTS));
+        String p = normalize(prefix);
+        if (p.isEmpty()) {
+            return List.of();
+        }
+        Segment seg = segment;
+        Set<Long> seen = new HashSet<>();
+        List<ProjectSuggestionDTO> suggestions = new ArrayList<>(limit);
+        for (Set<Long> ids : seg.titleWords.subMap(p, true, p + Character.MAX_VALUE, true).values()) {
+            for (Long projectId : ids) {
+                ProjectDocument doc = seg.docs.get(projectId);
+                if (doc == null || !doc.matches(null, status) || !seen.add(projectId)) {
+                    continue;
+                }
+                suggestions.add(new ProjectSuggestionDTO(doc.id(), doc.title()));
+                if (suggestions.size() >= limit) {
+                    return suggestions;
+                }
+            }
+        }
+        return suggestions;
+    }
+
+    // 커밋된 변경만 반영 (후원 금액만 바뀐 경우는 색인 대상이 아니므로 무시)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.change() == ProjectChangedEvent.Change.AMOUNT) {
+            return;
+        }
+        try {
+            refresh(event.projectId());
+        } catch (DataAccessException e) {
+            log.warn("Project search index refresh failed for project {}: {}", event.projectId(), e.getMessage());
+        }
+    }
+
+    // 프로젝트 한 건 재색인 (원본이 없으면 제거)
+    public void refresh(Long projectId) {
+        Set<Long> pending = changedDuringRebuild;
+        if (pending != null) {
+            pending.add(projectId);
+        }
+        // 토큰화는 락 밖에서 (RowMapper 에서 수행)
+        List<ProjectDocument> rows = jdbcTemplate.query(LOAD_ONE_SQL, ROW_MAPPER, projectId);
+        writeLock.lock();
+        try {
+            if (rows.isEmpty()) {
+                segment.remove(projectId);
+            } else {
+                segment.put(rows.get(0));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 기동 시 전체 재구성 (새 세그먼트를 만든 뒤 교체하므로 그동안 기존 색인으로 검색 가능)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        Set<Long> pending = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = pending;
+        try {
+            Segment fresh = new Segment();
+            streamingJdbcTemplate.query(LOAD_ALL_SQL, rs -> {
+                fresh.put(ROW_MAPPER.mapRow(rs, 0));
+            });
+            writeLock.lock();
+            try {
+                segment = fresh;
+                changedDuringRebuild = null;
+            } finally {
+                writeLock.unlock();
+            }
+            for (Long projectId : pending) {
+                refresh(projectId);
+            }
+            log.info("Project search index rebuilt with {} projects in {} ms",
+                    fresh.docs.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (DataAccessException e) {
+            changedDuringRebuild = null;
+            log.warn("Project search index could not be rebuilt: {}", e.getMessage());
+        }
+    }
+
+    // 검색어 토큰화
+    static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    // 토큰화: 소문자 변환 후 글자/숫자 구간을 ASCII/비 ASCII 로 나눠
+    // ASCII 구간은 단어 그대로, 비 ASCII(한글 등) 구간은 2글자씩 겹쳐 자른다.
+    // 문서는 구간의 마지막 글자도 한 글자로 넣어, 모든 글자가 어떤 토큰의 첫 글자가 되게 한다.
+    static List<String> tokenize(String text, boolean document) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String s = text.toLowerCase(Locale.ROOT);
+        int len = s.length();
+        int i = 0;
+        while (i < len) {
+            char c = s.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                i++;
+                continue;
+            }
+            boolean ascii = c < 128;
+            int start = i;
+            while (i < len && Character.isLetterOrDigit(s.charAt(i)) && (s.charAt(i) < 128) == ascii) {
+                i++;
+            }
+            if (ascii || i - start == 1) {
+                tokens.add(s.substring(start, i));
+            } else {
+                for (int j = start; j + 2 <= i; j++) {
+                    tokens.add(s.substring(j, j + 2));
+                }
+                if (document) {
+                    tokens.add(s.substring(i - 1, i));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    // 비 ASCII 한 글자 검색어 (bigram 색인으로는 정확히 일치하는 토큰이 없다)
+    private static boolean isSingleChar(String term) {
+        return term.length() == 1 && term.charAt(0) >= 128;
+    }
+
+    private static String normalize(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 색인된 프로젝트 1건 (단어 빈도만 보관)
+    private record ProjectDocument(Long id, Long categoryId, ProjectStatus status, String title,
+                                   Map<String, Integer> termFreqs, int length, Set<String> titleWords) {
+
+        static ProjectDocument of(Long id, Long categoryId, ProjectStatus status, String title, String description) {
+            Map<String, Integer> freqs = new HashMap<>();
+            int length = 0;
+            for (String token : tokenize(title, true)) {
+                freqs.merge(token, TITLE_WEIGHT, Integer::sum);
+                length += TITLE_WEIGHT;
+            }
+            for (String token : tokenize(description, true)) {
+                freqs.merge(token, 1, Integer::sum);
+                length++;
+            }
+            Set<String> words = new HashSet<>();
+            String normalizedTitle = normalize(title);
+            if (!normalizedTitle.isEmpty()) {
+                words.add(normalizedTitle);
+                for (String word : normalizedTitle.split("[^\\p{L}\\p{N}]+")) {
+                    if (!word.isEmpty()) {
+                        words.add(word);
+                    }
+                }
+            }
+            return new ProjectDocument(id, categoryId, status, title, freqs, length, words);
+        }
+
+        boolean matches(Long categoryId, ProjectStatus status) {
+            return (categoryId == null || categoryId.equals(this.categoryId))
+                    && (status == null || status == this.status);
+        }
+    }
+
+    // 색인 데이터 묶음 (재구성 시 통째로 교체)
+    private static final class Segment {
+        final Map<Long, ProjectDocument> docs = new ConcurrentHashMap<>();
+        final ConcurrentSkipListMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+        final ConcurrentSkipListMap<String, Set<Long>> titleWords = new ConcurrentSkipListMap<>();
+        final AtomicLong totalLength = new AtomicLong();
+
+        void put(ProjectDocument doc) {
+            remove(doc.id());
+            doc.termFreqs().forEach((term, tf) ->
+                    postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(doc.id(), tf));
+            doc.titleWords().forEach(word ->
+                    titleWords.computeIfAbsent(word, w -> ConcurrentHashMap.newKeySet()).add(doc.id()));
+            totalLength.addAndGet(doc.length());
+            docs.put(doc.id(), doc);
+        }
+
+        // prefix 로 시작하는 모든 토큰의 빈도 합
+        Map<Long, Integer> prefixPosting(String prefix) {
+            Map<Long, Integer> merged = new HashMap<>();
+            for (Map<Long, Integer> posting : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+                posting.forEach((projectId, tf) -> merged.merge(projectId, tf, Integer::sum));
+            }
+            return merged;
+        }
+
+        void remove(Long projectId) {
+            ProjectDocument previous = docs.remove(projectId);
+            if (previous == null) {
+                return;
+            }
+            totalLength.addAndGet(-previous.length());
+            previous.termFreqs().keySet().forEach(term -> {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(projectId);
+                }
+            });
+            previous.titleWords().forEach(word -> {
+                Set<Long> ids = titleWords.get(word);
+                if (ids != null) {
+                    ids.remove(projectId);
+                }
+            });
+        }
+    }
+}
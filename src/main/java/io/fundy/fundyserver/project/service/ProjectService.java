@@ -1,43 +1,63 @@
-//package io.fundy.fundyserver.project.service;
-//
-//import io.fundy.fundyserver.project.dto.project.ProjectRequestDTO;
-//import io.fundy.fundyserver.project.dto.project.ProjectResponseDTO;
-//import io.fundy.fundyserver.project.dto.reward.RewardRequestDTO;
-//import io.fundy.fundyserver.project.entity.Category;
-//import io.fundy.fundyserver.project.entity.Project;
-//import io.fundy.fundyserver.project.entity.Reward;
-//import io.fundy.fundyserver.project.repository.CategoryRepository;
-//import io.fundy.fundyserver.project.repository.ProjectRepository;
-//import lombok.RequiredArgsConstructor;
-//import org.springframework.stereotype.Service;
-//import org.springframework.transaction.annotation.Transactional;
-//
-//@Service
-//@RequiredArgsConstructor
-//public class ProjectService {
-//
-//    private final ProjectRepository projectRepository;
-////    private final UserRepository userRepository;
-//    private final CategoryRepository categoryRepository;
-//
-//    @Transactional
-//    public ProjectResponseDTO createService(ProjectRequestDTO dto, String userId) {
-//
-////        User user = userRepository.findByLoginId(userId)
-////                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-//        Category category = categoryRepository.findById(dto.getCategoryId())
-//                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다."));
-//
-//        Project project = Project.create(/*user,*/ category, dto);
-//
-//        if (dto.getRewards() != null) {
-//            for (RewardRequestDTO rewardDto : dto.getRewards()) {
-//                Reward reward = Reward.of(rewardDto, project);
-//                project.addReward(reward); // 연관관계 메서드 사용
-//            }
-//        }
-//
-//        Project saved = projectRepository.save(project);
-//        return new ProjectResponseDTO(saved.getId(), saved.getProductStatus().name());
-//    }
-//}
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.project.dto.project.ProjectDetailDTO;
+import io.fundy.fundyserver.project.dto.project.ProjectRequestDTO;
+import io.fundy.fundyserver.project.dto.project.ProjectResponseDTO;
+import io.fundy.fundyserver.project.dto.reward.RewardRequestDTO;
+import io.fundy.fundyserver.project.entity.Project;
+import io.fundy.fundyserver.project.entity.Reward;
+import io.fundy.fundyserver.project.event.ProjectChangedEvent;
+import io.fundy.fundyserver.project.repository.CategoryRepository;
+import io.fundy.fundyserver.project.repository.ProjectRepository;
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 프로젝트 + 리워드 생성
+// ID 를 INSERT 전에 발급하므로(@SnowflakeId) INSERT 가 flush 시점까지 모였다가
+// order_inserts / jdbc.batch_size 설정에 따라 프로젝트 1건 + 리워드 배치 1건으로 전송된다.
+@Service
+@RequiredArgsConstructor
+public class ProjectService {
+
+    private final ProjectRepository projectRepository;
+//    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher; // 목록/검색 읽기 모델 갱신용
+    private final ProjectViewCounter viewCounter;
+
+    @Transactional
+    public ProjectResponseDTO createService(ProjectRequestDTO dto, String userId) {
+
+//        User user = userRepository.findByLoginId(userId)
+//                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+
+        // 카테고리는 존재 여부만 PK 로 확인하고 엔티티는 참조만 건다 (그 외 제약 위반은 그대로 전파)
+        if (dto.getCategoryId() == null || !categoryRepository.existsById(dto.getCategoryId())) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다.");
+        }
+        Project project = Project.create(/*user,*/ categoryRepository.getReferenceById(dto.getCategoryId()), dto);
+
+        if (dto.getRewards() != null) {
+            for (RewardRequestDTO rewardDto : dto.getRewards()) {
+                Reward.of(rewardDto, project); // 양방향 연관관계까지 설정
+            }
+        }
+
+        Project saved = projectRepository.saveAndFlush(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(saved.getId()));
+        return new ProjectResponseDTO(saved.getId(), saved.getProductStatus().name());
+    }
+
+    // 프로젝트 상세 조회 (viewerKey: 로그인 사용자 ID 또는 클라이언트 IP, 같은 사용자의 재조회는 조회수에 넣지 않음)
+    @Transactional(readOnly = true)
+    public ProjectDetailDTO getProject(Long projectId, String viewerKey) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ApiException(ErrorCode.PROJECT_NOT_FOUND));
+        viewCounter.recordView(projectId, viewerKey);
+        return ProjectDetailDTO.fromEntity(project, project.getViewCount() + viewCounter.pendingViews(projectId));
+    }
+}
@@ -0,0 +1,116 @@
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.common.util.BloomFilter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 프로젝트 조회수 write-behind 카운터
+// 상세 조회마다 projects 행을 UPDATE 하면 인기 프로젝트의 조회가 한 행의 락에 줄을 서게 되므로,
+// 메모리의 LongAdder 에 모았다가 주기적으로 view_count = view_count + ? 배치 UPDATE 로 반영한다.
+// 같은 사용자의 재조회는 dedupWindow 동안 Bloom filter 두 개(현재/이전 구간)로 걸러낸다.
+@Slf4j
+@Component
+@EnableConfigurationProperties(ProjectViewProperties.class)
+public class ProjectViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE projects SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectViewProperties props;
+
+    // 프로젝트 수 만큼만 생기므로 항목은 제거하지 않는다 (제거 시 동시 증가분 유실 가능)
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter currentViewers;
+    private volatile BloomFilter previousViewers;
+    private volatile long rotatedAt;
+
+    public ProjectViewCounter(JdbcTemplate jdbcTemplate, ProjectViewProperties props) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.props = props;
+        this.currentViewers = newFilter();
+        this.previousViewers = newFilter();
+        this.rotatedAt = System.nanoTime();
+    }
+
+    // 조회 1건 기록 (viewerKey: userId 또는 IP, null 이면 중복 제거 없이 집계)
+    // 집계되었으면 true
+    public boolean recordView(Long projectId, String viewerKey) {
+        if (viewerKey != null) {
+            rotateIfNeeded();
+            String key = projectId + ":" + viewerKey;
+            if (previousViewers.mightContain(key) || !currentViewers.putIfAbsent(key)) {
+                return false;
+            }
+        }
+        pending.computeIfAbsent(projectId, id -> new LongAdder()).increment();
+        return true;
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수
+    public long pendingViews(Long projectId) {
+        LongAdder adder = pending.get(projectId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${project.view-counter.flush-interval:5s}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        pending.forEach((projectId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, projectId});
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < batch.size(); from += props.getBatchSize()) {
+            List<Object[]> chunk = batch.subList(from, Math.min(from + props.getBatchSize(), batch.size()));
+            try {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, chunk);
+            } catch (DataAccessException e) {
+                // 반영 실패분은 다음 주기에 다시 시도
+                chunk.forEach(row -> pending.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]));
+                log.warn("Failed to flush {} project view counts, will retry", chunk.size(), e);
+            }
+        }
+        log.debug("Flushed view counts for {} projects", batch.size());
+    }
+
+    // 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void rotateIfNeeded() {
+        long now = System.nanoTime();
+        if (now - rotatedAt < props.getDedupWindow().toNanos()) {
+            return;
+        }
+        synchronized (this) {
+            if (now - rotatedAt >= props.getDedupWindow().toNanos()) {
+                previousViewers = currentViewers;
+                currentViewers = newFilter();
+                rotatedAt = now;
+            }
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(props.getExpectedViewsPerWindow(), props.getFalsePositiveRate());
+    }
+}
@@ -0,0 +1,22 @@
+package io.fundy.fundyserver.project.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "project.view-counter")
+public class ProjectViewProperties {
+    // DB 반영 주기
+    private Duration flushInterval = Duration.ofSeconds(5);
+    // 같은 사용자의 재조회를 한 번으로 보는 기간
+    private Duration dedupWindow = Duration.ofMinutes(30);
+    // 중복 제거용 Bloom filter 크기 (기간당 예상 조회 수 / 오탐률)
+    private long expectedViewsPerWindow = 1_000_000;
+    private double falsePositiveRate = 0.01;
+    // UPDATE 배치 크기
+    private int batchSize = 500;
+}
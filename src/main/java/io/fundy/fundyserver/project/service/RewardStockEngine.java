@@ -0,0 +1,242 @@
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 리워드 재고 차감/복귀
+// 인스턴스마다 rewards 행에서 재고를 leaseBlockSize 개씩 빌려와(조건부 UPDATE 한 문장) AtomicInteger 로 나눠준다.
+// 요청마다 행을 UPDATE 하지 않으므로 인기 리워드도 행 락에 줄을 서지 않고,
+// DB 에서 빼낸 만큼만 나눠주므로 인스턴스가 몇 개든 초과 판매하지 않는다.
+// 취소/만료로 돌아온 재고는 이 인스턴스의 몫에 더했다가, reconcile 이 쓰이지 않는 몫을 DB 로 돌려놓는다.
+// (다른 인스턴스가 빌려간 몫은 돌아오기 전까지 보이지 않으므로 그 사이 매진으로 보일 수 있다.
+//  비정상 종료 시 빌려둔 몫은 돌아오지 않는다 - 덜 팔릴 뿐 초과 판매는 없다)
+// 메모리에는 "매진" / "무제한" 판정도 soldOutCacheTtl 동안 앞단 캐시로 두어 DB 를 거치지 않게 한다.
+// stock 이 null 또는 -1 이면 무제한 리워드.
+@Slf4j
+@Component
+@EnableConfigurationProperties(RewardStockProperties.class)
+public class RewardStockEngine {
+
+    private static final String TAKE_SQL = "UPDATE rewards SET stock = stock - ? WHERE id = ? AND stock >= ?";
+    private static final String GIVE_BACK_SQL = "UPDATE rewards SET stock = stock + ? WHERE id = ? AND stock >= 0";
+    private static final String LOAD_ONE_SQL = "SELECT stock FROM rewards WHERE id = ?";
+    private static final int UNLIMITED = -1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RewardStockProperties props;
+    // 리워드 ID → 이 인스턴스가 빌려둔 재고 (리워드 수 만큼만 생기므로 제거하지 않는다)
+    private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+    // 리워드 ID → 최근 판정 (매진 / 무제한)
+    private final Map<Long, Timed> hints = new ConcurrentHashMap<>();
+
+    public RewardStockEngine(JdbcTemplate jdbcTemplate, RewardStockProperties props) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.props = props;
+    }
+
+    // 재고 차감 (수량이 부족하면 REWARD_SOLD_OUT, 없는 리워드면 REWARD_NOT_FOUND, 무제한이면 그대로 통과)
+    public void reserve(Long rewardId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
+        }
+        Hint hint = freshHint(rewardId);
+        if (hint == Hint.UNLIMITED) {
+            return;
+        }
+        if (hint == Hint.SOLD_OUT) {
+            throw new ApiException(ErrorCode.REWARD_SOLD_OUT);
+        }
+        Lease lease = leases.computeIfAbsent(rewardId, id -> new Lease());
+        if (lease.tryTake(quantity)) {
+            return;
+        }
+        // 빌려둔 몫이 모자라면 리워드당 한 스레드만 DB 에서 더 빌려온다
+        lease.lock.lock();
+        try {
+            // 기다리는 동안 다른 스레드가 채웠을 수 있다
+            if (lease.tryTake(quantity)) {
+                return;
+            }
+            // 남은 자투리를 먼저 쓰고 모자란 만큼만 빌린다
+            int local = lease.available.getAndSet(0);
+            int leased;
+            try {
+                leased = leaseFromDb(rewardId, quantity - local);
+            } catch (RuntimeException e) {
+                lease.available.addAndGet(local);
+                throw e;
+            }
+            if (leased == UNLIMITED) {
+                lease.available.addAndGet(local);
+                hints.put(rewardId, Hint.UNLIMITED.at(System.nanoTime()));
+                return;
+            }
+            if (leased == 0) {
+                lease.available.addAndGet(local);
+                hints.put(rewardId, Hint.SOLD_OUT.at(System.nanoTime()));
+                throw new ApiException(ErrorCode.REWARD_SOLD_OUT);
+            }
+            lease.available.addAndGet(local + leased - quantity);
+            lease.touch();
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    // 재고 복귀 (후원 취소/만료, 무제한 리워드는 변화 없음)
+    // 이 인스턴스가 빌려둔 리워드면 메모리 몫에 더하고 reconcile 때 DB 로 돌려놓는다.
+    public void release(Long rewardId, int quantity) {
+        if (quantity <= 0) {
+            return;
+        }
+        Lease lease = leases.get(rewardId);
+        if (lease != null) {
+            lease.available.addAndGet(quantity);
+            lease.touch();
+        } else {
+            jdbcTemplate.update(GIVE_BACK_SQL, quantity, rewardId);
+        }
+        hints.remove(rewardId);
+    }
+
+    // 쓰이지 않는 몫을 DB 로 돌려놓는다
+    // leaseIdleTimeout 동안 빌려오거나 돌아온 적 없는 리워드는 전부, 그 외에는 leaseBlockSize 를 넘는 만큼만
+    // (만료된 후원의 재고도 release 로 몫에 더해진 뒤 여기서 돌아간다)
+    @Scheduled(fixedDelayString = "${project.reward-stock.reconcile-interval:5s}")
+    public void reconcile() {
+        long now = System.nanoTime();
+        leases.forEach((rewardId, lease) -> {
+            boolean idle = now - lease.touchedAt > props.getLeaseIdleTimeout().toNanos();
+            giveBack(rewardId, lease, idle ? 0 : props.getLeaseBlockSize());
+        });
+    }
+
+    // 종료 시 빌려둔 몫을 모두 돌려놓는다
+    @PreDestroy
+    public void returnAllOnShutdown() {
+        leases.forEach((rewardId, lease) -> giveBack(rewardId, lease, 0));
+    }
+
+    // 이 인스턴스가 빌려둔 재고 (무제한이거나 빌린 적 없으면 0)
+    public int leasedStock(Long rewardId) {
+        Lease lease = leases.get(rewardId);
+        return lease != null ? lease.available.get() : 0;
+    }
+
+    // keep 개만 남기고 돌려놓기
+    private void giveBack(Long rewardId, Lease lease, int keep) {
+        int surplus = lease.takeAbove(keep);
+        if (surplus == 0) {
+            return;
+        }
+        try {
+            // 무제한 리워드(stock < 0)에 쌓인 몫은 조건에 걸려 그대로 사라진다
+            jdbcTemplate.update(GIVE_BACK_SQL, surplus, rewardId);
+        } catch (DataAccessException e) {
+            // 실패분은 다시 몫에 더해 다음 주기에 시도
+            lease.available.addAndGet(surplus);
+            log.warn("Failed to return {} leased stock of reward {}, will retry", surplus, rewardId, e);
+        }
+    }
+
+    // DB 에서 재고를 빌려온다 (최소 need 개, 가능하면 leaseBlockSize 개)
+    // 빌려온 개수, 매진이면 0, 무제한이면 UNLIMITED
+    private int leaseFromDb(Long rewardId, int need) {
+        int block = Math.max(props.getLeaseBlockSize(), need);
+        if (take(rewardId, block)) {
+            return block;
+        }
+        // 블록만큼 남지 않았으면 남은 만큼만 빌린다 (그 사이 줄었으면 필요한 만큼만)
+        List<Integer> stock = jdbcTemplate.queryForList(LOAD_ONE_SQL, Integer.class, rewardId);
+        if (stock.isEmpty()) {
+            throw new ApiException(ErrorCode.REWARD_NOT_FOUND);
+        }
+        Integer remaining = stock.get(0);
+        if (remaining == null || remaining < 0) {
+            return UNLIMITED;
+        }
+        if (remaining < need) {
+            return 0;
+        }
+        if (remaining > need && take(rewardId, Math.min(remaining, block))) {
+            return Math.min(remaining, block);
+        }
+        return take(rewardId, need) ? need : 0;
+    }
+
+    private boolean take(Long rewardId, int quantity) {
+        return jdbcTemplate.update(TAKE_SQL, quantity, rewardId, quantity) == 1;
+    }
+
+    // 유효 기간 안의 판정 (없으면 null)
+    private Hint freshHint(Long rewardId) {
+        Timed timed = hints.get(rewardId);
+        if (timed == null) {
+            return null;
+        }
+        if (System.nanoTime() - timed.at() > props.getSoldOutCacheTtl().toNanos()) {
+            hints.remove(rewardId, timed);
+            return null;
+        }
+        return timed.hint();
+    }
+
+    // 한 리워드에 대해 이 인스턴스가 빌려둔 재고
+    private static final class Lease {
+        private final AtomicInteger available = new AtomicInteger();
+        private final ReentrantLock lock = new ReentrantLock(); // DB 에서 빌려오는 스레드를 하나로
+        private volatile long touchedAt = System.nanoTime();
+
+        boolean tryTake(int quantity) {
+            int current;
+            do {
+                current = available.get();
+                if (current < quantity) {
+                    return false;
+                }
+            } while (!available.compareAndSet(current, current - quantity));
+            return true;
+        }
+
+        // keep 을 넘는 만큼 빼내기 (빼낸 개수)
+        int takeAbove(int keep) {
+            int current;
+            do {
+                current = available.get();
+                if (current <= keep) {
+                    return 0;
+                }
+            } while (!available.compareAndSet(current, keep));
+            return current - keep;
+        }
+
+        void touch() {
+            touchedAt = System.nanoTime();
+        }
+    }
+
+    private enum Hint {
+        SOLD_OUT,
+        UNLIMITED;
+
+        Timed at(long nanoTime) {
+            return new Timed(this, nanoTime);
+        }
+    }
+
+    private record Timed(Hint hint, long at) {
+    }
+}
@@ -0,0 +1,19 @@
+package io.fundy.fundyserver.project.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "project.reward-stock")
+public class RewardStockProperties {
+    // 매진/무제한 판정을 메모리에 두는 시간 (이 동안은 DB 를 조회하지 않는다)
+    private Duration soldOutCacheTtl = Duration.ofSeconds(1);
+    // 한 번에 DB 에서 빌려오는 재고 수 (클수록 DB 왕복이 줄고, 다른 인스턴스에 매진으로 보이는 몫이 커진다)
+    private int leaseBlockSize = 20;
+    // 이 시간 동안 쓰이지 않은 몫은 reconcile 때 모두 돌려놓는다
+    private Duration leaseIdleTimeout = Duration.ofSeconds(30);
+}
@@ -1,20 +1,19 @@
 package io.fundy.fundyserver.register.controller;
 
 import io.fundy.fundyserver.register.dto.*;
-import io.fundy.fundyserver.register.entity.RefreshToken;
 import io.fundy.fundyserver.register.entity.UserStatus;
-import io.fundy.fundyserver.register.exception.ApiException;
-import io.fundy.fundyserver.register.exception.ErrorCode;
-import io.fundy.fundyserver.register.repository.RefreshTokenRepository;
 import io.fundy.fundyserver.register.security.jwt.JwtTokenProvider;
+import io.fundy.fundyserver.register.service.RefreshTokenService;
 import io.fundy.fundyserver.register.service.UserService;
+import io.fundy.fundyserver.register.service.UserUniquenessChecker;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/register")
@@ -23,7 +22,7 @@ public class RegisterController {
 
     private final UserService userService;
     private final JwtTokenProvider jwtProvider;
-    private final RefreshTokenRepository refreshRepo;
+    private final RefreshTokenService refreshTokenService;
 
     // 회원가입 컨트롤러
     @PostMapping("/signup")
@@ -32,6 +31,19 @@ public class RegisterController {
         return ResponseEntity.status(HttpStatus.CREATED).body(res);
     }
 
+    // 아이디/이메일/닉네임 중복 확인 (입력 중 검사용, 전달한 값만 검사)
+    @GetMapping("/check")
+    public ResponseEntity<UserAvailabilityResponseDTO> checkAvailability(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String nickname) {
+        EnumSet<UserUniquenessChecker.Field> conflicts = userService.checkAvailability(userId, email, nickname);
+        return ResponseEntity.ok(UserAvailabilityResponseDTO.builder()
+                .available(conflicts.isEmpty())
+                .conflicts(conflicts.stream().map(UserUniquenessChecker.Field::getFieldName).toList())
+                .build());
+    }
+
     // 로그인 컨트롤러 : 토큰 발급
     @PostMapping("/login")
     public ResponseEntity<TokenResponseDTO> login(@Valid @RequestBody LoginRequestDTO loginReq) {
@@ -40,18 +52,8 @@ public class RegisterController {
         String accessToken = jwtProvider.createAccessToken(user.getUserId(), user.getRoleType());
         String refreshToken = jwtProvider.createRefreshToken(user.getUserId());
 
-        // Refresh Token 저장 또는 갱신
-        RefreshToken tokenEntity = refreshRepo.findById(user.getUserId())
-                .map(rt -> rt.toBuilder()
-                        .token(refreshToken)
-                        .expiryDate(Instant.now().plusMillis(jwtProvider.getRefreshTokenExpiryMs()))
-                        .build())
-                .orElse(RefreshToken.builder()
-                        .userId(user.getUserId())
-                        .token(refreshToken)
-                        .expiryDate(Instant.now().plusMillis(jwtProvider.getRefreshTokenExpiryMs()))
-                        .build());
-        refreshRepo.save(tokenEntity);
+        // Refresh Token 저장 또는 교체 (해시만 저장)
+        refreshTokenService.save(user.getUserId(), user.getRoleType(), refreshToken);
 
         long expiresInMs = jwtProvider.getProps().getAccessTokenExpireMs();
         TokenResponseDTO tokens = TokenResponseDTO.builder()
@@ -63,6 +65,12 @@ public class RegisterController {
         return ResponseEntity.ok(tokens);
     }
 
+    // 현재 접속 중인 사용자 수 (users 조회 없음)
+    @GetMapping("/online-count")
+    public ResponseEntity<Map<String, Integer>> getOnlineCount() {
+        return ResponseEntity.ok(Map.of("onlineCount", userService.getOnlineCount()));
+    }
+
     // 유저 조회 컨트롤러 - 권한 필수 (경로 기반)
     @GetMapping("/user/{id}")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
@@ -136,25 +144,6 @@ public class RegisterController {
     // 토큰 리프레시 컨트롤러
     @PostMapping("/refresh")
     public ResponseEntity<TokenResponseDTO> refresh(@Valid @RequestBody RefreshTokenRequestDTO req) {
-        RefreshToken stored = refreshRepo.findById(req.getRefreshToken())
-                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_TOKEN));
-
-        if (stored.getExpiryDate().isBefore(Instant.now())) {
-            throw new ApiException(ErrorCode.TOKEN_EXPIRED);
-        }
-
-        String userId = jwtProvider.getUserId(stored.getToken());
-        String newAccess = jwtProvider.createAccessToken(userId, jwtProvider.getRole(stored.getToken()));
-        String newRefresh = jwtProvider.createRefreshToken(userId);
-
-        stored.setToken(newRefresh);
-        stored.setExpiryDate(Instant.now().plusMillis(jwtProvider.getRefreshTokenExpiryMs()));
-        refreshRepo.save(stored);
-
-        TokenResponseDTO res = TokenResponseDTO.builder()
-                .accessToken(newAccess)
-                .refreshToken(newRefresh)
-                .build();
-        return ResponseEntity.ok(res);
+        return ResponseEntity.ok(refreshTokenService.refresh(req.getRefreshToken()));
     }
 }
@@ -0,0 +1,17 @@
+package io.fundy.fundyserver.register.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+
+// 아이디/이메일/닉네임 사용 가능 여부 DTO
+public class UserAvailabilityResponseDTO {
+    private boolean available;       // 요청한 값이 모두 사용 가능하면 true
+    private List<String> conflicts;  // 이미 사용 중인 필드 (userId, email, nickname)
+}
@@ -4,19 +4,30 @@ import jakarta.persistence.*;
 import lombok.*;
 import java.time.Instant;
 
+// 사용자별 Refresh Token (토큰 원문 대신 SHA-256 해시만 저장)
+// 재발급 요청은 token_hash 유니크 인덱스로 한 번에 찾고, 만료 행은 RefreshTokenSweeper 가 expiry_date 인덱스로 지운다.
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "user_refresh_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_refresh_tokens_hash", columnNames = "token_hash"),
+        indexes = @Index(name = "idx_user_refresh_tokens_expiry", columnList = "expiry_date"))
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
 public class RefreshToken {
     @Id
+    @Column(name = "user_id", length = 50)
     private String userId;
 
-    @Column(nullable = false)
-    private String token;
+    // SHA-256 (hex 64자)
+    @Column(name = "token_hash", length = 64, nullable = false)
+    private String tokenHash;
 
-    @Column(nullable = false)
+    // 재발급 시 Access Token 에 넣을 권한 (Refresh Token 에는 role 클레임이 없다)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role_type", length = 20, nullable = false)
+    private RoleType roleType;
+
+    @Column(name = "expiry_date", nullable = false)
     private Instant expiryDate;
-}
\ No newline at end of file
+}
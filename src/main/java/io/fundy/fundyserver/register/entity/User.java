@@ -8,7 +8,11 @@ import java.time.LocalDateTime;
 // 사용자 정보를 저장하는 JPA 엔티티.
 
 @Entity
-@Table(name = "users")  // JPA 엔티티 선언
+@Table(name = "users",  // JPA 엔티티 선언
+        indexes = {
+                @Index(name = "idx_users_created_id", columnList = "created_at, id"),  // 관리자 목록 키셋 페이지용
+                @Index(name = "idx_users_updated_at", columnList = "updated_at")        // 닉네임 인덱스 증분 동기화용
+        })
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,33 @@
+package io.fundy.fundyserver.register.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 사용자 접속 상태 / 마지막 로그인 (users 행과 분리)
+// 로그인/요청마다 users 를 수정하지 않도록 UserPresenceTracker 가 메모리에 모았다가 주기적으로 한 번에 기록한다.
+@Entity
+@Table(name = "user_presence",
+        indexes = @Index(name = "idx_user_presence_online_seen", columnList = "online, last_seen_at")) // 온라인 수 집계용
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserPresence {
+
+    // users.id
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(nullable = false)
+    private boolean online;
+
+    @Column(name = "last_login_at")
+    private LocalDateTime lastLoginAt;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt;
+}
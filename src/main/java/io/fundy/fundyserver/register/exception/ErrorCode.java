@@ -15,6 +15,17 @@ public enum ErrorCode {
     BANNED_USER(HttpStatus.FORBIDDEN, "정지된 계정입니다."),
     TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "토큰이 만료되었습니다."),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
+    PROJECT_NOT_FOUND(HttpStatus.NOT_FOUND, "프로젝트를 찾을 수 없습니다."),
+    PROJECT_CLOSED(HttpStatus.CONFLICT, "후원을 받을 수 없는 프로젝트입니다."),
+    REWARD_NOT_FOUND(HttpStatus.NOT_FOUND, "리워드를 찾을 수 없습니다."),
+    REWARD_SOLD_OUT(HttpStatus.CONFLICT, "리워드 수량이 모두 소진되었습니다."),
+    PLEDGE_NOT_FOUND(HttpStatus.NOT_FOUND, "후원 내역을 찾을 수 없습니다."),
+    PLEDGE_INVALID_STATE(HttpStatus.CONFLICT, "현재 상태에서는 처리할 수 없는 후원입니다."),
+    REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "후기를 찾을 수 없습니다."),
+    MEDIA_NOT_FOUND(HttpStatus.NOT_FOUND, "이미지를 찾을 수 없습니다."),
+    MEDIA_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "이미지 크기가 허용 범위를 초과했습니다."),
+    MEDIA_UNSUPPORTED_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "지원하지 않는 이미지 형식입니다."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
 
     private final HttpStatus status;
@@ -2,6 +2,35 @@ package io.fundy.fundyserver.register.repository;
 
 import io.fundy.fundyserver.register.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
-}
\ No newline at end of file
+
+    // 토큰 해시로 조회 (유니크 인덱스)
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 로그인 시 저장 또는 교체 (조회 없이 한 문장)
+    @Modifying
+    @Query(value = "INSERT INTO user_refresh_tokens (user_id, token_hash, role_type, expiry_date) "
+            + "VALUES (:userId, :tokenHash, :roleType, :expiryDate) "
+            + "ON DUPLICATE KEY UPDATE token_hash = VALUES(token_hash), role_type = VALUES(role_type), "
+            + "expiry_date = VALUES(expiry_date)", nativeQuery = true)
+    void upsert(@Param("userId") String userId,
+                @Param("tokenHash") String tokenHash,
+                @Param("roleType") String roleType,
+                @Param("expiryDate") Instant expiryDate);
+
+    // 재발급 시 교체 (조회한 해시가 그대로일 때만, 같은 토큰 동시 재사용은 한쪽만 성공)
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.tokenHash = :newHash, t.expiryDate = :expiryDate "
+            + "WHERE t.userId = :userId AND t.tokenHash = :oldHash")
+    int rotate(@Param("userId") String userId,
+               @Param("oldHash") String oldHash,
+               @Param("newHash") String newHash,
+               @Param("expiryDate") Instant expiryDate);
+}
@@ -2,7 +2,15 @@ package io.fundy.fundyserver.register.repository;
 
 import io.fundy.fundyserver.register.entity.User;
 import io.fundy.fundyserver.register.entity.UserStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -22,4 +30,18 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 
     // 로그인 시 BAN 상태 사용자는 제외하고 조회
     Optional<User> findByUserIdAndUserStatusNot(String userId, UserStatus banned);
-}
\ No newline at end of file
+
+    // 관리자 회원 목록 (가입일 역순 키셋 페이지, idx_users_created_id 사용)
+    @Query("select u from User u order by u.createdAt desc, u.id desc")
+    List<User> findFirstPage(Pageable pageable);
+
+    @Query("select u from User u where u.createdAt < :createdAt or (u.createdAt = :createdAt and u.id < :id) "
+            + "order by u.createdAt desc, u.id desc")
+    List<User> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Integer id, Pageable pageable);
+
+    // 비밀번호 교체 (로그인 재해시/비밀번호 변경, 읽은 해시가 그대로일 때만, 짧은 쓰기 트랜잭션)
+    @Modifying
+    @Transactional
+    @Query("update User u set u.password = :password where u.id = :id and u.password = :oldPassword")
+    int updatePassword(@Param("id") Integer id, @Param("oldPassword") String oldPassword, @Param("password") String password);
+}
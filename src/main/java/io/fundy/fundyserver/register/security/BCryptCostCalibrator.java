@@ -0,0 +1,75 @@
+package io.fundy.fundyserver.register.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 기동 시 현재 장비에서 BCrypt 해시 1회가 목표 시간(targetLatency)에 가장 가깝게 걸리는 strength 를 고른다.
+// 인스턴스 타입이 바뀌어도 로그인 지연 시간이 일정하게 유지되도록 하기 위함.
+@Slf4j
+@Component
+public class BCryptCostCalibrator {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abyx]?\\$(\\d{2})\\$");
+    private static final String SAMPLE_PASSWORD = "calibration-Pa55!";
+
+    private final int strength;
+
+    public BCryptCostCalibrator(PasswordHashingProperties props) {
+        if (props.getStrength() > 0) {
+            this.strength = props.getStrength();
+            log.info("BCrypt strength fixed to {}", strength);
+        } else {
+            this.strength = calibrate(props.getTargetLatency().toNanos(),
+                    props.getMinStrength(), props.getMaxStrength());
+        }
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    // 저장된 해시의 strength 가 현재 값보다 낮을 때만 재해시 대상
+    // (인스턴스마다 측정값이 다르면 != 비교는 로그인할 때마다 올렸다 내렸다 반복하므로 낮추지는 않는다)
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher m = BCRYPT_COST.matcher(encodedPassword);
+        return m.find() && Integer.parseInt(m.group(1)) < strength;
+    }
+
+    private static int calibrate(long targetNanos, int minStrength, int maxStrength) {
+        // JIT 워밍업
+        measure(minStrength);
+        measure(minStrength);
+
+        int chosen = minStrength;
+        long previous = measure(minStrength);
+        if (previous < targetNanos) {
+            for (int s = minStrength + 1; s <= maxStrength; s++) {
+                long elapsed = measure(s);
+                if (elapsed >= targetNanos) {
+                    // 목표를 넘긴 값과 바로 아래 값 중 목표에 더 가까운 쪽 선택
+                    chosen = (elapsed - targetNanos) <= (targetNanos - previous) ? s : s - 1;
+                    break;
+                }
+                chosen = s;
+                previous = elapsed;
+            }
+        }
+        log.info("BCrypt strength calibrated to {} (target {} ms, allowed {}-{})",
+                chosen, targetNanos / 1_000_000, minStrength, maxStrength);
+        return chosen;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,127 @@
+package io.fundy.fundyserver.register.security;
+
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// BCrypt 해시/검증 전용 실행기
+// CPU 를 많이 쓰는 해시 작업을 코어 수 만큼의 스레드로 제한해서
+// 로그인이 몰려도 Tomcat 워커 전체가 해시 계산에 묶이지 않도록 한다.
+// 대기열이 가득 차면 바로 SERVER_BUSY(503) 로 거절한다.
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final BCryptCostCalibrator costCalibrator;
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   BCryptCostCalibrator costCalibrator,
+                                   PasswordHashingProperties props,
+                                   MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.costCalibrator = costCalibrator;
+
+        int threads = props.getThreads() > 0 ? props.getThreads() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(props.getQueueCapacity()),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("BCrypt 작업 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hashing.wait")
+                .description("BCrypt 작업이 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hashing.time")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing.time")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("대기열 초과로 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 비밀번호 해시
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 비밀번호 검증
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 strength 가 현재 설정과 다른지 확인 (해시 계산 없음)
+    public boolean needsRehash(String encodedPassword) {
+        return costCalibrator.needsRehash(encodedPassword);
+    }
+
+    private <T> T submit(Timer hashTimer, Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("Password hashing executor stopped");
+    }
+}
@@ -0,0 +1,25 @@
+package io.fundy.fundyserver.register.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.password-hashing")
+public class PasswordHashingProperties {
+    // BCrypt 전용 스레드 수 (0 이하면 CPU 코어 수)
+    private int threads = 0;
+    // 대기열 크기 (가득 차면 503 응답)
+    private int queueCapacity = 64;
+
+    // BCrypt 작업 비용(strength) (0 이면 기동 시 targetLatency 기준으로 측정, 1 이상이면 그 값으로 고정)
+    private int strength = 0;
+    // 해시 1회 목표 소요 시간
+    private Duration targetLatency = Duration.ofMillis(80);
+    // 측정 시 허용하는 strength 범위
+    private int minStrength = 10;
+    private int maxStrength = 14;
+}
@@ -0,0 +1,77 @@
+package io.fundy.fundyserver.register.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.fundy.fundyserver.register.entity.UserStatus;
+import io.fundy.fundyserver.register.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// JWT 인증 시 사용하는 사용자(CustomUserDetails) 캐시
+// 요청마다 users 테이블을 조회하지 않도록 ttl 동안 보관하고,
+// 사용자 정보가 바뀌면 UserService 에서 즉시 무효화한다.
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, CustomUserDetails> cache;
+    // 무효화할 때마다 증가, 조회 도중 무효화가 있었으면 조회 결과를 캐시에 넣지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    public PrincipalCache(UserRepository userRepository,
+                          PrincipalCacheProperties props,
+                          MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(props.getMaxSize())
+                .expireAfterWrite(props.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principalCache");
+    }
+
+    // 정지되지 않은 사용자 조회 (캐시 미스 시에만 DB 조회)
+    // 정지/미존재 사용자는 캐시에 넣지 않는다.
+    // cache.get(key, loader) 는 ConcurrentHashMap 의 synchronized 구간 안에서 loader 를 실행하므로
+    // 가상 스레드에서 DB 조회 동안 캐리어 스레드가 고정(pinning)된다. 조회는 락 밖에서 수행하고,
+    // 조회 전에 읽은 generation 이 그대로일 때만 compute 안에서 넣어 조회 도중의 무효화가 덮이지 않게 한다.
+    public Optional<CustomUserDetails> getActiveUser(String userId) {
+        CustomUserDetails cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long loadedAt = generation.get();
+        Optional<CustomUserDetails> loaded = userRepository.findByUserIdAndUserStatusNot(userId, UserStatus.BANNED)
+                .map(CustomUserDetails::new);
+        loaded.ifPresent(details -> cache.asMap().compute(userId,
+                (key, current) -> generation.get() == loadedAt ? details : current));
+        return loaded;
+    }
+
+    // 사용자 정보 변경 시 캐시 무효화
+    // 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 비워서
+    // 커밋 전에 다시 적재된 이전 값이 남지 않도록 한다.
+    // generation 을 먼저 올려야 진행 중인 조회가 비운 뒤에 다시 넣지 못한다.
+    public void invalidate(String userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    private void evict(String userId) {
+        generation.incrementAndGet();
+        cache.invalidate(userId);
+    }
+}
@@ -0,0 +1,17 @@
+package io.fundy.fundyserver.register.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.principal-cache")
+public class PrincipalCacheProperties {
+    // 캐시에 보관할 최대 사용자 수
+    private long maxSize = 10_000;
+    // 캐시 항목 최대 보관 시간 (정지 처리가 반영되기까지의 최대 지연)
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -1,13 +1,14 @@
 package io.fundy.fundyserver.register.security;
 
-import io.fundy.fundyserver.register.repository.UserRepository;
 import io.fundy.fundyserver.register.security.jwt.JwtAuthenticationFilter;
 import io.fundy.fundyserver.register.security.jwt.JwtProperties;
 import io.fundy.fundyserver.register.security.jwt.JwtTokenProvider;
+import io.fundy.fundyserver.register.service.UserPresenceTracker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity; // ✅ 추가
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -26,18 +27,19 @@ import java.util.List;
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity //  메서드 보안 어노테이션
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, PrincipalCacheProperties.class, PasswordHashingProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtProperties jwtProperties;
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final UserPresenceTracker presenceTracker;
 
-    // 비밀번호 암호화용 Bean
+    // 비밀번호 암호화용 Bean (strength 는 기동 시 측정값 사용)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(BCryptCostCalibrator calibrator) {
+        return new BCryptPasswordEncoder(calibrator.getStrength());
     }
 
 
@@ -60,7 +62,7 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository);
+        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(jwtTokenProvider, principalCache, presenceTracker);
 
         http
                 .csrf(csrf -> csrf.disable())
@@ -68,6 +70,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/", "/api/register/**", "/swagger-ui/**", "/v3/api-docs/**", "/h2-console/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/project/*", "/api/project/browse", "/api/project/search", "/api/project/search/autocomplete", "/api/project/*/progress/stream", "/api/reviews/project/*/stats", "/media/**").permitAll()
+                        .requestMatchers(HttpMethod.HEAD, "/media/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(ex -> ex
@@ -2,10 +2,9 @@ package io.fundy.fundyserver.register.security.jwt;
 
 import io.fundy.fundyserver.register.exception.ApiException;
 import io.fundy.fundyserver.register.exception.ErrorCode;
-import io.fundy.fundyserver.register.entity.User;
-import io.fundy.fundyserver.register.entity.UserStatus;
-import io.fundy.fundyserver.register.repository.UserRepository;
 import io.fundy.fundyserver.register.security.CustomUserDetails;
+import io.fundy.fundyserver.register.security.PrincipalCache;
+import io.fundy.fundyserver.register.service.UserPresenceTracker;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +20,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final UserRepository userRepo;
+    private final PrincipalCache principalCache;
+    private final UserPresenceTracker presenceTracker;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -33,20 +33,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
 
-            if (tokenProvider.validateToken(token)) {
-                String userId = tokenProvider.getUserId(token);
+            TokenClaims claims = parseOrNull(token);
+            if (claims != null) {
+                String userId = claims.getUserId();
 
-                // 정지된 사용자 로그인 차단
-                User user = userRepo.findByUserIdAndUserStatusNot(userId, UserStatus.BANNED)
+                // 정지된 사용자 로그인 차단 (캐시 우선 조회)
+                CustomUserDetails principal = principalCache.getActiveUser(userId)
                         .orElseThrow(() -> new ApiException(ErrorCode.BANNED_USER));
 
-                CustomUserDetails principal = new CustomUserDetails(user);
                 UsernamePasswordAuthenticationToken auth =
                         new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(auth);
+                presenceTracker.touch(principal.getUser().getId());
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    // 검증 실패 시 인증 없이 다음 필터로 넘긴다 (기존 validateToken 과 동일)
+    private TokenClaims parseOrNull(String token) {
+        try {
+            return tokenProvider.parse(token);
+        } catch (ApiException e) {
+            return null;
+        }
+    }
 }
@@ -14,4 +14,6 @@ public class JwtProperties {
     private long accessTokenExpireMs;
     // RefreshToken 만료시간 (밀리초)
     private long refreshTokenExpireMs;
+    // 검증된 Claims 캐시 최대 크기
+    private long claimsCacheSize = 10_000;
 }
\ No newline at end of file
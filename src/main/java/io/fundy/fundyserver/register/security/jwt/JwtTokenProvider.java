@@ -3,6 +3,9 @@ package io.fundy.fundyserver.register.security.jwt;
 import io.fundy.fundyserver.register.exception.ApiException;
 import io.fundy.fundyserver.register.exception.ErrorCode;
 import io.fundy.fundyserver.register.entity.RoleType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -11,7 +14,10 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -19,11 +25,37 @@ public class JwtTokenProvider {
 
     private final JwtProperties props;
     private SecretKey secretKey;
+    private JwtParser parser;
+    private Cache<String, CachedClaims> claimsCache;
 
     @PostConstruct
     public void init() {
         // HS256에 적합한 키 생성 (256bit 이상)
         this.secretKey = Keys.hmacShaKeyFor(props.getSecret().getBytes(StandardCharsets.UTF_8));
+        // JwtParser 는 불변 객체이므로 한 번만 만들어 재사용
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        // 서명(signature) 부분을 키로, 토큰 만료 시각(exp)까지만 보관
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(props.getClaimsCacheSize())
+                .expireAfter(new Expiry<String, CachedClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedClaims value, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), value.claims().getExpiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedClaims value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedClaims value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     /** Access Token 생성 */
@@ -41,11 +73,13 @@ public class JwtTokenProvider {
     }
 
     // Refresh Token 생성
+    // 같은 초에 발급해도 토큰(과 DB 의 해시)이 겹치지 않도록 무작위 jti 를 넣는다.
     public String createRefreshToken(String userId) {
         Date now = new Date();
         Date exp = new Date(now.getTime() + props.getRefreshTokenExpireMs());
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userId)
                 .issuedAt(now)
                 .expiration(exp)
@@ -56,7 +90,7 @@ public class JwtTokenProvider {
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
         try {
-            parseClaims(token);
+            parse(token);
             return true;
         } catch (ApiException e) {
             return false;
@@ -65,22 +99,47 @@ public class JwtTokenProvider {
 
     // 사용자 ID 추출
     public String getUserId(String token) {
-        return parseClaims(token).getPayload().getSubject();
+        return parse(token).getUserId();
     }
 
     // 역할(RoleType) 추출
     public RoleType getRole(String token) {
-        String role = parseClaims(token).getPayload().get("role", String.class);
-        return RoleType.valueOf(role);
+        return parse(token).getRole();
+    }
+
+    // userId, role, 만료 시각을 한 번의 검증으로 추출
+    // 같은 토큰은 만료 전까지 캐시된 결과를 사용하므로 HMAC 재검증이 없다.
+    public TokenClaims parse(String token) {
+        if (token == null) {
+            throw new ApiException(ErrorCode.INVALID_TOKEN);
+        }
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        CachedClaims cached = claimsCache.getIfPresent(signature);
+        // 서명이 같더라도 헤더/페이로드가 다르면 캐시를 쓰지 않는다.
+        if (cached != null && cached.token().equals(token)
+                && cached.claims().getExpiresAt().isAfter(Instant.now())) {
+            return cached.claims();
+        }
+
+        Claims payload = parseClaims(token).getPayload();
+        if (payload.getExpiration() == null) {
+            throw new ApiException(ErrorCode.INVALID_TOKEN); // 발급하는 토큰은 항상 exp 를 가진다.
+        }
+        String role = payload.get("role", String.class);
+        TokenClaims claims = new TokenClaims(
+                payload.getSubject(),
+                role != null ? RoleType.valueOf(role) : null,
+                payload.getExpiration().toInstant());
+        if (!signature.isEmpty()) {
+            claimsCache.put(signature, new CachedClaims(token, claims));
+        }
+        return claims;
     }
 
     // Claims 파싱 및 예외 처리
     private Jws<Claims> parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            return parser.parseSignedClaims(token);
         } catch (ExpiredJwtException e) {
             throw new ApiException(ErrorCode.TOKEN_EXPIRED);
         } catch (JwtException | IllegalArgumentException e) {
@@ -95,4 +154,7 @@ public class JwtTokenProvider {
     public JwtProperties getProps() {
         return props;
     }
+
+    private record CachedClaims(String token, TokenClaims claims) {
+    }
 }
@@ -0,0 +1,18 @@
+package io.fundy.fundyserver.register.security.jwt;
+
+import io.fundy.fundyserver.register.entity.RoleType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+// 서명 검증이 끝난 토큰에서 꺼낸 값 (한 번의 파싱 결과)
+@Getter
+@AllArgsConstructor
+@ToString
+public class TokenClaims {
+    private final String userId;      // subject
+    private final RoleType role;      // Refresh Token 은 role 클레임이 없으므로 null
+    private final Instant expiresAt;  // exp
+}
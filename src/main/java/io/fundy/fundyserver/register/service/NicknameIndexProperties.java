@@ -0,0 +1,15 @@
+package io.fundy.fundyserver.register.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "register.nickname-index")
+public class NicknameIndexProperties {
+    // 다른 인스턴스에서 가입/수정된 닉네임 반영 주기
+    private Duration syncInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,200 @@
+package io.fundy.fundyserver.register.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 닉네임 부분 일치 검색용 메모리 n-gram 인덱스 (관리자 회원 검색)
+// 닉네임의 1글자/2글자 조각마다 회원 키 목록을 가입일 역순으로 정렬해 두고,
+// 검색어 조각 중 가장 짧은 목록만 순서대로 훑으며 실제 포함 여부를 확인한다.
+// 따라서 검색 비용은 전체 회원 수가 아니라 가장 드문 조각의 회원 수에 비례한다.
+// 목록 정렬 순서는 DB 키셋 조회와 같은 (createdAt, id) 이다.
+@Slf4j
+@Component
+@EnableConfigurationProperties(NicknameIndexProperties.class)
+public class NicknameSearchIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    private final Map<Integer, IndexedUser> users = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentSkipListSet<UserKey>> postings = new ConcurrentHashMap<>();
+    private volatile LocalDateTime syncedAt;
+
+    public NicknameSearchIndex(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        // MySQL 은 fetchSize = Integer.MIN_VALUE 일 때 결과를 스트리밍한다.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    // 회원 추가/닉네임 변경 반영 (트랜잭션 안이면 커밋 후 반영)
+    public void put(Integer id, String nickname, LocalDateTime createdAt) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index(id, nickname, createdAt);
+                }
+            });
+        } else {
+            index(id, nickname, createdAt);
+        }
+    }
+
+    // 닉네임에 query 가 포함된 회원 id 를 가입일 역순으로 최대 limit 건 조회
+    // afterCreatedAt/afterId 가 있으면 그 회원 다음부터 (커서)
+    public List<Integer> search(String query, LocalDateTime afterCreatedAt, Integer afterId, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty()) {
+            return List.of();
+        }
+
+        NavigableSet<UserKey> candidates = null;
+        for (String gram : queryGrams(q)) {
+            ConcurrentSkipListSet<UserKey> posting = postings.get(gram);
+            if (posting == null || posting.isEmpty()) {
+                return List.of();
+            }
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+
+        NavigableSet<UserKey> ordered = candidates.descendingSet();
+        if (afterId != null) {
+            ordered = ordered.tailSet(new UserKey(afterCreatedAt, afterId), false);
+        }
+
+        List<Integer> ids = new ArrayList<>(limit);
+        for (UserKey key : ordered) {
+            IndexedUser user = users.get(key.id());
+            if (user != null && user.key().equals(key) && user.nickname().contains(q)) {
+                ids.add(key.id());
+                if (ids.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return ids;
+    }
+
+    // 기동 시 전체 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            streamingJdbcTemplate.query("SELECT id, nickname, created_at FROM users", rs -> {
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                index(rs.getInt("id"), rs.getString("nickname"), createdAt != null ? createdAt.toLocalDateTime() : null);
+            });
+            syncedAt = startedAt;
+            log.info("Nickname index loaded with {} users", users.size());
+        } catch (DataAccessException e) {
+            log.warn("Nickname index could not be loaded: {}", e.getMessage());
+        }
+    }
+
+    // 다른 인스턴스에서 가입/수정된 회원 반영 (updated_at 기준 증분)
+    @Scheduled(fixedDelayString = "${register.nickname-index.sync-interval:1m}",
+            initialDelayString = "${register.nickname-index.sync-interval:1m}")
+    public void catchUp() {
+        LocalDateTime since = syncedAt;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            jdbcTemplate.query("SELECT id, nickname, created_at FROM users WHERE updated_at >= ?", rs -> {
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                index(rs.getInt("id"), rs.getString("nickname"), createdAt != null ? createdAt.toLocalDateTime() : null);
+            }, Timestamp.valueOf(since.minusSeconds(5)));
+            syncedAt = startedAt;
+        } catch (DataAccessException e) {
+            log.warn("Nickname index catch-up failed: {}", e.getMessage());
+        }
+    }
+
+    private void index(Integer id, String nickname, LocalDateTime createdAt) {
+        if (id == null || nickname == null) {
+            return;
+        }
+        // DB 컬럼 정밀도(마이크로초)에 맞춰 커서와 비교 가능하게 한다
+        UserKey key = new UserKey(createdAt != null ? createdAt.truncatedTo(ChronoUnit.MICROS) : null, id);
+        String normalized = normalize(nickname);
+
+        IndexedUser previous = users.put(id, new IndexedUser(normalized, key));
+        Set<String> newGrams = grams(normalized);
+        if (previous != null) {
+            for (String gram : grams(previous.nickname())) {
+                if (!previous.key().equals(key) || !newGrams.contains(gram)) {
+                    ConcurrentSkipListSet<UserKey> posting = postings.get(gram);
+                    if (posting != null) {
+                        posting.remove(previous.key());
+                    }
+                }
+            }
+        }
+        for (String gram : newGrams) {
+            postings.computeIfAbsent(gram, g -> new ConcurrentSkipListSet<>()).add(key);
+        }
+    }
+
+    // 색인 조각: 1글자 조각 + 2글자 조각 (한 글자 검색도 지원)
+    private static Set<String> grams(String s) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < s.length(); i++) {
+            grams.add(s.substring(i, i + 1));
+            if (i + 2 <= s.length()) {
+                grams.add(s.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 검색 조각: 두 글자 이상 검색어는 2글자 조각만으로 후보를 좁힌다
+    private static Set<String> queryGrams(String q) {
+        if (q.length() == 1) {
+            return Set.of(q);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= q.length(); i++) {
+            grams.add(q.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static String normalize(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexedUser(String nickname, UserKey key) {
+    }
+
+    // (createdAt, id) 정렬 키 (가입 시각이 없는 행은 가장 오래된 것으로 취급)
+    private record UserKey(LocalDateTime createdAt, int id) implements Comparable<UserKey> {
+        private static final Comparator<UserKey> ORDER = Comparator
+                .comparing(UserKey::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingInt(UserKey::id);
+
+        @Override
+        public int compareTo(UserKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.fundy.fundyserver.register.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.refresh-token")
+public class RefreshTokenProperties {
+    // 만료 토큰 정리 주기
+    private Duration sweepInterval = Duration.ofMinutes(10);
+    // DELETE 1회당 최대 행 수 (잠금 구간을 짧게 유지)
+    private int sweepBatchSize = 1000;
+    // 1회 정리에서 실행하는 최대 DELETE 수 (남은 행은 다음 주기에)
+    private int sweepMaxBatches = 100;
+}
@@ -0,0 +1,74 @@
+package io.fundy.fundyserver.register.service;
+
+import io.fundy.fundyserver.register.dto.TokenResponseDTO;
+import io.fundy.fundyserver.register.entity.RefreshToken;
+import io.fundy.fundyserver.register.entity.RoleType;
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import io.fundy.fundyserver.register.repository.RefreshTokenRepository;
+import io.fundy.fundyserver.register.security.jwt.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+// Refresh Token 저장/재발급
+// DB 에는 토큰의 SHA-256 만 저장하므로 테이블이 유출되어도 토큰으로 쓸 수 없다.
+// 재발급은 [해시 유니크 인덱스 조회 1회 + 조건부 UPDATE 1회] 로 끝난다.
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshRepo;
+    private final JwtTokenProvider jwtProvider;
+
+    // 로그인 시 새 Refresh Token 저장 (사용자당 하나, 이전 토큰은 무효)
+    @Transactional
+    public void save(String userId, RoleType roleType, String refreshToken) {
+        refreshRepo.upsert(userId, hash(refreshToken), roleType.name(), expiry());
+    }
+
+    // Refresh Token 으로 Access/Refresh Token 재발급 (Refresh Token 도 교체)
+    @Transactional
+    public TokenResponseDTO refresh(String refreshToken) {
+        String oldHash = hash(refreshToken);
+        RefreshToken stored = refreshRepo.findByTokenHash(oldHash)
+                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_TOKEN));
+
+        if (stored.getExpiryDate().isBefore(Instant.now())) {
+            throw new ApiException(ErrorCode.TOKEN_EXPIRED);
+        }
+
+        String newAccess = jwtProvider.createAccessToken(stored.getUserId(), stored.getRoleType());
+        String newRefresh = jwtProvider.createRefreshToken(stored.getUserId());
+        if (refreshRepo.rotate(stored.getUserId(), oldHash, hash(newRefresh), expiry()) == 0) {
+            // 그 사이 같은 토큰으로 재발급되었거나 다시 로그인함
+            throw new ApiException(ErrorCode.INVALID_TOKEN);
+        }
+
+        return TokenResponseDTO.builder()
+                .accessToken(newAccess)
+                .refreshToken(newRefresh)
+                .accessTokenExpiresIn(jwtProvider.getProps().getAccessTokenExpireMs())
+                .build();
+    }
+
+    private Instant expiry() {
+        return Instant.now().plusMillis(jwtProvider.getRefreshTokenExpiryMs());
+    }
+
+    // 토큰 자체가 서명된 무작위 값(jti)이므로 salt 없이 SHA-256 으로 충분하다
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.fundy.fundyserver.register.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+// 만료된 Refresh Token 정리
+// expiry_date 인덱스 범위를 sweepBatchSize 행씩 나눠 지우고 DELETE 마다 자동 커밋하므로
+// 한 번에 오래 잠그지 않고, 로그인/재발급과 길게 경합하지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RefreshTokenProperties.class)
+public class RefreshTokenSweeper {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RefreshTokenProperties props;
+
+    @Scheduled(fixedDelayString = "${security.refresh-token.sweep-interval:10m}",
+            initialDelayString = "${security.refresh-token.sweep-interval:10m}")
+    public void sweep() {
+        Timestamp now = Timestamp.from(Instant.now());
+        int total = 0;
+        try {
+            for (int batch = 0; batch < props.getSweepMaxBatches(); batch++) {
+                int deleted = jdbcTemplate.update(
+                        "DELETE FROM user_refresh_tokens WHERE expiry_date < ? ORDER BY expiry_date LIMIT ?",
+                        now, props.getSweepBatchSize());
+                total += deleted;
+                if (deleted < props.getSweepBatchSize()) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Refresh token sweep failed: {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.info("Deleted {} expired refresh tokens", total);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.fundy.fundyserver.register.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "register.presence")
+public class UserPresenceProperties {
+    // 접속 상태 DB 반영 주기 (주기당 사용자별 최신 상태 1행)
+    private Duration flushInterval = Duration.ofSeconds(5);
+    // 마지막 요청 후 이 시간이 지나면 오프라인 (로그아웃 없이 떠난 사용자)
+    private Duration onlineTtl = Duration.ofMinutes(30);
+    // 요청만 있을 때 last_seen_at 을 다시 기록하는 최소 간격
+    private Duration seenWriteInterval = Duration.ofMinutes(5);
+    // 배치 UPSERT 1회당 행 수
+    private int batchSize = 500;
+}
@@ -0,0 +1,156 @@
+package io.fundy.fundyserver.register.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 로그인/접속 상태 추적 (users 행을 수정하지 않음)
+// 접속 중인 사용자는 메모리 맵에 두고, DB(user_presence) 에는 바뀐 사용자의 최신 상태만
+// flushInterval 마다 배치 UPSERT 로 기록하므로 한 주기 안의 로그인/요청/로그아웃이 여러 번이어도 사용자당 한 행만 쓴다.
+// 같은 사용자가 여러 인스턴스에 접속해 있으면 기록 순서가 뒤바뀔 수 있으므로, UPSERT 는 DB 의 last_seen_at 보다
+// 새 상태일 때만 online 을 바꾼다.
+// 온라인 수는 모든 인스턴스의 기록(user_presence)으로 계산해 flushInterval 동안 재사용한다.
+@Slf4j
+@Component
+@EnableConfigurationProperties(UserPresenceProperties.class)
+public class UserPresenceTracker {
+
+    private static final String UPSERT_SQL = "INSERT INTO user_presence (user_id, online, last_login_at, last_seen_at) "
+            + "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
+            // 대입은 왼쪽부터 적용되므로 online 을 last_seen_at 보다 먼저 (기존 last_seen_at 과 비교)
+            + "online = IF(VALUES(last_seen_at) >= last_seen_at, VALUES(online), online), "
+            + "last_login_at = COALESCE(GREATEST(last_login_at, VALUES(last_login_at)), VALUES(last_login_at), last_login_at), "
+            + "last_seen_at = GREATEST(last_seen_at, VALUES(last_seen_at))";
+    private static final String ONLINE_COUNT_SQL = "SELECT COUNT(*) FROM user_presence WHERE online = TRUE AND last_seen_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserPresenceProperties props;
+
+    // 접속 중인 사용자 (users.id → 세션)
+    private final Map<Integer, Session> online = new ConcurrentHashMap<>();
+    // 아직 기록하지 않은 사용자별 최신 상태
+    private final Map<Integer, PresenceRow> pending = new ConcurrentHashMap<>();
+    // 마지막으로 집계한 온라인 수 (모든 인스턴스 기준)
+    private volatile OnlineCount onlineCount;
+
+    public UserPresenceTracker(JdbcTemplate jdbcTemplate, UserPresenceProperties props) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.props = props;
+    }
+
+    // 로그인
+    public void login(Integer userId) {
+        long now = System.currentTimeMillis();
+        online.put(userId, new Session(now, now));
+        record(new PresenceRow(userId, true, now, now));
+    }
+
+    // 로그아웃
+    public void logout(Integer userId) {
+        online.remove(userId);
+        record(new PresenceRow(userId, false, null, System.currentTimeMillis()));
+    }
+
+    // 인증된 요청마다 호출 (메모리만 갱신, seenWriteInterval 마다 한 번 DB 기록 대상)
+    public void touch(Integer userId) {
+        long now = System.currentTimeMillis();
+        Session session = online.get(userId);
+        if (session != null && now - session.lastSeen() < 1_000) {
+            return; // 1초 안의 연속 요청은 무시
+        }
+        long writeInterval = props.getSeenWriteInterval().toMillis();
+        Session updated = online.compute(userId, (id, s) -> s == null
+                ? new Session(now, 0)                                  // 재시작/만료 후 다시 온 사용자
+                : new Session(now, s.persistedSeen()));
+        if (now - updated.persistedSeen() >= writeInterval) {
+            online.computeIfPresent(userId, (id, s) -> new Session(s.lastSeen(), now));
+            record(new PresenceRow(userId, true, null, now));
+        }
+    }
+
+    // 온라인 사용자 수 (모든 인스턴스, onlineTtl 안에 요청이 있었던 사용자, 최대 flushInterval 전 값)
+    public int onlineCount() {
+        long now = System.currentTimeMillis();
+        OnlineCount cached = onlineCount;
+        if (cached != null && now - cached.countedAt() < props.getFlushInterval().toMillis()) {
+            return cached.count();
+        }
+        try {
+            Integer count = jdbcTemplate.queryForObject(ONLINE_COUNT_SQL, Integer.class,
+                    timestamp(now - props.getOnlineTtl().toMillis()));
+            onlineCount = new OnlineCount(count != null ? count : 0, now);
+            return onlineCount.count();
+        } catch (DataAccessException e) {
+            log.warn("Online user count failed: {}", e.getMessage());
+            return cached != null ? cached.count() : online.size();
+        }
+    }
+
+    // 오래 요청이 없는 사용자 오프라인 처리 후 바뀐 상태 기록
+    @Scheduled(fixedDelayString = "${register.presence.flush-interval:5s}")
+    public void flush() {
+        long idleBefore = System.currentTimeMillis() - props.getOnlineTtl().toMillis();
+        online.forEach((userId, session) -> {
+            if (session.lastSeen() < idleBefore && online.remove(userId, session)) {
+                record(new PresenceRow(userId, false, null, session.lastSeen()));
+            }
+        });
+
+        List<PresenceRow> batch = new ArrayList<>(pending.values());
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (int from = 0; from < batch.size(); from += props.getBatchSize()) {
+            List<PresenceRow> chunk = batch.subList(from, Math.min(from + props.getBatchSize(), batch.size()));
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, chunk.stream().map(row -> new Object[]{
+                        row.userId(), row.online(), timestamp(row.lastLogin()), timestamp(row.lastSeen())}).toList());
+                // 기록하는 사이 바뀐 사용자는 남겨 두고 다음 주기에 기록
+                chunk.forEach(row -> pending.remove(row.userId(), row));
+            } catch (DataAccessException e) {
+                log.warn("Failed to flush {} user presence rows, will retry", chunk.size(), e);
+            }
+        }
+    }
+
+    // 종료 시 남은 상태 기록
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 같은 사용자의 미기록 상태와 합침 (로그인 시각은 더 새 값이 없으면 유지)
+    private void record(PresenceRow row) {
+        pending.merge(row.userId(), row, (old, latest) -> latest.lastLogin() != null || old.lastLogin() == null
+                ? latest
+                : new PresenceRow(latest.userId(), latest.online(), old.lastLogin(), latest.lastSeen()));
+    }
+
+    private static Timestamp timestamp(Long epochMillis) {
+        return epochMillis == null ? null
+                : Timestamp.valueOf(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()));
+    }
+
+    // lastSeen: 마지막 요청 시각, persistedSeen: 마지막으로 기록 대상에 넣은 요청 시각
+    private record Session(long lastSeen, long persistedSeen) {
+    }
+
+    private record OnlineCount(int count, long countedAt) {
+    }
+
+    private record PresenceRow(Integer userId, boolean online, Long lastLogin, Long lastSeen) {
+    }
+}
@@ -9,35 +9,37 @@ import io.fundy.fundyserver.register.entity.UserStatus;
 import io.fundy.fundyserver.register.exception.ApiException;
 import io.fundy.fundyserver.register.exception.ErrorCode;
 import io.fundy.fundyserver.register.repository.UserRepository;
+import io.fundy.fundyserver.register.security.PasswordHashingExecutor;
+import io.fundy.fundyserver.register.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHasher; // BCrypt 는 전용 실행기에서 처리
+    private final PrincipalCache principalCache;
+    private final NicknameSearchIndex nicknameIndex;     // 관리자 닉네임 검색용 인덱스
+    private final UserUniquenessChecker uniquenessChecker; // 아이디/이메일/닉네임 중복 검사 (쿼리 1회)
+    private final UserPresenceTracker presenceTracker;     // 로그인/접속 상태 (users 행과 분리)
 
     // 회원가입
-    @Transactional
+    // BCrypt 해시는 트랜잭션(커넥션)을 잡기 전에 만들고, 저장은 saveAndFlush 의 짧은 트랜잭션으로 끝낸다.
     public UserResponseDTO signup(UserRequestDTO req) {
-        if (userRepository.existsByUserId(req.getUserId())) {
-            throw new ApiException(ErrorCode.DUPLICATE_USER_ID);
-        }
-        if (userRepository.existsByEmail(req.getEmail())) {
-            throw new ApiException(ErrorCode.DUPLICATE_EMAIL);
-        }
-        if (userRepository.existsByNickname(req.getNickname())) {
-            throw new ApiException(ErrorCode.DUPLICATE_NICKNAME);
-        }
+        throwIfConflict(uniquenessChecker.findConflicts(req.getUserId(), req.getEmail(), req.getNickname(), null));
+        String encodedPassword = passwordHasher.encode(req.getPassword());
 
         User user = User.builder()
                 .userId(req.getUserId())
                 .email(req.getEmail())
-                .password(passwordEncoder.encode(req.getPassword()))
+                .password(encodedPassword)
                 .nickname(req.getNickname())
                 .phone(req.getPhone())
                 .address(req.getAddress())
@@ -46,12 +48,21 @@ public class UserService {
                 .roleType(RoleType.USER)
                 .build();
 
-        userRepository.save(user);
+        saveUnique(user, null);
+        uniquenessChecker.register(user.getUserId(), user.getEmail(), user.getNickname());
+        nicknameIndex.put(user.getId(), user.getNickname(), user.getCreatedAt());
         return toResponse(user);
     }
 
-    // 로그인
-    @Transactional
+    // 아이디/이메일/닉네임 사용 가능 여부 (입력 중 검사용, 비어 있는 값은 검사하지 않음)
+    @Transactional(readOnly = true)
+    public EnumSet<UserUniquenessChecker.Field> checkAvailability(String userId, String email, String nickname) {
+        return uniquenessChecker.findConflicts(blankToNull(userId), blankToNull(email), blankToNull(nickname), null);
+    }
+
+    // 로그인 (users 는 읽기만, 접속 상태는 presenceTracker 가 모아서 기록)
+    // 조회는 저장소의 짧은 읽기 트랜잭션으로 끝내고, BCrypt 검증/재해시는 트랜잭션 밖에서 한다.
+    // 재해시 UPDATE 는 조회 트랜잭션이 끝난 뒤의 별도 트랜잭션이라 한 요청이 커넥션을 두 개 잡지 않는다.
     public UserResponseDTO login(String userId, String rawPassword) {
         User user = userRepository.findByUserId(userId)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
@@ -59,23 +70,31 @@ public class UserService {
         if (user.getUserStatus() == UserStatus.BANNED) {
             throw new ApiException(ErrorCode.BANNED_USER);
         }
-        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+        if (!passwordHasher.matches(rawPassword, user.getPassword())) {
             throw new ApiException(ErrorCode.INVALID_PASSWORD);
         }
+        // strength 가 낮은 해시는 검증에 성공한 평문으로 다시 해시 (그 사이 비밀번호가 바뀌었으면 0건)
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            userRepository.updatePassword(user.getId(), user.getPassword(), passwordHasher.encode(rawPassword));
+        }
 
-        user.setUserStatus(UserStatus.LOGIN);
-        userRepository.save(user);
-        return toResponse(user);
+        presenceTracker.login(user.getId());
+        UserResponseDTO res = toResponse(user);
+        res.setUserStatus(UserStatus.LOGIN); // 응답은 기존과 같이 로그인 상태로
+        return res;
     }
 
-    // 로그아웃
-    @Transactional
+    // 로그아웃 (users 행은 수정하지 않음)
     public void logout(String userId) {
-        User user = userRepository.findByUserId(userId)
+        Integer id = principalCache.getActiveUser(userId)
+                .map(principal -> principal.getUser().getId())
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
+        presenceTracker.logout(id);
+    }
 
-        user.setUserStatus(UserStatus.LOGOUT);
-        userRepository.save(user);
+    // 온라인 사용자 수 (모든 인스턴스)
+    public int getOnlineCount() {
+        return presenceTracker.onlineCount();
     }
 
     // 프로필 조회
@@ -92,15 +111,15 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
 
-        if (!user.getUserId().equals(req.getUserId()) && userRepository.existsByUserId(req.getUserId())) {
-            throw new ApiException(ErrorCode.DUPLICATE_USER_ID);
-        }
-        if (!user.getEmail().equals(req.getEmail()) && userRepository.existsByEmail(req.getEmail())) {
-            throw new ApiException(ErrorCode.DUPLICATE_EMAIL);
-        }
-        if (!user.getNickname().equals(req.getNickname()) && userRepository.existsByNickname(req.getNickname())) {
-            throw new ApiException(ErrorCode.DUPLICATE_NICKNAME);
-        }
+        // 바뀐 값만 검사
+        throwIfConflict(uniquenessChecker.findConflicts(
+                user.getUserId().equals(req.getUserId()) ? null : req.getUserId(),
+                user.getEmail().equals(req.getEmail()) ? null : req.getEmail(),
+                user.getNickname().equals(req.getNickname()) ? null : req.getNickname(),
+                user.getId()));
+
+        principalCache.invalidate(user.getUserId());
+        principalCache.invalidate(req.getUserId());
 
         user.setUserId(req.getUserId());
         user.setEmail(req.getEmail());
@@ -108,22 +127,27 @@ public class UserService {
         user.setPhone(req.getPhone());
         user.setAddress(req.getAddress());
         user.setAccountNumber(req.getAccountNumber());
-        userRepository.save(user);
+        saveUnique(user, user.getId());
+        uniquenessChecker.register(user.getUserId(), user.getEmail(), user.getNickname());
+        nicknameIndex.put(user.getId(), user.getNickname(), user.getCreatedAt());
         return toResponse(user);
     }
 
-    // 비밀번호 변경
-    @Transactional
+    // 비밀번호 변경 (로그인과 같이 BCrypt 검증/해시는 트랜잭션 밖, 저장은 조건부 UPDATE 한 문장)
     public void changePassword(Integer id, PasswordChangeRequestDTO req) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
 
-        if (!passwordEncoder.matches(req.getCurrentPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(req.getCurrentPassword(), user.getPassword())) {
             throw new ApiException(ErrorCode.PASSWORD_MISMATCH);
         }
 
-        user.setPassword(passwordEncoder.encode(req.getNewPassword()));
-        userRepository.save(user);
+        String encodedPassword = passwordHasher.encode(req.getNewPassword());
+        if (userRepository.updatePassword(user.getId(), user.getPassword(), encodedPassword) == 0) {
+            // 검증한 뒤 다른 요청이 비밀번호를 바꿈
+            throw new ApiException(ErrorCode.PASSWORD_MISMATCH);
+        }
+        principalCache.invalidate(user.getUserId());
     }
 
     // 상태 변경 (회원 탈퇴 등)
@@ -133,6 +157,7 @@ public class UserService {
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
         user.setUserStatus(status);
         userRepository.save(user);
+        principalCache.invalidate(user.getUserId());
     }
 
     // ID로 유저 조회
@@ -151,8 +176,32 @@ public class UserService {
         return toResponse(user);
     }
 
-    // Entity → DTO 변환
-    private UserResponseDTO toResponse(User u) {
+    // 유니크 제약 위반(동시 가입 경쟁 등)은 원인 필드를 DB 로 다시 확인해서 중복 오류로 변환
+    private void saveUnique(User user, Integer excludeId) {
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throwIfConflict(uniquenessChecker.findConflictsInDb(
+                    user.getUserId(), user.getEmail(), user.getNickname(), excludeId));
+            // 충돌한 행이 그 사이 삭제/변경된 경우에도 500 이 아닌 중복 오류로 응답
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            throw new ApiException(uniquenessChecker.fieldOf(
+                    message, user.getUserId(), user.getEmail(), user.getNickname()).getErrorCode());
+        }
+    }
+
+    private static void throwIfConflict(EnumSet<UserUniquenessChecker.Field> conflicts) {
+        if (!conflicts.isEmpty()) {
+            throw new ApiException(conflicts.iterator().next().getErrorCode());
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    // Entity → DTO 변환 (벤치마크에서 접근하도록 package-private)
+    UserResponseDTO toResponse(User u) {
         return UserResponseDTO.builder()
                 .id(u.getId())
                 .userId(u.getUserId())
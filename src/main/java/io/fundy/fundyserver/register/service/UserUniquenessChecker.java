@@ -0,0 +1,277 @@
+package io.fundy.fundyserver.register.service;
+
+import io.fundy.fundyserver.common.util.BloomFilter;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 아이디/이메일/닉네임 중복 검사
+// 필드별 Bloom filter 에 "확실히 없음"으로 나온 값은 DB 를 조회하지 않고,
+// 나머지 값만 모아 한 번의 쿼리(OR 조건, 세 유니크 인덱스)로 충돌 필드를 모두 찾는다.
+// Bloom filter 는 판단을 줄이는 용도일 뿐이며, 동시 가입 경쟁은 DB 유니크 제약이 최종 판정한다.
+// 다른 인스턴스에서 가입한 값은 syncInterval 마다 updated_at 기준으로 반영하고,
+// 탈퇴/변경으로 사라진 값은 rebuildInterval 마다 전체 재구성으로 비운다.
+@Slf4j
+@Component
+@EnableConfigurationProperties(UserUniquenessProperties.class)
+public class UserUniquenessChecker {
+
+    private static final String LOAD_ALL_SQL = "SELECT user_id, email, nickname FROM users";
+    private static final String LOAD_CHANGED_SQL = LOAD_ALL_SQL + " WHERE updated_at >= ?";
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final UserUniquenessProperties props;
+    private final Counter skippedChecks;
+    private final Counter dbChecks;
+
+    // 적재 전(null)에는 항상 DB 로 확인
+    private volatile Filters filters;
+    private volatile LocalDateTime syncedAt;
+
+    public UserUniquenessChecker(JdbcTemplate jdbcTemplate,
+                                 DataSource dataSource,
+                                 UserUniquenessProperties props,
+                                 MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        // MySQL 은 fetchSize = Integer.MIN_VALUE 일 때 결과를 스트리밍한다.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.props = props;
+        this.skippedChecks = Counter.builder("user.uniqueness.check")
+                .tag("source", "bloom")
+                .description("Bloom filter 만으로 사용 가능 판정한 중복 검사 수")
+                .register(meterRegistry);
+        this.dbChecks = Counter.builder("user.uniqueness.check")
+                .tag("source", "db")
+                .description("DB 조회가 필요했던 중복 검사 수")
+                .register(meterRegistry);
+    }
+
+    // 이미 사용 중인 필드 조회 (null 인 값은 검사하지 않음, excludeId 는 본인 제외)
+    public EnumSet<Field> findConflicts(String userId, String email, String nickname, Integer excludeId) {
+        Filters f = filters;
+        String checkUserId = f == null || f.mightContain(Field.USER_ID, userId) ? userId : null;
+        String checkEmail = f == null || f.mightContain(Field.EMAIL, email) ? email : null;
+        String checkNickname = f == null || f.mightContain(Field.NICKNAME, nickname) ? nickname : null;
+        if (checkUserId == null && checkEmail == null && checkNickname == null) {
+            skippedChecks.increment();
+            return EnumSet.noneOf(Field.class);
+        }
+        dbChecks.increment();
+        return queryConflicts(checkUserId, checkEmail, checkNickname, excludeId);
+    }
+
+    // Bloom filter 없이 DB 로만 확인 (유니크 제약 위반 후 원인 필드 판별용)
+    // JPA 세션을 거치지 않으므로 flush 에 실패한 트랜잭션 안에서도 호출할 수 있다.
+    public EnumSet<Field> findConflictsInDb(String userId, String email, String nickname, Integer excludeId) {
+        return queryConflicts(userId, email, nickname, excludeId);
+    }
+
+    // 새로 사용된 값 등록 (롤백되더라도 오탐이 하나 늘 뿐이다)
+    public void register(String userId, String email, String nickname) {
+        Filters f = filters;
+        if (f != null) {
+            f.put(userId, email, nickname);
+        }
+    }
+
+    // 유니크 제약 위반 메시지(Duplicate entry '값' for key ...)의 값으로 원인 필드 추정 (못 찾으면 아이디)
+    // 충돌한 행이 위반 직후 삭제/변경되어 DB 재조회로 찾지 못한 경우에 쓴다.
+    public Field fieldOf(String violationMessage, String userId, String email, String nickname) {
+        String entry = duplicateEntry(violationMessage);
+        if (entry != null) {
+            String entryKey = key(entry);
+            if (email != null && entryKey.equals(key(email))) {
+                return Field.EMAIL;
+            }
+            if (nickname != null && entryKey.equals(key(nickname))) {
+                return Field.NICKNAME;
+            }
+        }
+        return Field.USER_ID;
+    }
+
+    private static String duplicateEntry(String message) {
+        if (message == null) {
+            return null;
+        }
+        int start = message.indexOf("Duplicate entry '");
+        int end = message.lastIndexOf("' for key");
+        return start < 0 || end < start + 17 ? null : message.substring(start + 17, end);
+    }
+
+    private EnumSet<Field> queryConflicts(String userId, String email, String nickname, Integer excludeId) {
+        // 검사할 필드만 OR 로 묶어 한 번에 조회 (각 조건은 해당 유니크 인덱스를 탄다)
+        // 일치 여부도 SQL 로 계산해 컬럼 collation(대소문자/악센트/전각 무시)과 같은 규칙으로 판정한다.
+        List<String> hits = new ArrayList<>(3);
+        List<String> predicates = new ArrayList<>(3);
+        List<Object> hitArgs = new ArrayList<>(3);
+        List<Object> whereArgs = new ArrayList<>(4);
+        if (userId != null) {
+            hits.add("user_id = ? AS user_id_hit");
+            predicates.add("user_id = ?");
+            hitArgs.add(userId);
+            whereArgs.add(userId);
+        }
+        if (email != null) {
+            hits.add("email = ? AS email_hit");
+            predicates.add("email = ?");
+            hitArgs.add(email);
+            whereArgs.add(email);
+        }
+        if (nickname != null) {
+            hits.add("nickname = ? AS nickname_hit");
+            predicates.add("nickname = ?");
+            hitArgs.add(nickname);
+            whereArgs.add(nickname);
+        }
+        EnumSet<Field> conflicts = EnumSet.noneOf(Field.class);
+        if (predicates.isEmpty()) {
+            return conflicts;
+        }
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", hits))
+                .append(" FROM users WHERE (").append(String.join(" OR ", predicates)).append(")");
+        if (excludeId != null) {
+            sql.append(" AND id <> ?");
+            whereArgs.add(excludeId);
+        }
+        sql.append(" LIMIT 3");
+
+        List<Object> args = new ArrayList<>(hitArgs);
+        args.addAll(whereArgs);
+        jdbcTemplate.query(sql.toString(), (RowCallbackHandler) rs -> {
+            if (userId != null && rs.getBoolean("user_id_hit")) {
+                conflicts.add(Field.USER_ID);
+            }
+            if (email != null && rs.getBoolean("email_hit")) {
+                conflicts.add(Field.EMAIL);
+            }
+            if (nickname != null && rs.getBoolean("nickname_hit")) {
+                conflicts.add(Field.NICKNAME);
+            }
+        }, args.toArray());
+        return conflicts;
+    }
+
+    // 기동 시 / 주기적으로 전체 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${register.uniqueness.rebuild-interval:6h}",
+            initialDelayString = "${register.uniqueness.rebuild-interval:6h}")
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            Filters fresh = new Filters(props.getExpectedUsers(), props.getFalsePositiveRate());
+            streamingJdbcTemplate.query(LOAD_ALL_SQL, loader(fresh));
+            filters = fresh;
+            syncedAt = startedAt;
+            // 적재하는 동안 가입한 회원 반영
+            catchUp();
+            log.info("User uniqueness filters rebuilt");
+        } catch (DataAccessException e) {
+            log.warn("User uniqueness filters could not be rebuilt, falling back to DB checks: {}", e.getMessage());
+        }
+    }
+
+    // 다른 인스턴스에서 가입/수정된 값 반영 (updated_at 기준 증분)
+    @Scheduled(fixedDelayString = "${register.uniqueness.sync-interval:10s}",
+            initialDelayString = "${register.uniqueness.sync-interval:10s}")
+    public void catchUp() {
+        Filters f = filters;
+        LocalDateTime since = syncedAt;
+        if (f == null || since == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            jdbcTemplate.query(LOAD_CHANGED_SQL, loader(f), Timestamp.valueOf(since.minusSeconds(5)));
+            syncedAt = startedAt;
+        } catch (DataAccessException e) {
+            log.warn("User uniqueness filter catch-up failed: {}", e.getMessage());
+        }
+    }
+
+    private static RowCallbackHandler loader(Filters f) {
+        return rs -> f.put(rs.getString("user_id"), rs.getString("email"), rs.getString("nickname"));
+    }
+
+    // 중복 검사 대상 필드 (EnumSet 순서 = 오류 응답 우선순위)
+    @Getter
+    public enum Field {
+        USER_ID("userId", ErrorCode.DUPLICATE_USER_ID),
+        EMAIL("email", ErrorCode.DUPLICATE_EMAIL),
+        NICKNAME("nickname", ErrorCode.DUPLICATE_NICKNAME);
+
+        private final String fieldName;
+        private final ErrorCode errorCode;
+
+        Field(String fieldName, ErrorCode errorCode) {
+            this.fieldName = fieldName;
+            this.errorCode = errorCode;
+        }
+    }
+
+    // 필드별 Bloom filter 묶음 (재구성 시 통째로 교체)
+    private static final class Filters {
+        private final BloomFilter userIds;
+        private final BloomFilter emails;
+        private final BloomFilter nicknames;
+
+        Filters(long expected, double fpp) {
+            this.userIds = new BloomFilter(expected, fpp);
+            this.emails = new BloomFilter(expected, fpp);
+            this.nicknames = new BloomFilter(expected, fpp);
+        }
+
+        void put(String userId, String email, String nickname) {
+            if (userId != null) {
+                userIds.put(key(userId));
+            }
+            if (email != null) {
+                emails.put(key(email));
+            }
+            if (nickname != null) {
+                nicknames.put(key(nickname));
+            }
+        }
+
+        boolean mightContain(Field field, String value) {
+            if (value == null) {
+                return false;
+            }
+            return switch (field) {
+                case USER_ID -> userIds.mightContain(key(value));
+                case EMAIL -> emails.mightContain(key(value));
+                case NICKNAME -> nicknames.mightContain(key(value));
+            };
+        }
+    }
+
+    // DB 비교 규칙(utf8mb4_0900_ai_ci: 대소문자/악센트/전각·반각 무시)보다 넓게 잡아야 "확실히 없음"이 틀리지 않는다
+    // NFKD 로 호환 문자(전각 등)를 풀고 결합 문자(악센트)를 떼어 낸 뒤 소문자로 맞춘다.
+    static String key(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").strip().toLowerCase(Locale.ROOT);
+    }
+}
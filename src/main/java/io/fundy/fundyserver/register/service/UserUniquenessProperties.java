@@ -0,0 +1,21 @@
+package io.fundy.fundyserver.register.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "register.uniqueness")
+public class UserUniquenessProperties {
+    // Bloom filter 크기 산정용 예상 회원 수 (필드별)
+    private long expectedUsers = 1_000_000;
+    // "이미 있을 수도 있음" 오탐 확률 (오탐이면 DB 조회 1회)
+    private double falsePositiveRate = 0.01;
+    // 다른 인스턴스에서 가입/수정된 값 반영 주기
+    private Duration syncInterval = Duration.ofSeconds(10);
+    // 탈퇴/변경으로 사라진 값을 비우기 위한 전체 재구성 주기
+    private Duration rebuildInterval = Duration.ofHours(6);
+}
@@ -0,0 +1,53 @@
+package io.fundy.fundyserver.review.controller;
+
+import io.fundy.fundyserver.register.security.CustomUserDetails;
+import io.fundy.fundyserver.review.dto.ProjectReviewStatsDTO;
+import io.fundy.fundyserver.review.dto.ReviewRequestDTO;
+import io.fundy.fundyserver.review.dto.ReviewResponseDTO;
+import io.fundy.fundyserver.review.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/reviews")
+@RequiredArgsConstructor
+public class ReviewController {
+
+    private final ReviewService reviewService;
+
+    // 후기 작성
+    @PostMapping
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ReviewResponseDTO> create(@AuthenticationPrincipal CustomUserDetails principal,
+                                                    @RequestBody ReviewRequestDTO req) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(reviewService.create(principal.getUsername(), req));
+    }
+
+    // 후기 수정
+    @PatchMapping("/{reviewId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ReviewResponseDTO> update(@AuthenticationPrincipal CustomUserDetails principal,
+                                                    @PathVariable Long reviewId,
+                                                    @RequestBody ReviewRequestDTO req) {
+        return ResponseEntity.ok(reviewService.update(reviewId, principal.getUsername(), req));
+    }
+
+    // 후기 삭제
+    @DeleteMapping("/{reviewId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<Void> delete(@AuthenticationPrincipal CustomUserDetails principal,
+                                       @PathVariable Long reviewId) {
+        reviewService.delete(reviewId, principal.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+
+    // 프로젝트 만족도 집계 (비로그인 허용)
+    @GetMapping("/project/{projectId}/stats")
+    public ResponseEntity<ProjectReviewStatsDTO> getStats(@PathVariable Long projectId) {
+        return ResponseEntity.ok(reviewService.getStats(projectId));
+    }
+}
@@ -0,0 +1,56 @@
+package io.fundy.fundyserver.review.dto;
+
+import io.fundy.fundyserver.review.entity.ProjectReviewStats;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+
+// 프로젝트 후기 만족도 집계 DTO
+public class ProjectReviewStatsDTO {
+    private Long projectId;
+    private int reviewCount;
+    private SatisfactionSummary reward;         // 리워드 만족도
+    private SatisfactionSummary planning;       // 기획 만족도
+    private SatisfactionSummary communication;  // 소통 만족도
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SatisfactionSummary {
+        private int bad;
+        private int average;
+        private int good;
+        private double score;   // 평균 점수 (BAD=1, AVERAGE=2, GOOD=3, 후기가 없으면 0)
+
+        static SatisfactionSummary of(int bad, int average, int good) {
+            int total = bad + average + good;
+            double score = total == 0 ? 0 : (bad + average * 2.0 + good * 3.0) / total;
+            return new SatisfactionSummary(bad, average, good, score);
+        }
+    }
+
+    public static ProjectReviewStatsDTO fromEntity(ProjectReviewStats s) {
+        return ProjectReviewStatsDTO.builder()
+                .projectId(s.getProjectId())
+                .reviewCount(s.getReviewCount())
+                .reward(SatisfactionSummary.of(s.getRewardBad(), s.getRewardAverage(), s.getRewardGood()))
+                .planning(SatisfactionSummary.of(s.getPlanningBad(), s.getPlanningAverage(), s.getPlanningGood()))
+                .communication(SatisfactionSummary.of(s.getCommunicationBad(), s.getCommunicationAverage(), s.getCommunicationGood()))
+                .build();
+    }
+
+    public static ProjectReviewStatsDTO empty(Long projectId) {
+        return ProjectReviewStatsDTO.builder()
+                .projectId(projectId)
+                .reviewCount(0)
+                .reward(SatisfactionSummary.of(0, 0, 0))
+                .planning(SatisfactionSummary.of(0, 0, 0))
+                .communication(SatisfactionSummary.of(0, 0, 0))
+                .build();
+    }
+}
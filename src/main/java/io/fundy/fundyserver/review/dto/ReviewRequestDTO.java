@@ -1,20 +1,19 @@
-//package io.fundy.fundyserver.projectreview.dto;
-//
-//import lombok.AllArgsConstructor;
-//import lombok.Getter;
-//import lombok.NoArgsConstructor;
-//import lombok.Setter;
-//import org.springframework.web.multipart.MultipartFile;
-//
-//@Getter
-//@Setter
-//@NoArgsConstructor
-//@AllArgsConstructor
-//public class ReviewRequestDTO {
-//    private Long projectId;
-//    private int rewardSatisfaction;
-//    private int planningSatisfaction;
-//    private int communicationSatisfaction;
-//    private String content;
-//    private MultipartFile image;
-//}
\ No newline at end of file
+package io.fundy.fundyserver.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewRequestDTO {
+    private Long projectId;
+    private int rewardSatisfaction;
+    private int planningSatisfaction;
+    private int communicationSatisfaction;
+    private String content;
+    private String imageUrl;   // POST /api/media 로 먼저 올린 이미지 URL (선택)
+}
\ No newline at end of file
@@ -1,24 +1,26 @@
-//package io.fundy.fundyserver.projectreview.dto;
-//
-//import lombok.AllArgsConstructor;
-//import lombok.Getter;
-//import lombok.NoArgsConstructor;
-//import lombok.Setter;
-//
-//import java.time.LocalDateTime;
-//
-//@Getter
-//@Setter
-//@NoArgsConstructor
-//@AllArgsConstructor
-//public class ReviewResponseDTO {
-//    private Long reviewId;
-//    private Long projectId;
-//    private String userNickname;
-//    private int rewardSatisfaction;
-//    private int planningSatisfaction;
-//    private int communicationSatisfaction;
-//    private String content;
-//    private String imageUrl;
-//    private LocalDateTime createdAt;
-//}
+package io.fundy.fundyserver.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewResponseDTO {
+    private Long reviewId;
+    private Long projectId;
+    private String userNickname;
+    private int rewardSatisfaction;
+    private int planningSatisfaction;
+    private int communicationSatisfaction;
+    private String content;
+    private String imageUrl;
+    private Map<String, String> imageVariants;   // 크기별 변형 URL (card/mobile/detail)
+    private LocalDateTime createdAt;
+}
@@ -1,5 +1,6 @@
 package io.fundy.fundyserver.review.entity;
 
+import io.fundy.fundyserver.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -7,7 +8,8 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "project_reviews")
+@Table(name = "project_reviews",
+        indexes = @Index(name = "idx_project_reviews_project", columnList = "project_id"))  // 프로젝트별 후기/집계 재구성용
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,9 +18,17 @@ import java.time.LocalDateTime;
 public class ProjectReview {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId // 시간순 ID (INSERT 전에 발급)
     private Long reviewId;
 
+    // 후기 대상 프로젝트 (projects.id)
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // 작성자 로그인 ID
+    @Column(name = "user_id", length = 50, nullable = false)
+    private String userId;
+
 //
 //    @ManyToOne(fetch = FetchType.LAZY)
 //    @JoinColumn(name = "project_id", nullable = false)
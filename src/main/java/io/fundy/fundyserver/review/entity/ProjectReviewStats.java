@@ -0,0 +1,51 @@
+package io.fundy.fundyserver.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 프로젝트별 후기 만족도 집계 (항목별 BAD/AVERAGE/GOOD 개수 + 후기 수)
+// 후기 작성/수정/삭제 트랜잭션 안에서 증감하므로 프로젝트 화면에서 후기 전체를 집계하지 않는다.
+// 어긋난 경우 ReviewStatsRepairJob 이 project_reviews 로부터 다시 계산한다.
+@Entity
+@Table(name = "project_review_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectReviewStats {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount;
+
+    @Column(name = "reward_bad", nullable = false)
+    private Integer rewardBad;
+
+    @Column(name = "reward_average", nullable = false)
+    private Integer rewardAverage;
+
+    @Column(name = "reward_good", nullable = false)
+    private Integer rewardGood;
+
+    @Column(name = "planning_bad", nullable = false)
+    private Integer planningBad;
+
+    @Column(name = "planning_average", nullable = false)
+    private Integer planningAverage;
+
+    @Column(name = "planning_good", nullable = false)
+    private Integer planningGood;
+
+    @Column(name = "communication_bad", nullable = false)
+    private Integer communicationBad;
+
+    @Column(name = "communication_average", nullable = false)
+    private Integer communicationAverage;
+
+    @Column(name = "communication_good", nullable = false)
+    private Integer communicationGood;
+}
@@ -0,0 +1,22 @@
+package io.fundy.fundyserver.review.repository;
+
+import io.fundy.fundyserver.review.entity.ProjectReview;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ProjectReviewRepository extends JpaRepository<ProjectReview, Long> {
+
+    // 후기가 속한 프로젝트 (집계 행을 먼저 잠그기 위해 후기를 잠그지 않고 읽음, 프로젝트는 바뀌지 않는다)
+    @Query("select r.projectId from ProjectReview r where r.reviewId = :reviewId")
+    Optional<Long> findProjectId(@Param("reviewId") Long reviewId);
+
+    // 수정/삭제할 후기 (SELECT ... FOR UPDATE, 같은 후기의 동시 수정/삭제를 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from ProjectReview r where r.reviewId = :reviewId")
+    Optional<ProjectReview> findByIdForUpdate(@Param("reviewId") Long reviewId);
+}
@@ -0,0 +1,118 @@
+package io.fundy.fundyserver.review.repository;
+
+import io.fundy.fundyserver.review.entity.ProjectReviewStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// 후기 만족도 집계 증감/재계산 (JDBC)
+@Repository
+@RequiredArgsConstructor
+public class ReviewStatsRepository {
+
+    // 항목(보상/기획/소통) × 단계(BAD/AVERAGE/GOOD) 순서의 집계 컬럼
+    public static final String[] LEVEL_COLUMNS = {
+            "reward_bad", "reward_average", "reward_good",
+            "planning_bad", "planning_average", "planning_good",
+            "communication_bad", "communication_average", "communication_good"
+    };
+    private static final String[] SOURCE_COLUMNS = {
+            "reward_satisfaction", "planning_satisfaction", "communication_satisfaction"
+    };
+
+    private static final String COLUMNS = "project_id, review_count, " + String.join(", ", LEVEL_COLUMNS);
+
+    private static final String UPSERT_DELTA_SQL = "INSERT INTO project_review_stats (" + COLUMNS + ") VALUES ("
+            + String.join(", ", Collections.nCopies(LEVEL_COLUMNS.length + 2, "?")) + ") "
+            + "ON DUPLICATE KEY UPDATE review_count = review_count + VALUES(review_count), "
+            + Arrays.stream(LEVEL_COLUMNS).map(c -> c + " = " + c + " + VALUES(" + c + ")").collect(Collectors.joining(", "));
+
+    // 집계 행 잠금 (없으면 0 으로 만들어 잠금)
+    private static final String LOCK_SQL = "INSERT INTO project_review_stats (" + COLUMNS + ") VALUES (?, "
+            + String.join(", ", Collections.nCopies(LEVEL_COLUMNS.length + 1, "0")) + ") "
+            + "ON DUPLICATE KEY UPDATE project_id = project_id";
+
+    private static final String REBUILD_RANGE_SQL = "INSERT INTO project_review_stats (" + COLUMNS + ") "
+            + "SELECT project_id, COUNT(*), " + levelSums() + " FROM project_reviews "
+            + "WHERE project_id BETWEEN ? AND ? GROUP BY project_id";
+
+    private static final RowMapper<ProjectReviewStats> ROW_MAPPER = (rs, i) -> ProjectReviewStats.builder()
+            .projectId(rs.getLong("project_id"))
+            .reviewCount(rs.getInt("review_count"))
+            .rewardBad(rs.getInt("reward_bad"))
+            .rewardAverage(rs.getInt("reward_average"))
+            .rewardGood(rs.getInt("reward_good"))
+            .planningBad(rs.getInt("planning_bad"))
+            .planningAverage(rs.getInt("planning_average"))
+            .planningGood(rs.getInt("planning_good"))
+            .communicationBad(rs.getInt("communication_bad"))
+            .communicationAverage(rs.getInt("communication_average"))
+            .communicationGood(rs.getInt("communication_good"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 프로젝트 집계 행을 잠근다 (호출 측 트랜잭션 안에서, 후기 행보다 먼저)
+    // 재계산(rebuildRange)도 집계 행 → 후기 행 순으로 잠그므로 서로 반대 순서로 기다리지 않는다.
+    public void lock(Long projectId) {
+        jdbcTemplate.update(LOCK_SQL, projectId);
+    }
+
+    // 집계 증감 (levelDeltas 는 LEVEL_COLUMNS 순서), 프로젝트 행 잠금으로 동시 후기끼리 직렬화된다
+    public void applyDelta(Long projectId, int reviewCountDelta, int[] levelDeltas) {
+        List<Object> args = new ArrayList<>(LEVEL_COLUMNS.length + 2);
+        args.add(projectId);
+        args.add(reviewCountDelta);
+        for (int delta : levelDeltas) {
+            args.add(delta);
+        }
+        jdbcTemplate.update(UPSERT_DELTA_SQL, args.toArray());
+    }
+
+    public Optional<ProjectReviewStats> find(Long projectId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM project_review_stats WHERE project_id = ?",
+                ROW_MAPPER, projectId).stream().findFirst();
+    }
+
+    // 후기가 있는 프로젝트 ID 를 afterProjectId 다음부터 limit 개 (오름차순, 키셋)
+    // 프로젝트 ID 는 snowflake 라 값 사이가 매우 넓으므로 구간 길이가 아닌 실제 ID 로 묶는다.
+    public List<Long> findProjectIdsAfter(long afterProjectId, int limit) {
+        return jdbcTemplate.queryForList("SELECT DISTINCT project_id FROM project_reviews WHERE project_id > ? "
+                + "ORDER BY project_id LIMIT ?", Long.class, afterProjectId, limit);
+    }
+
+    // 프로젝트 ID 범위의 집계를 project_reviews 로부터 다시 계산 (호출 측 트랜잭션 안에서)
+    // DELETE 가 범위의 집계 행(과 그 사이 빈 구간)을 먼저 잠근 뒤 INSERT ... SELECT 가 후기 행을 읽는다.
+    public int rebuildRange(long fromProjectId, long toProjectId) {
+        jdbcTemplate.update("DELETE FROM project_review_stats WHERE project_id BETWEEN ? AND ?", fromProjectId, toProjectId);
+        return jdbcTemplate.update(REBUILD_RANGE_SQL, fromProjectId, toProjectId);
+    }
+
+    // 집계에 남아 있지만 후기가 모두 사라진 범위 밖의 행 정리
+    public int deleteOutside(long minProjectId, long maxProjectId) {
+        return jdbcTemplate.update("DELETE FROM project_review_stats WHERE project_id < ? OR project_id > ?",
+                minProjectId, maxProjectId);
+    }
+
+    public int deleteAll() {
+        return jdbcTemplate.update("DELETE FROM project_review_stats");
+    }
+
+    private static String levelSums() {
+        List<String> sums = new ArrayList<>(LEVEL_COLUMNS.length);
+        for (String source : SOURCE_COLUMNS) {
+            for (int level = 1; level <= 3; level++) {
+                sums.add("SUM(" + source + " = " + level + ")");
+            }
+        }
+        return String.join(", ", sums);
+    }
+}
@@ -0,0 +1,160 @@
+package io.fundy.fundyserver.review.service;
+
+import io.fundy.fundyserver.media.service.MediaStorage;
+import io.fundy.fundyserver.media.service.MediaVariant;
+import io.fundy.fundyserver.project.repository.ProjectRepository;
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import io.fundy.fundyserver.register.repository.UserRepository;
+import io.fundy.fundyserver.review.dto.ProjectReviewStatsDTO;
+import io.fundy.fundyserver.review.dto.ReviewRequestDTO;
+import io.fundy.fundyserver.review.dto.ReviewResponseDTO;
+import io.fundy.fundyserver.review.dto.Satisfaction;
+import io.fundy.fundyserver.review.entity.ProjectReview;
+import io.fundy.fundyserver.review.repository.ProjectReviewRepository;
+import io.fundy.fundyserver.review.repository.ReviewStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 프로젝트 후기 작성/수정/삭제
+// 후기가 바뀌는 트랜잭션 안에서 project_review_stats 를 증감해서 집계가 후기와 함께 커밋/롤백된다.
+// 잠금 순서는 항상 집계 행 → 후기 행이다 (집계 재계산 ReviewStatsRepairJob 과 같은 순서).
+// 수정/삭제는 후기 행을 FOR UPDATE 로 다시 읽은 값으로 증감을 계산하므로 동시 요청이 집계를 어긋나게 하지 않는다.
+@Service
+@RequiredArgsConstructor
+public class ReviewService {
+
+    private final ProjectReviewRepository reviewRepository;
+    private final ReviewStatsRepository statsRepository;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final MediaStorage mediaStorage;
+
+    // 후기 작성
+    @Transactional
+    public ReviewResponseDTO create(String userId, ReviewRequestDTO req) {
+        if (req.getProjectId() == null) {
+            throw new IllegalArgumentException("프로젝트를 선택하세요.");
+        }
+        validate(req);
+        if (!projectRepository.existsById(req.getProjectId())) {
+            throw new ApiException(ErrorCode.PROJECT_NOT_FOUND);
+        }
+        statsRepository.lock(req.getProjectId());
+        ProjectReview review = ProjectReview.builder()
+                .projectId(req.getProjectId())
+                .userId(userId)
+                .rewardSatisfaction(req.getRewardSatisfaction())
+                .planningSatisfaction(req.getPlanningSatisfaction())
+                .communicationSatisfaction(req.getCommunicationSatisfaction())
+                .content(req.getContent())
+                .imageUrl(req.getImageUrl())
+                .build();
+        reviewRepository.save(review);
+
+        int[] deltas = new int[ReviewStatsRepository.LEVEL_COLUMNS.length];
+        addLevels(deltas, review, 1);
+        statsRepository.applyDelta(review.getProjectId(), 1, deltas);
+        return toResponse(review);
+    }
+
+    // 후기 수정 (만족도가 바뀐 단계만 증감, 프로젝트는 변경 불가)
+    @Transactional
+    public ReviewResponseDTO update(Long reviewId, String userId, ReviewRequestDTO req) {
+        validate(req);
+        ProjectReview review = getOwnReview(reviewId, userId);
+
+        int[] deltas = new int[ReviewStatsRepository.LEVEL_COLUMNS.length];
+        addLevels(deltas, review, -1);
+        review.setRewardSatisfaction(req.getRewardSatisfaction());
+        review.setPlanningSatisfaction(req.getPlanningSatisfaction());
+        review.setCommunicationSatisfaction(req.getCommunicationSatisfaction());
+        review.setContent(req.getContent());
+        review.setImageUrl(req.getImageUrl());
+        addLevels(deltas, review, 1);
+
+        if (hasChange(deltas)) {
+            statsRepository.applyDelta(review.getProjectId(), 0, deltas);
+        }
+        return toResponse(review);
+    }
+
+    // 후기 삭제
+    @Transactional
+    public void delete(Long reviewId, String userId) {
+        ProjectReview review = getOwnReview(reviewId, userId);
+        reviewRepository.delete(review);
+
+        int[] deltas = new int[ReviewStatsRepository.LEVEL_COLUMNS.length];
+        addLevels(deltas, review, -1);
+        statsRepository.applyDelta(review.getProjectId(), -1, deltas);
+    }
+
+    // 프로젝트 만족도 집계 (후기가 없으면 모두 0)
+    @Transactional(readOnly = true)
+    public ProjectReviewStatsDTO getStats(Long projectId) {
+        return statsRepository.find(projectId)
+                .map(ProjectReviewStatsDTO::fromEntity)
+                .orElseGet(() -> ProjectReviewStatsDTO.empty(projectId));
+    }
+
+    // 집계 행 → 후기 행 순으로 잠그고 본인 후기인지 확인
+    private ProjectReview getOwnReview(Long reviewId, String userId) {
+        Long projectId = reviewRepository.findProjectId(reviewId)
+                .orElseThrow(() -> new ApiException(ErrorCode.REVIEW_NOT_FOUND));
+        statsRepository.lock(projectId);
+        ProjectReview review = reviewRepository.findByIdForUpdate(reviewId)
+                .orElseThrow(() -> new ApiException(ErrorCode.REVIEW_NOT_FOUND));
+        if (!review.getUserId().equals(userId)) {
+            throw new ApiException(ErrorCode.REVIEW_NOT_FOUND);
+        }
+        return review;
+    }
+
+    // 만족도 값(1~3), 내용, 첨부 이미지(저장소에 올라간 것만) 검증
+    private void validate(ReviewRequestDTO req) {
+        if (req.getContent() == null || req.getContent().isBlank()) {
+            throw new IllegalArgumentException("후기 내용을 입력하세요.");
+        }
+        Satisfaction.fromValue(req.getRewardSatisfaction());
+        Satisfaction.fromValue(req.getPlanningSatisfaction());
+        Satisfaction.fromValue(req.getCommunicationSatisfaction());
+        if (req.getImageUrl() != null && !mediaStorage.exists(req.getImageUrl())) {
+            throw new ApiException(ErrorCode.MEDIA_NOT_FOUND);
+        }
+    }
+
+    // 후기의 항목별 단계 컬럼에 sign 만큼 더함 (LEVEL_COLUMNS 순서)
+    private static void addLevels(int[] deltas, ProjectReview review, int sign) {
+        deltas[review.getRewardSatisfaction() - 1] += sign;
+        deltas[3 + review.getPlanningSatisfaction() - 1] += sign;
+        deltas[6 + review.getCommunicationSatisfaction() - 1] += sign;
+    }
+
+    private static boolean hasChange(int[] deltas) {
+        for (int delta : deltas) {
+            if (delta != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ReviewResponseDTO toResponse(ProjectReview review) {
+        String nickname = userRepository.findByUserId(review.getUserId())
+                .map(u -> u.getNickname())
+                .orElse(null);
+        return new ReviewResponseDTO(
+                review.getReviewId(),
+                review.getProjectId(),
+                nickname,
+                review.getRewardSatisfaction(),
+                review.getPlanningSatisfaction(),
+                review.getCommunicationSatisfaction(),
+                review.getContent(),
+                review.getImageUrl(),
+                MediaVariant.urlsOf(review.getImageUrl()),
+                review.getCreatedAt());
+    }
+}
@@ -0,0 +1,15 @@
+package io.fundy.fundyserver.review.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "review.stats")
+public class ReviewStatsProperties {
+    // 재계산 시 한 트랜잭션이 맡는 프로젝트 수 (후기가 있는 프로젝트 기준)
+    private int repairChunkSize = 1_000;
+    // 동시에 재계산하는 구간 수
+    private int repairParallelism = 4;
+}
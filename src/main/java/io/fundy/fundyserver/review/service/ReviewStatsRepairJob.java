@@ -0,0 +1,96 @@
+package io.fundy.fundyserver.review.service;
+
+import io.fundy.fundyserver.review.repository.ReviewStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 후기 만족도 집계 재계산 (증감 누락/수동 데이터 수정 복구용)
+// 후기가 있는 프로젝트 ID 를 키셋으로 repairChunkSize 개씩 읽어 (이전 묶음 끝, 이번 묶음 끝] 구간을 만들고,
+// repairParallelism 개씩 병렬로 구간마다 한 트랜잭션에서 [집계 삭제 + project_reviews GROUP BY 결과 INSERT] 한다.
+// 구간이 빈틈 없이 이어지므로 후기가 모두 사라진 프로젝트의 집계 행도 함께 지워진다.
+// 구간의 집계 행을 먼저 DELETE 로 잠근 뒤 INSERT ... SELECT 로 후기 행을 읽으므로, 같은 구간의 후기 작성/수정/삭제
+// (역시 집계 행을 먼저 잠근다, ReviewService) 는 구간 커밋까지 기다리고 서로 교착되지 않는다.
+@Slf4j
+@Component
+@EnableConfigurationProperties(ReviewStatsProperties.class)
+public class ReviewStatsRepairJob {
+
+    private final ReviewStatsRepository statsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReviewStatsProperties props;
+    private final ReentrantLock runLock = new ReentrantLock(); // 한 번에 한 번만 실행
+
+    public ReviewStatsRepairJob(ReviewStatsRepository statsRepository,
+                                PlatformTransactionManager transactionManager,
+                                ReviewStatsProperties props) {
+        this.statsRepository = statsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.props = props;
+    }
+
+    // 설정된 cron 으로 실행 (기본값 "-" 는 비활성)
+    @Scheduled(cron = "${review.stats.repair-cron:-}")
+    public void scheduledRepair() {
+        repair();
+    }
+
+    // 전체 재계산, 재계산한 프로젝트 수 반환 (이미 실행 중이면 -1)
+    public int repair() {
+        if (!runLock.tryLock()) {
+            return -1;
+        }
+        try {
+            int chunkSize = Math.max(1, props.getRepairChunkSize());
+            List<Long> ids = statsRepository.findProjectIdsAfter(Long.MIN_VALUE, chunkSize);
+            if (ids.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> statsRepository.deleteAll());
+                return 0;
+            }
+            long min = ids.get(0);
+            long max = min;
+
+            AtomicInteger rebuilt = new AtomicInteger();
+            ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, props.getRepairParallelism()));
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                long start = min;
+                while (!ids.isEmpty()) {
+                    long from = start;
+                    long to = ids.get(ids.size() - 1);
+                    futures.add(pool.submit(() -> rebuilt.addAndGet(
+                            transactionTemplate.execute(status -> statsRepository.rebuildRange(from, to)))));
+                    max = to;
+                    start = to + 1;
+                    ids = ids.size() < chunkSize ? List.of() : statsRepository.findProjectIdsAfter(to, chunkSize);
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("후기 집계 재계산이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("후기 집계 재계산에 실패했습니다.", e.getCause());
+            } finally {
+                pool.shutdownNow();
+            }
+            long first = min;
+            long last = max;
+            transactionTemplate.executeWithoutResult(status -> statsRepository.deleteOutside(first, last));
+            log.info("Review stats rebuilt for {} projects", rebuilt.get());
+            return rebuilt.get();
+        } finally {
+            runLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.fundy.fundyserver.admin.service;
+
+import io.fundy.fundyserver.register.repository.UserRepository;
+import io.fundy.fundyserver.register.service.NicknameSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AdminUserServiceTest {
+
+    @Test
+    void cursorRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 19, 10, 15, 30, 123_000_000);
+
+        String[] parts = AdminUserService.decode(AdminUserService.encode(createdAt, 42));
+
+        assertThat(LocalDateTime.parse(parts[0])).isEqualTo(createdAt);
+        assertThat(Integer.parseInt(parts[1])).isEqualTo(42);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"!!!", "bm90LWEtY3Vyc29y", "MjAyNS0xMy00MFQwMDowMHwx", "MjAyNS0wMS0wMVQwMDowMHx4"})
+    void badCursorIsRejected(String cursor) {
+        // 순서대로: base64 아님 / 구분자 없음 / 날짜 아님 / id 아님
+        assertThatThrownBy(() -> AdminUserService.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    void badCursorFailsBeforeQuerying() {
+        UserRepository userRepository = mock(UserRepository.class);
+        AdminUserService service = new AdminUserService(userRepository, mock(NicknameSearchIndex.class));
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2025-02-30T00:00|7".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> service.getUsers(cursor, 20, null)).isInstanceOf(IllegalArgumentException.class);
+        verify(userRepository, never()).findPageAfter(any(), any(), any());
+    }
+}
@@ -0,0 +1,142 @@
+package io.fundy.fundyserver.common.id;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long EPOCH = 0;
+    private static final long MAX_BACKWARD = 2_000;
+
+    // 테스트용 시계 (ticking 이면 읽을 때마다 1ms 씩 흐른다)
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicBoolean ticking = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        now.set(10_000);
+        ticking.set(false);
+    }
+
+    private SnowflakeIdGenerator generator(long floorMillis, long validUntil) {
+        return new SnowflakeIdGenerator(EPOCH, 3, floorMillis, MAX_BACKWARD, validUntil,
+                () -> ticking.get() ? now.getAndIncrement() : now.get());
+    }
+
+    @Test
+    void idsAreUniqueAndIncreasingAcrossThreads() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(EPOCH, 3, 0, MAX_BACKWARD, Long.MAX_VALUE);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        AtomicBoolean ordered = new AtomicBoolean(true);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.submit(() -> {
+                long previous = -1;
+                for (int i = 0; i < 10_000; i++) {
+                    long id = generator.nextId();
+                    if (id <= previous) {
+                        ordered.set(false);
+                    }
+                    previous = id;
+                    ids.add(id);
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(80_000);
+        // 스레드마다 발급 순서대로 커진다
+        assertThat(ordered).isTrue();
+    }
+
+    @Test
+    void shortClockRegressionWaitsAndKeepsIdsIncreasing() {
+        SnowflakeIdGenerator generator = generator(0, Long.MAX_VALUE);
+        long before = generator.nextId();
+
+        // 10ms 역행 후 시계가 다시 흐른다
+        now.set(9_990);
+        ticking.set(true);
+        long after = generator.nextId();
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(SnowflakeIdGenerator.timestampOf(after, EPOCH)).isEqualTo(10_000);
+    }
+
+    @Test
+    void regressionBeyondMaxBackwardFails() {
+        SnowflakeIdGenerator generator = generator(0, Long.MAX_VALUE);
+        generator.nextId();
+
+        now.set(10_000 - MAX_BACKWARD - 1);
+
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("backwards");
+    }
+
+    @Test
+    void expiredLeaseRefusesUntilExtended() {
+        SnowflakeIdGenerator generator = generator(0, 10_500);
+        generator.nextId();
+
+        now.set(10_501);
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("lease");
+
+        generator.extendUntil(20_000);
+        assertThatCode(generator::nextId).doesNotThrowAnyException();
+    }
+
+    @Test
+    void stoppedGeneratorRefuses() {
+        SnowflakeIdGenerator generator = generator(0, Long.MAX_VALUE);
+        generator.nextId();
+
+        generator.stop();
+
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void takenOverNodeIssuesOnlyAfterPreviousHoldersLastTime() {
+        // 이전 임대자가 10,000ms 까지 발급했을 수 있다
+        ticking.set(true);
+        SnowflakeIdGenerator generator = generator(10_000, Long.MAX_VALUE);
+
+        long id = generator.nextId();
+
+        assertThat(SnowflakeIdGenerator.timestampOf(id, EPOCH)).isGreaterThan(10_000);
+    }
+
+    @Test
+    void takenOverNodeFailsWhenClockIsFarBehindFloor() {
+        SnowflakeIdGenerator generator = generator(10_000 + MAX_BACKWARD + 1, Long.MAX_VALUE);
+
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("backwards");
+    }
+
+    @Test
+    void nodeIdOutOfRangeIsRejected() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(EPOCH, SnowflakeIdGenerator.MAX_NODE_ID + 1, 0,
+                MAX_BACKWARD, Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,67 @@
+package io.fundy.fundyserver.fund.service;
+
+import io.fundy.fundyserver.notification.service.NotificationPublisher;
+import io.fundy.fundyserver.project.event.ProjectChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class PledgeAmountProjectorTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private PledgeAmountProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        PledgeLedgerProperties props = new PledgeLedgerProperties();
+        projector = new PledgeAmountProjector(jdbcTemplate, mock(PlatformTransactionManager.class), props,
+                eventPublisher, mock(NotificationPublisher.class));
+    }
+
+    @Test
+    void appliesOutboxRowsPerProjectAndDeletesThem() {
+        // id 3 이 id 2 보다 먼저 커밋되었더라도 outbox 에 남아 있는 행은 모두 반영된다 (위치 기준이 아님)
+        outbox(new long[]{3, 10, 5_000}, new long[]{2, 20, 7_000}, new long[]{4, 10, -2_000}, new long[]{5, 20, -7_000});
+
+        projector.project();
+
+        ArgumentCaptor<List<Object[]>> deltas = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE projects SET current_amount = current_amount + ? WHERE id = ?"),
+                deltas.capture());
+        // 합이 0 인 프로젝트 20 은 갱신하지 않는다
+        assertThat(deltas.getValue()).containsExactly(new Object[]{3_000L, 10L});
+        verify(jdbcTemplate).update("DELETE FROM pledge_amount_outbox WHERE id IN (?,?,?,?)", 3L, 2L, 4L, 5L);
+        verify(eventPublisher).publishEvent(new ProjectChangedEvent(10L, ProjectChangedEvent.Change.AMOUNT));
+    }
+
+    @Test
+    void emptyOutboxDoesNothing() {
+        when(jdbcTemplate.query(startsWith("SELECT id, project_id"), any(RowMapper.class), any()))
+                .thenReturn(Collections.emptyList());
+
+        projector.project();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(jdbcTemplate, never()).update(startsWith("DELETE"), any(Object[].class));
+    }
+
+    private void outbox(long[]... rows) {
+        when(jdbcTemplate.query(startsWith("SELECT id, project_id"), any(RowMapper.class), any()))
+                .thenReturn(List.of(rows));
+    }
+}
@@ -0,0 +1,281 @@
+package io.fundy.fundyserver.fund.service;
+
+import io.fundy.fundyserver.common.id.SnowflakeIds;
+import io.fundy.fundyserver.fund.dto.PledgeRequestDTO;
+import io.fundy.fundyserver.fund.dto.PledgeResponseDTO;
+import io.fundy.fundyserver.fund.entity.PledgeLedgerEntry;
+import io.fundy.fundyserver.fund.entity.PledgeStatus;
+import io.fundy.fundyserver.fund.repository.PledgeLedgerRepository;
+import io.fundy.fundyserver.project.entity.Project;
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import io.fundy.fundyserver.project.entity.Reward;
+import io.fundy.fundyserver.project.repository.ProjectRepository;
+import io.fundy.fundyserver.project.repository.RewardRepository;
+import io.fundy.fundyserver.project.service.ProjectDeadlineProperties;
+import io.fundy.fundyserver.project.service.RewardStockEngine;
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PledgeServiceTest {
+
+    private PledgeLedgerRepository ledgerRepository;
+    private PledgeLedgerWriter ledgerWriter;
+    private ProjectRepository projectRepository;
+    private RewardRepository rewardRepository;
+    private RewardStockEngine stockEngine;
+    private PledgeService service;
+
+    @BeforeEach
+    void setUp() {
+        ledgerRepository = mock(PledgeLedgerRepository.class);
+        ledgerWriter = mock(PledgeLedgerWriter.class);
+        projectRepository = mock(ProjectRepository.class);
+        rewardRepository = mock(RewardRepository.class);
+        stockEngine = mock(RewardStockEngine.class);
+        SnowflakeIds snowflakeIds = mock(SnowflakeIds.class);
+        when(snowflakeIds.nextId()).thenReturn(100L);
+        PledgeLedgerProperties props = new PledgeLedgerProperties();
+        props.setAppendTimeout(Duration.ofMillis(200));
+        when(ledgerWriter.append(any())).thenReturn(CompletableFuture.completedFuture(null));
+        service = new PledgeService(ledgerRepository, ledgerWriter, snowflakeIds, projectRepository,
+                rewardRepository, stockEngine, props, new ProjectDeadlineProperties());
+    }
+
+    @Test
+    void confirmSupersedesPendingEntryAndAddsAmount() {
+        current(entry(7L, PledgeStatus.PENDING));
+
+        PledgeResponseDTO res = service.confirm(100L);
+
+        PledgeLedgerEntry written = appended();
+        assertThat(written.getStatus()).isEqualTo(PledgeStatus.CONFIRMED);
+        assertThat(written.getSupersedesEntryId()).isEqualTo(7L);
+        assertThat(written.getEntryId()).isNull();
+        assertThat(written.getAmountDelta()).isEqualTo(30_000);
+        assertThat(res.getStatus()).isEqualTo(PledgeStatus.CONFIRMED);
+    }
+
+    @Test
+    void confirmRejectsNonPendingPledge() {
+        current(entry(8L, PledgeStatus.CONFIRMED));
+
+        assertThatThrownBy(() -> service.confirm(100L))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PLEDGE_INVALID_STATE);
+        verify(ledgerWriter, never()).append(any());
+    }
+
+    @Test
+    void cancelAfterConfirmSubtractsAmountAndReleasesStock() {
+        current(entry(8L, PledgeStatus.CONFIRMED));
+
+        service.cancel(100L, "user1", "단순 변심");
+
+        PledgeLedgerEntry written = appended();
+        assertThat(written.getStatus()).isEqualTo(PledgeStatus.CANCELLED);
+        assertThat(written.getSupersedesEntryId()).isEqualTo(8L);
+        assertThat(written.getAmountDelta()).isEqualTo(-30_000);
+        verify(stockEngine).release(5L, 1);
+    }
+
+    @Test
+    void cancelOfPendingPledgeDoesNotChangeAmount() {
+        current(entry(7L, PledgeStatus.PENDING));
+
+        service.cancel(100L, "user1", null);
+
+        assertThat(appended().getAmountDelta()).isZero();
+    }
+
+    @Test
+    void cancelTwiceIsRejected() {
+        current(entry(9L, PledgeStatus.CANCELLED));
+
+        assertThatThrownBy(() -> service.cancel(100L, "user1", null))
+                .extracting("errorCode").isEqualTo(ErrorCode.PLEDGE_INVALID_STATE);
+        verify(stockEngine, never()).release(any(), anyInt());
+    }
+
+    @Test
+    void losingConcurrentTransitionDoesNotReleaseStock() {
+        current(entry(7L, PledgeStatus.PENDING));
+        // 같은 직전 행을 대체하려는 다른 전이가 먼저 기록됨 (supersedes_entry_id 유니크 위반)
+        when(ledgerWriter.append(any()))
+                .thenReturn(CompletableFuture.failedFuture(new ApiException(ErrorCode.PLEDGE_INVALID_STATE)));
+
+        assertThatThrownBy(() -> service.cancel(100L, "user1", null))
+                .extracting("errorCode").isEqualTo(ErrorCode.PLEDGE_INVALID_STATE);
+        verify(stockEngine, never()).release(any(), anyInt());
+    }
+
+    @Test
+    void cancelByAnotherUserIsNotFound() {
+        current(entry(7L, PledgeStatus.PENDING));
+
+        assertThatThrownBy(() -> service.cancel(100L, "user2", null))
+                .extracting("errorCode").isEqualTo(ErrorCode.PLEDGE_NOT_FOUND);
+    }
+
+    @Test
+    void getPledgeChecksOwnerUnlessAdmin() {
+        current(entry(7L, PledgeStatus.PENDING));
+
+        assertThatThrownBy(() -> service.getPledge(100L, "user2", false))
+                .extracting("errorCode").isEqualTo(ErrorCode.PLEDGE_NOT_FOUND);
+        assertThat(service.getPledge(100L, "user2", true).getPledgeId()).isEqualTo(100L);
+        assertThat(service.getPledge(100L, "user1", false).getPledgeId()).isEqualTo(100L);
+    }
+
+    @Test
+    void pledgeValidatesRewardAndReservesStock() {
+        project(ProjectStatus.IN_PROGRESS);
+        reward(20_000);
+
+        service.pledge("user1", new PledgeRequestDTO(1L, 5L, 30_000));
+
+        verify(stockEngine).reserve(5L, 1);
+        assertThat(appended().getStatus()).isEqualTo(PledgeStatus.PENDING);
+    }
+
+    @Test
+    void pledgeBelowRewardAmountIsRejected() {
+        project(ProjectStatus.IN_PROGRESS);
+        reward(20_000);
+
+        assertThatThrownBy(() -> service.pledge("user1", new PledgeRequestDTO(1L, 5L, 10_000)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(stockEngine, never()).reserve(any(), anyInt());
+    }
+
+    @Test
+    void pledgeWithRewardOfAnotherProjectIsRejected() {
+        project(ProjectStatus.IN_PROGRESS);
+        when(rewardRepository.findByIdAndProject_Id(5L, 1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.pledge("user1", new PledgeRequestDTO(1L, 5L, 30_000)))
+                .extracting("errorCode").isEqualTo(ErrorCode.REWARD_NOT_FOUND);
+    }
+
+    @Test
+    void pledgeToClosedOrMissingProjectIsRejected() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> service.pledge("user1", new PledgeRequestDTO(1L, null, 30_000)))
+                .extracting("errorCode").isEqualTo(ErrorCode.PROJECT_NOT_FOUND);
+
+        project(ProjectStatus.FAILED);
+        assertThatThrownBy(() -> service.pledge("user1", new PledgeRequestDTO(1L, null, 30_000)))
+                .extracting("errorCode").isEqualTo(ErrorCode.PROJECT_CLOSED);
+    }
+
+    @Test
+    void pledgeToProjectNotYetInProgressIsRejected() {
+        for (ProjectStatus status : new ProjectStatus[]{ProjectStatus.WAITING_APPROVAL, ProjectStatus.APPROVED}) {
+            project(status);
+            assertThatThrownBy(() -> service.pledge("user1", new PledgeRequestDTO(1L, null, 30_000)))
+                    .extracting("errorCode").isEqualTo(ErrorCode.PROJECT_CLOSED);
+        }
+        verify(ledgerWriter, never()).append(any());
+    }
+
+    @Test
+    void pledgeAfterDeadlineIsRejectedBeforeSchedulerCloses() {
+        // 마감일이 어제인데 아직 IN_PROGRESS (마감 처리 전)
+        project(ProjectStatus.IN_PROGRESS, today().minusDays(1));
+        assertThatThrownBy(() -> service.pledge("user1", new PledgeRequestDTO(1L, 5L, 30_000)))
+                .extracting("errorCode").isEqualTo(ErrorCode.PROJECT_CLOSED);
+        verify(stockEngine, never()).reserve(any(), anyInt());
+        verify(ledgerWriter, never()).append(any());
+    }
+
+    @Test
+    void pledgeOnDeadlineDayIsAccepted() {
+        project(ProjectStatus.IN_PROGRESS, today());
+
+        service.pledge("user1", new PledgeRequestDTO(1L, null, 30_000));
+
+        assertThat(appended().getStatus()).isEqualTo(PledgeStatus.PENDING);
+    }
+
+    @Test
+    void failedPledgeWriteReleasesReservedStock() {
+        project(ProjectStatus.IN_PROGRESS);
+        reward(20_000);
+        when(ledgerWriter.append(any())).thenThrow(new ApiException(ErrorCode.SERVER_BUSY));
+
+        assertThatThrownBy(() -> service.pledge("user1", new PledgeRequestDTO(1L, 5L, 30_000)))
+                .extracting("errorCode").isEqualTo(ErrorCode.SERVER_BUSY);
+        verify(stockEngine).release(5L, 1);
+    }
+
+    @Test
+    void timedOutWriteIsBusyAndKeepsStock() {
+        project(ProjectStatus.IN_PROGRESS);
+        reward(20_000);
+        when(ledgerWriter.append(any())).thenReturn(new CompletableFuture<>());
+
+        assertThatThrownBy(() -> service.pledge("user1", new PledgeRequestDTO(1L, 5L, 30_000)))
+                .extracting("errorCode").isEqualTo(ErrorCode.SERVER_BUSY);
+        // 뒤늦게 기록될 수 있으므로 재고는 만료 처리에서 돌려놓는다
+        verify(stockEngine, never()).release(any(), anyInt());
+    }
+
+    private void current(PledgeLedgerEntry entry) {
+        when(ledgerRepository.findFirstByPledgeIdOrderByEntryIdDesc(100L)).thenReturn(Optional.of(entry));
+    }
+
+    private void project(ProjectStatus status) {
+        project(status, today().plusDays(7));
+    }
+
+    private void project(ProjectStatus status, LocalDate deadline) {
+        Project project = mock(Project.class);
+        when(project.getProductStatus()).thenReturn(status);
+        when(project.getDeadline()).thenReturn(deadline);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(new ProjectDeadlineProperties().getZone());
+    }
+
+    private void reward(int amount) {
+        Reward reward = mock(Reward.class);
+        when(reward.getId()).thenReturn(5L);
+        when(reward.getAmount()).thenReturn(amount);
+        when(rewardRepository.findByIdAndProject_Id(5L, 1L)).thenReturn(Optional.of(reward));
+    }
+
+    private PledgeLedgerEntry appended() {
+        ArgumentCaptor<PledgeLedgerEntry> captor = ArgumentCaptor.forClass(PledgeLedgerEntry.class);
+        verify(ledgerWriter).append(captor.capture());
+        return captor.getValue();
+    }
+
+    private static PledgeLedgerEntry entry(Long entryId, PledgeStatus status) {
+        return PledgeLedgerEntry.builder()
+                .entryId(entryId)
+                .pledgeId(100L)
+                .userId("user1")
+                .projectId(1L)
+                .rewardId(5L)
+                .amount(30_000)
+                .amountDelta(0)
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package io.fundy.fundyserver.media.service;
+
+import io.fundy.fundyserver.media.repository.MediaVariantJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MediaVariantWorkerTest {
+
+    private static final int RED = 0xFFFF0000;
+    private static final int BLUE = 0xFF0000FF;
+
+    private MediaVariantWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        MediaVariantProperties props = new MediaVariantProperties();
+        props.setRetryBackoff(Duration.ofSeconds(30));
+        props.setMaxRetryBackoff(Duration.ofMinutes(5));
+        worker = new MediaVariantWorker(mock(MediaVariantJobRepository.class), mock(MediaStorage.class),
+                mock(PlatformTransactionManager.class), props, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.stop();
+    }
+
+    @Test
+    void backoffDoublesUpToMax() {
+        assertThat(worker.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(worker.backoff(2)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(worker.backoff(4)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(worker.backoff(5)).isEqualTo(Duration.ofMinutes(5));
+        assertThat(worker.backoff(100)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void exifOrientationIsReadInBothByteOrders() {
+        assertThat(MediaVariantWorker.exifOrientation(exif(ByteOrder.BIG_ENDIAN, 6))).isEqualTo(6);
+        assertThat(MediaVariantWorker.exifOrientation(exif(ByteOrder.LITTLE_ENDIAN, 8))).isEqualTo(8);
+    }
+
+    @Test
+    void missingOrBrokenExifMeansNoRotation() {
+        assertThat(MediaVariantWorker.exifOrientation(new byte[]{'X', 'M', 'P', 0})).isEqualTo(1);
+        assertThat(MediaVariantWorker.exifOrientation(exif(ByteOrder.BIG_ENDIAN, 42))).isEqualTo(1);
+        byte[] truncated = Arrays.copyOf(exif(ByteOrder.BIG_ENDIAN, 6), 18);
+        assertThat(MediaVariantWorker.exifOrientation(truncated)).isEqualTo(1);
+    }
+
+    @Test
+    void orientationRotatesBeforeResize() {
+        // 가로 2 x 세로 1: 왼쪽 빨강, 오른쪽 파랑
+        BufferedImage image = new BufferedImage(2, 1, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, RED);
+        image.setRGB(1, 0, BLUE);
+
+        // 6 = 시계 방향 90도: 왼쪽이 위로
+        BufferedImage clockwise = MediaVariantWorker.orient(image, 6);
+        assertThat(clockwise.getWidth()).isEqualTo(1);
+        assertThat(clockwise.getHeight()).isEqualTo(2);
+        assertThat(clockwise.getRGB(0, 0)).isEqualTo(RED);
+        assertThat(clockwise.getRGB(0, 1)).isEqualTo(BLUE);
+
+        // 8 = 반시계 방향 90도: 왼쪽이 아래로
+        BufferedImage counterClockwise = MediaVariantWorker.orient(image, 8);
+        assertThat(counterClockwise.getRGB(0, 0)).isEqualTo(BLUE);
+        assertThat(counterClockwise.getRGB(0, 1)).isEqualTo(RED);
+
+        // 3 = 180도
+        BufferedImage upsideDown = MediaVariantWorker.orient(image, 3);
+        assertThat(upsideDown.getRGB(0, 0)).isEqualTo(BLUE);
+        assertThat(upsideDown.getRGB(1, 0)).isEqualTo(RED);
+
+        assertThat(MediaVariantWorker.orient(image, 1)).isSameAs(image);
+    }
+
+    // "Exif\0\0" + TIFF 헤더 + IFD0(항목 2개: ImageWidth, Orientation)
+    private static byte[] exif(ByteOrder order, int orientation) {
+        ByteBuffer buf = ByteBuffer.allocate(6 + 8 + 2 + 2 * 12 + 4).order(order);
+        buf.put(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        buf.putShort(order == ByteOrder.LITTLE_ENDIAN ? (short) 0x4949 : (short) 0x4D4D);
+        buf.putShort((short) 42);
+        buf.putInt(8);
+        buf.putShort((short) 2);
+        buf.putShort((short) 0x0100).putShort((short) 4).putInt(1).putInt(640);
+        buf.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        buf.putInt(0);
+        return buf.array();
+    }
+}
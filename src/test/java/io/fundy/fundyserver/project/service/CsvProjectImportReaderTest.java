@@ -0,0 +1,77 @@
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.register.exception.FieldErrorResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvProjectImportReaderTest {
+
+    private static final String HEADER = "ref,title,description,goalAmount,deadline,categoryId,rewardTitle,rewardAmount\n";
+
+    @Test
+    void missingRequiredColumnFailsBeforeReading() {
+        assertThatThrownBy(() -> reader("title,description,goalAmount,deadline\n", 10_000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("categoryId");
+    }
+
+    @Test
+    void rowsWithSameRefBecomeOneProjectWithRewards() throws IOException {
+        ProjectImportReader reader = reader(HEADER
+                + "p1,\"텀블러, 500ml\",\"첫 줄\n둘째 줄\",1000,2030-01-01,1,얼리버드,10000\n"
+                + "p1,,,,,,일반,12000\n"
+                + ",의자,설명,2000,2030-02-01,2,,\n", 10_000);
+
+        ProjectImportReader.Row first = reader.next();
+        assertThat(first.line()).isEqualTo(2);
+        assertThat(first.request().getTitle()).isEqualTo("텀블러, 500ml");
+        assertThat(first.request().getDescription()).isEqualTo("첫 줄\n둘째 줄");
+        assertThat(first.request().getRewards()).extracting("title").containsExactly("얼리버드", "일반");
+
+        ProjectImportReader.Row second = reader.next();
+        assertThat(second.line()).isEqualTo(5);
+        assertThat(second.request().getRewards()).isEmpty();
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void badValuesAreReportedPerField() throws IOException {
+        ProjectImportReader reader = reader(HEADER
+                + "p1,텀블러,설명,천원,2030-02-30,x,얼리버드,10000\n"
+                + "p1,,,,,,일반,만이천\n", 10_000);
+
+        ProjectImportReader.Row row = reader.next();
+
+        assertThat(row.line()).isEqualTo(2);
+        assertThat(row.request()).isNull();
+        assertThat(row.errors()).extracting(FieldErrorResponse::getField)
+                .containsExactly("goalAmount", "deadline", "categoryId", "rewards[1].amount");
+    }
+
+    @Test
+    void oversizedRowSkipsItsGroup() throws IOException {
+        ProjectImportReader reader = reader(HEADER
+                + "p1,텀블러," + "가".repeat(200) + ",1000,2030-01-01,1,얼리버드,10000\n"
+                + "p1,,,,,,일반,12000\n"
+                + ",의자,설명,2000,2030-02-01,2,,\n", 150);
+
+        ProjectImportReader.Row error = reader.next();
+        assertThat(error.line()).isEqualTo(2);
+        assertThat(error.errors()).singleElement()
+                .satisfies(e -> assertThat(e.getMessage()).contains("최대 크기(150자)"));
+
+        ProjectImportReader.Row next = reader.next();
+        assertThat(next.line()).isEqualTo(4);
+        assertThat(next.request().getTitle()).isEqualTo("의자");
+    }
+
+    private static ProjectImportReader reader(String csv, int maxChars) throws IOException {
+        return new CsvProjectImportReader(new BufferedReader(new StringReader(csv)), maxChars);
+    }
+}
@@ -0,0 +1,156 @@
+package io.fundy.fundyserver.project.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FundingProgressStreamTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private FundingProgressProperties props;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService sender;
+    private FundingProgressStream stream;
+
+    // 프로젝트 ID → 현재 금액 (목표 금액은 1,000 고정)
+    private final Map<Long, Integer> amounts = new ConcurrentHashMap<>();
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(inv -> {
+            queries.incrementAndGet();
+            RowCallbackHandler handler = inv.getArgument(1);
+            for (int i = 2; i < inv.getArguments().length; i++) {
+                Long projectId = (Long) inv.getArguments()[i];
+                Integer amount = amounts.get(projectId);
+                if (amount == null) {
+                    continue;
+                }
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong("id")).thenReturn(projectId);
+                when(rs.getInt("current_amount")).thenReturn(amount);
+                when(rs.getInt("goal_amount")).thenReturn(1_000);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        props = new FundingProgressProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        sender = Executors.newSingleThreadExecutor();
+        amounts.put(1L, 100);
+        amounts.put(2L, 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdownNow();
+    }
+
+    private void start() {
+        stream = new FundingProgressStream(jdbcTemplate, props, meterRegistry, sender);
+    }
+
+    // 전송 스레드가 앞서 받은 작업을 모두 끝낼 때까지 대기
+    private void awaitSent() throws Exception {
+        sender.submit(() -> {
+        }).get(5, TimeUnit.SECONDS);
+    }
+
+    private double frames() {
+        return meterRegistry.get("funding.progress.frames").counter().count();
+    }
+
+    private double dropped() {
+        return meterRegistry.get("funding.progress.dropped").counter().count();
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("funding.progress.subscribers").gauge().value();
+    }
+
+    @Test
+    void firstSubscriberIsNotSentTheSameValueAgainOnNextTick() throws Exception {
+        start();
+        stream.subscribe(1L);
+
+        stream.tick();
+        awaitSent();
+
+        // 구독 시 보낸 현재 값 1프레임뿐
+        assertThat(frames()).isEqualTo(1);
+    }
+
+    @Test
+    void changesBetweenTicksAreCoalescedIntoOneFramePerSubscriber() throws Exception {
+        start();
+        stream.subscribe(1L);
+        stream.subscribe(1L);
+        stream.subscribe(1L);
+        stream.subscribe(2L);
+        awaitSent();
+        assertThat(frames()).isEqualTo(4);
+        // 같은 프로젝트의 두 번째 구독부터는 마지막 값을 재사용
+        assertThat(queries.get()).isEqualTo(2);
+
+        // tick 사이에 후원 여러 건
+        amounts.put(1L, 110);
+        amounts.put(1L, 150);
+        amounts.put(1L, 180);
+        stream.tick();
+        awaitSent();
+
+        // 바뀐 프로젝트 1의 구독자 3명에게만 1프레임씩, 조회는 tick 당 1회
+        assertThat(frames()).isEqualTo(7);
+        assertThat(queries.get()).isEqualTo(3);
+    }
+
+    @Test
+    void slowSubscriberIsDroppedWhenBufferOverflows() throws Exception {
+        props.setBufferSize(2);
+        start();
+        // 전송 스레드를 붙잡아 프레임이 쌓이게 한다
+        CountDownLatch release = new CountDownLatch(1);
+        sender.submit(() -> {
+            release.await();
+            return null;
+        });
+
+        stream.subscribe(1L);
+        amounts.put(1L, 110);
+        stream.tick();
+        assertThat(dropped()).isZero();
+
+        amounts.put(1L, 120);
+        stream.tick();
+
+        assertThat(dropped()).isEqualTo(1);
+        assertThat(subscribers()).isZero();
+
+        // 끊긴 뒤에는 보내지 않고, 구독자가 없는 프로젝트는 조회하지 않는다
+        release.countDown();
+        awaitSent();
+        assertThat(frames()).isZero();
+        int queriesBefore = queries.get();
+        stream.tick();
+        assertThat(queries.get()).isEqualTo(queriesBefore);
+    }
+}
@@ -0,0 +1,78 @@
+package io.fundy.fundyserver.project.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonProjectImportReaderTest {
+
+    private static final String VALID = "{\"title\":\"텀블러\",\"description\":\"설명\",\"goalAmount\":1000,"
+            + "\"deadline\":\"2030-01-01\",\"categoryId\":1}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void validLinesAreParsedAndBlankLinesKeepLineNumbers() throws IOException {
+        ProjectImportReader reader = reader(VALID + "\n\n" + VALID + "\n");
+
+        ProjectImportReader.Row first = reader.next();
+        ProjectImportReader.Row second = reader.next();
+
+        assertThat(first.line()).isEqualTo(1);
+        assertThat(first.errors()).isNull();
+        assertThat(first.request().getDeadline()).isEqualTo(LocalDate.of(2030, 1, 1));
+        assertThat(second.line()).isEqualTo(3);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void malformedJsonIsReportedAndReadingContinues() throws IOException {
+        ProjectImportReader reader = reader("{\"title\": \n" + VALID);
+
+        ProjectImportReader.Row error = reader.next();
+        assertThat(error.line()).isEqualTo(1);
+        assertThat(error.request()).isNull();
+        assertThat(error.errors()).singleElement().satisfies(e -> {
+            assertThat(e.getField()).isNull();
+            assertThat(e.getMessage()).startsWith("JSON 형식 오류");
+        });
+
+        assertThat(reader.next().request().getTitle()).isEqualTo("텀블러");
+    }
+
+    @Test
+    void typeMismatchReportsFieldPath() throws IOException {
+        ProjectImportReader reader = reader("{\"goalAmount\":\"많이\"}\n"
+                + "{\"rewards\":[{\"title\":\"a\",\"amount\":\"x\"}]}\n");
+
+        assertThat(reader.next().errors()).singleElement()
+                .satisfies(e -> assertThat(e.getField()).isEqualTo("goalAmount"));
+        assertThat(reader.next().errors()).singleElement()
+                .satisfies(e -> assertThat(e.getField()).isEqualTo("rewards[0].amount"));
+    }
+
+    @Test
+    void oversizedLineIsSkippedWholly() throws IOException {
+        String longLine = "{\"title\":\"" + "가".repeat(200) + "\"}";
+        ProjectImportReader reader = new NdjsonProjectImportReader(
+                new StringReader(longLine + "\n" + VALID + "\n"), objectMapper, 150);
+
+        ProjectImportReader.Row error = reader.next();
+        assertThat(error.line()).isEqualTo(1);
+        assertThat(error.errors()).singleElement()
+                .satisfies(e -> assertThat(e.getMessage()).contains("최대 크기(150자)"));
+
+        ProjectImportReader.Row next = reader.next();
+        assertThat(next.line()).isEqualTo(2);
+        assertThat(next.request()).isNotNull();
+    }
+
+    private ProjectImportReader reader(String input) {
+        return new NdjsonProjectImportReader(new StringReader(input), objectMapper, 10_000);
+    }
+}
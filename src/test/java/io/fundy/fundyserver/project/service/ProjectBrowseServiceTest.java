@@ -0,0 +1,75 @@
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.project.dto.project.ProjectBrowseSort;
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import io.fundy.fundyserver.project.repository.ProjectBrowseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProjectBrowseServiceTest {
+
+    @Test
+    void deadlineCursorRoundTrip() {
+        LocalDate deadline = LocalDate.of(2025, 4, 30);
+
+        String cursor = ProjectBrowseService.encode(ProjectBrowseSort.DEADLINE, deadline.toString(), 42L);
+        ProjectBrowseService.Cursor decoded = ProjectBrowseService.decode(cursor, ProjectBrowseSort.DEADLINE);
+
+        assertThat(decoded.sortKey()).isEqualTo(deadline);
+        assertThat(decoded.projectId()).isEqualTo(42L);
+    }
+
+    @Test
+    void newestCursorRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 19, 10, 15, 30, 123_000_000);
+
+        String cursor = ProjectBrowseService.encode(ProjectBrowseSort.NEWEST, createdAt.toString(), 7L);
+        ProjectBrowseService.Cursor decoded = ProjectBrowseService.decode(cursor, ProjectBrowseSort.NEWEST);
+
+        assertThat(decoded.sortKey()).isEqualTo(createdAt);
+        assertThat(decoded.projectId()).isEqualTo(7L);
+    }
+
+    @Test
+    void cursorFromAnotherSortIsRejected() {
+        String cursor = ProjectBrowseService.encode(ProjectBrowseSort.DEADLINE, "2025-04-30", 42L);
+
+        assertThatThrownBy(() -> ProjectBrowseService.decode(cursor, ProjectBrowseSort.NEWEST))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"!!!", "DEADLINE|2025-04-30", "DEADLINE|2025-02-30|1", "DEADLINE|2025-04-30|x", "2025-04-30|1"})
+    void badCursorIsRejected(String raw) {
+        // 순서대로: base64 아님 / 항목 부족 / 없는 날짜 / id 아님 / 정렬 없음(이전 형식)
+        String cursor = raw.equals("!!!") ? raw
+                : Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ProjectBrowseService.decode(cursor, ProjectBrowseSort.DEADLINE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    void badCursorFailsBeforeQuerying() {
+        ProjectBrowseRepository browseRepository = mock(ProjectBrowseRepository.class);
+        ProjectBrowseService service = new ProjectBrowseService(browseRepository);
+        String cursor = ProjectBrowseService.encode(ProjectBrowseSort.NEWEST, "2025-03-19T10:15:30", 7L);
+
+        assertThatThrownBy(() -> service.browse(null, ProjectStatus.IN_PROGRESS, ProjectBrowseSort.DEADLINE, cursor, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(browseRepository, never()).findPage(any(), any(), any(), any(), any(), anyInt());
+    }
+}
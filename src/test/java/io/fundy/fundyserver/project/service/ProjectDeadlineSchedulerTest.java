@@ -0,0 +1,110 @@
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.notification.entity.NotificationType;
+import io.fundy.fundyserver.notification.service.NotificationPublisher;
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class ProjectDeadlineSchedulerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private NotificationPublisher notificationPublisher;
+    private ProjectDeadlineProperties props;
+    private ProjectDeadlineScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        notificationPublisher = mock(NotificationPublisher.class);
+        props = new ProjectDeadlineProperties();
+        scheduler = new ProjectDeadlineScheduler(jdbcTemplate, mock(PlatformTransactionManager.class),
+                notificationPublisher, mock(ApplicationEventPublisher.class), props, new SimpleMeterRegistry());
+        when(jdbcTemplate.update(startsWith("UPDATE projects SET product_status"), any(), any(), any())).thenReturn(1);
+    }
+
+    @Test
+    void reachingGoalExactlyIsSuccess() {
+        assertThat(ProjectDeadlineScheduler.decide(100_000, 100_000)).isEqualTo(ProjectStatus.COMPLETED);
+        assertThat(ProjectDeadlineScheduler.decide(100_000, 99_999)).isEqualTo(ProjectStatus.FAILED);
+        assertThat(ProjectDeadlineScheduler.decide(100_000, 0)).isEqualTo(ProjectStatus.FAILED);
+    }
+
+    @Test
+    void pledgesNotYetProjectedCountTowardsTheGoal() {
+        project("IN_PROGRESS", 100_000, 90_000, yesterday());
+        pendingDelta(10_000);
+
+        scheduler.close(1L);
+
+        verify(jdbcTemplate).update(startsWith("UPDATE projects SET product_status"),
+                eq(ProjectStatus.COMPLETED.name()), eq(1L), any());
+        verify(notificationPublisher).publishToBackers(eq(1L), eq(NotificationType.PROJECT_COMPLETED), anyString());
+    }
+
+    @Test
+    void cancelledPledgesNotYetProjectedCountAgainstTheGoal() {
+        project("IN_PROGRESS", 100_000, 100_000, yesterday());
+        pendingDelta(-30_000);
+
+        scheduler.close(1L);
+
+        verify(jdbcTemplate).update(startsWith("UPDATE projects SET product_status"),
+                eq(ProjectStatus.FAILED.name()), eq(1L), any());
+        verify(notificationPublisher).publishToBackers(eq(1L), eq(NotificationType.PROJECT_FAILED), anyString());
+    }
+
+    @Test
+    void locksPendingDeltasBeforeTheProjectRow() {
+        project("IN_PROGRESS", 100_000, 0, yesterday());
+        pendingDelta(0);
+
+        scheduler.close(1L);
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).queryForObject(contains("FROM pledge_amount_outbox WHERE project_id = ? FOR SHARE"),
+                eq(Long.class), eq(1L));
+        order.verify(jdbcTemplate).query(contains("FROM projects WHERE id = ? FOR UPDATE"), any(RowMapper.class), eq(1L));
+        order.verify(jdbcTemplate).update(startsWith("UPDATE projects SET product_status"), any(), any(), any());
+    }
+
+    @Test
+    void alreadyClosedOrExtendedProjectIsLeftAlone() {
+        project("COMPLETED", 100_000, 200_000, yesterday());
+        pendingDelta(0);
+        scheduler.close(1L);
+
+        project("IN_PROGRESS", 100_000, 200_000, LocalDate.now(props.getZone()));
+        scheduler.close(1L);
+
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE projects SET product_status"), any(), any(), any());
+        verifyNoInteractions(notificationPublisher);
+    }
+
+    private void project(String status, long goal, long current, LocalDate deadline) {
+        when(jdbcTemplate.query(contains("FOR UPDATE"), any(RowMapper.class), eq(1L)))
+                .thenReturn(List.<Object[]>of(new Object[]{"프로젝트", goal, current, status, deadline}));
+    }
+
+    private void pendingDelta(long delta) {
+        when(jdbcTemplate.queryForObject(contains("pledge_amount_outbox"), eq(Long.class), eq(1L))).thenReturn(delta);
+    }
+
+    private LocalDate yesterday() {
+        return LocalDate.now(props.getZone()).minusDays(1);
+    }
+}
@@ -0,0 +1,69 @@
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.project.dto.project.ProjectSearchResultDTO;
+import io.fundy.fundyserver.project.entity.ProjectStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class ProjectSearchIndexTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ProjectSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        index = new ProjectSearchIndex(jdbcTemplate, mock(DataSource.class));
+        put(1L, "친환경 텀블러", "매일 쓰는 컵");
+        put(2L, "캠핑 의자", "가벼운 접이식 의자");
+    }
+
+    @Test
+    void documentTokensCoverEveryCharacter() {
+        assertThat(ProjectSearchIndex.tokenize("텀블러")).containsExactly("텀블", "블러");
+        assertThat(ProjectSearchIndex.tokenize("텀블러", true)).containsExactly("텀블", "블러", "러");
+    }
+
+    @Test
+    void bigramQueryMatches() {
+        assertThat(ids(index.search("텀블러", null, null, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void singleCharacterQueryMatchesAnyPosition() {
+        // 단어 첫 글자 / 가운데 / 마지막 글자
+        assertThat(ids(index.search("텀", null, null, 10))).containsExactly(1L);
+        assertThat(ids(index.search("블", null, null, 10))).containsExactly(1L);
+        assertThat(ids(index.search("자", null, null, 10))).containsExactly(2L);
+        assertThat(index.search("펀", null, null, 10)).isEmpty();
+    }
+
+    private void put(Long id, String title, String description) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(id))).thenAnswer(invocation -> {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong("id")).thenReturn(id);
+            when(rs.getLong("category_id")).thenReturn(1L);
+            when(rs.getString("product_status")).thenReturn(ProjectStatus.IN_PROGRESS.name());
+            when(rs.getString("title")).thenReturn(title);
+            when(rs.getString("description")).thenReturn(description);
+            RowMapper<?> mapper = invocation.getArgument(1);
+            return List.of(mapper.mapRow(rs, 0));
+        });
+        index.refresh(id);
+    }
+
+    private static List<Long> ids(List<ProjectSearchResultDTO> results) {
+        return results.stream().map(ProjectSearchResultDTO::getProjectId).toList();
+    }
+}
@@ -0,0 +1,201 @@
+package io.fundy.fundyserver.project.service;
+
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class RewardStockEngineTest {
+
+    private static final String TAKE_SQL = "UPDATE rewards SET stock = stock - ? WHERE id = ? AND stock >= ?";
+    private static final String GIVE_BACK_SQL = "UPDATE rewards SET stock = stock + ? WHERE id = ? AND stock >= 0";
+
+    private JdbcTemplate jdbcTemplate;
+    private RewardStockProperties props;
+    private RewardStockEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        props = new RewardStockProperties();
+        props.setSoldOutCacheTtl(Duration.ofMinutes(1));
+        props.setLeaseBlockSize(10);
+        props.setLeaseIdleTimeout(Duration.ofHours(1));
+        engine = new RewardStockEngine(jdbcTemplate, props);
+    }
+
+    @Test
+    void reserveLeasesBlockOnceAndServesRestFromMemory() {
+        when(jdbcTemplate.update(eq(TAKE_SQL), eq(10), eq(1L), eq(10))).thenReturn(1);
+
+        for (int i = 0; i < 10; i++) {
+            engine.reserve(1L, 1);
+        }
+
+        // 10개를 한 번에 빌려 왔으므로 DB 는 한 번만 거친다
+        verify(jdbcTemplate, times(1)).update(eq(TAKE_SQL), eq(10), eq(1L), eq(10));
+        assertThat(engine.leasedStock(1L)).isZero();
+
+        engine.reserve(1L, 1);
+        verify(jdbcTemplate, times(2)).update(eq(TAKE_SQL), eq(10), eq(1L), eq(10));
+        assertThat(engine.leasedStock(1L)).isEqualTo(9);
+    }
+
+    @Test
+    void leasesWhatIsLeftWhenLessThanBlockRemainsThenSellsOut() {
+        when(jdbcTemplate.update(eq(TAKE_SQL), eq(10), eq(1L), eq(10))).thenReturn(0);
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(1L))).thenReturn(List.of(3), List.of(0));
+        when(jdbcTemplate.update(eq(TAKE_SQL), eq(3), eq(1L), eq(3))).thenReturn(1);
+
+        engine.reserve(1L, 1);
+        engine.reserve(1L, 1);
+        engine.reserve(1L, 1);
+
+        assertThatThrownBy(() -> engine.reserve(1L, 1))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REWARD_SOLD_OUT);
+        // 매진 판정은 캐시되어 다음 요청은 DB 를 거치지 않는다
+        assertThatThrownBy(() -> engine.reserve(1L, 1)).isInstanceOf(ApiException.class);
+        verify(jdbcTemplate, times(2)).update(eq(TAKE_SQL), eq(10), eq(1L), eq(10));
+    }
+
+    @Test
+    void releaseGoesToLeasedStockAndClearsSoldOut() {
+        when(jdbcTemplate.update(eq(TAKE_SQL), eq(10), eq(1L), eq(10))).thenReturn(0);
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(1L))).thenReturn(List.of(0));
+        assertThatThrownBy(() -> engine.reserve(1L, 1)).isInstanceOf(ApiException.class);
+
+        engine.release(1L, 1);
+
+        assertThat(engine.leasedStock(1L)).isEqualTo(1);
+        assertThatCode(() -> engine.reserve(1L, 1)).doesNotThrowAnyException();
+        verify(jdbcTemplate, never()).update(eq(GIVE_BACK_SQL), any(), any());
+    }
+
+    @Test
+    void releaseOfRewardNeverLeasedHereGoesStraightToDb() {
+        engine.release(5L, 1);
+
+        verify(jdbcTemplate).update(GIVE_BACK_SQL, 1, 5L);
+    }
+
+    @Test
+    void reconcileReturnsIdleLeaseToDb() {
+        props.setLeaseIdleTimeout(Duration.ZERO);
+        when(jdbcTemplate.update(eq(TAKE_SQL), eq(10), eq(1L), eq(10))).thenReturn(1);
+        engine.reserve(1L, 1);
+
+        engine.reconcile();
+        engine.reconcile();
+
+        verify(jdbcTemplate, times(1)).update(GIVE_BACK_SQL, 9, 1L);
+        assertThat(engine.leasedStock(1L)).isZero();
+    }
+
+    @Test
+    void reconcileKeepsOneBlockForActiveReward() {
+        when(jdbcTemplate.update(eq(TAKE_SQL), eq(10), eq(1L), eq(10))).thenReturn(1);
+        engine.reserve(1L, 1);
+        // 만료/취소로 돌아온 재고
+        engine.release(1L, 5);
+
+        engine.reconcile();
+
+        verify(jdbcTemplate).update(GIVE_BACK_SQL, 4, 1L);
+        assertThat(engine.leasedStock(1L)).isEqualTo(10);
+    }
+
+    @Test
+    void failedGiveBackIsRetriedNextTime() {
+        when(jdbcTemplate.update(eq(TAKE_SQL), eq(10), eq(1L), eq(10))).thenReturn(1);
+        when(jdbcTemplate.update(eq(GIVE_BACK_SQL), eq(9), eq(1L)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(1);
+        engine.reserve(1L, 1);
+
+        engine.returnAllOnShutdown();
+        assertThat(engine.leasedStock(1L)).isEqualTo(9);
+        engine.returnAllOnShutdown();
+
+        assertThat(engine.leasedStock(1L)).isZero();
+        verify(jdbcTemplate, times(2)).update(GIVE_BACK_SQL, 9, 1L);
+    }
+
+    @Test
+    void unlimitedRewardPassesWithoutTakingStock() {
+        when(jdbcTemplate.update(eq(TAKE_SQL), eq(10), eq(2L), eq(10))).thenReturn(0);
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(2L))).thenReturn(List.of(-1));
+
+        engine.reserve(2L, 1);
+        engine.reserve(2L, 1);
+
+        verify(jdbcTemplate, times(1)).update(eq(TAKE_SQL), eq(10), eq(2L), eq(10));
+    }
+
+    @Test
+    void missingRewardIsNotFound() {
+        when(jdbcTemplate.update(eq(TAKE_SQL), eq(10), eq(3L), eq(10))).thenReturn(0);
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(3L))).thenReturn(Collections.emptyList());
+
+        assertThatThrownBy(() -> engine.reserve(3L, 1))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REWARD_NOT_FOUND);
+    }
+
+    @Test
+    void concurrentReservesNeverSellMoreThanDbStock() throws Exception {
+        // DB 행 흉내 (조건부 UPDATE 와 같은 판정)
+        AtomicInteger dbStock = new AtomicInteger(95);
+        when(jdbcTemplate.update(eq(TAKE_SQL), anyInt(), eq(1L), anyInt())).thenAnswer(inv -> {
+            int quantity = inv.getArgument(1);
+            synchronized (dbStock) {
+                if (dbStock.get() < quantity) {
+                    return 0;
+                }
+                dbStock.addAndGet(-quantity);
+                return 1;
+            }
+        });
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(1L)))
+                .thenAnswer(inv -> List.of(dbStock.get()));
+        props.setSoldOutCacheTtl(Duration.ZERO);
+
+        AtomicInteger sold = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < 50; i++) {
+                    try {
+                        engine.reserve(1L, 1);
+                        sold.incrementAndGet();
+                    } catch (ApiException e) {
+                        // 매진
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(sold.get()).isEqualTo(95);
+        assertThat(dbStock.get()).isZero();
+        assertThat(engine.leasedStock(1L)).isZero();
+    }
+}
@@ -0,0 +1,46 @@
+package io.fundy.fundyserver.register.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptCostCalibratorTest {
+
+    @Test
+    void onlyWeakerHashesNeedRehash() {
+        PasswordHashingProperties props = new PasswordHashingProperties();
+        props.setStrength(12);
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator(props);
+
+        assertThat(calibrator.needsRehash("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234")).isTrue();
+        assertThat(calibrator.needsRehash("$2a$12$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234")).isFalse();
+        // 다른 인스턴스가 만든 더 높은 strength 해시는 낮추지 않는다
+        assertThat(calibrator.needsRehash("$2a$13$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234")).isFalse();
+        assertThat(calibrator.needsRehash(null)).isFalse();
+    }
+
+    @Test
+    void calibratesByDefault() {
+        PasswordHashingProperties props = new PasswordHashingProperties();
+        props.setMinStrength(4);
+        props.setMaxStrength(4);
+
+        assertThat(props.getStrength()).isZero();
+        assertThat(new BCryptCostCalibrator(props).getStrength()).isEqualTo(4);
+    }
+
+    @Test
+    void calibrationStaysWithinAllowedRange() {
+        PasswordHashingProperties props = new PasswordHashingProperties();
+        props.setMinStrength(4);
+        props.setMaxStrength(6);
+
+        // 목표가 아주 짧으면 최소값, 아주 길면 최대값
+        props.setTargetLatency(Duration.ofNanos(1));
+        assertThat(new BCryptCostCalibrator(props).getStrength()).isEqualTo(4);
+        props.setTargetLatency(Duration.ofMinutes(1));
+        assertThat(new BCryptCostCalibrator(props).getStrength()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,73 @@
+package io.fundy.fundyserver.register.security;
+
+import io.fundy.fundyserver.register.entity.RoleType;
+import io.fundy.fundyserver.register.entity.User;
+import io.fundy.fundyserver.register.entity.UserStatus;
+import io.fundy.fundyserver.register.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class PrincipalCacheTest {
+
+    private UserRepository userRepository;
+    private PrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        cache = new PrincipalCache(userRepository, new PrincipalCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void loadedUserIsCached() {
+        when(userRepository.findByUserIdAndUserStatusNot("user1", UserStatus.BANNED)).thenReturn(Optional.of(user()));
+
+        cache.getActiveUser("user1");
+        cache.getActiveUser("user1");
+
+        verify(userRepository, times(1)).findByUserIdAndUserStatusNot("user1", UserStatus.BANNED);
+    }
+
+    @Test
+    void invalidationDuringLoadIsNotOverwritten() {
+        // 조회하는 사이 다른 요청이 사용자 정보를 바꾸고 무효화
+        when(userRepository.findByUserIdAndUserStatusNot("user1", UserStatus.BANNED)).thenAnswer(invocation -> {
+            cache.invalidate("user1");
+            return Optional.of(user());
+        });
+
+        assertThat(cache.getActiveUser("user1")).isPresent();
+        cache.getActiveUser("user1");
+
+        // 이전 값이 캐시에 남지 않아 다시 조회한다
+        verify(userRepository, times(2)).findByUserIdAndUserStatusNot("user1", UserStatus.BANNED);
+    }
+
+    @Test
+    void invalidateEvictsCachedUser() {
+        when(userRepository.findByUserIdAndUserStatusNot("user1", UserStatus.BANNED)).thenReturn(Optional.of(user()));
+        cache.getActiveUser("user1");
+
+        cache.invalidate("user1");
+        cache.getActiveUser("user1");
+
+        verify(userRepository, times(2)).findByUserIdAndUserStatusNot("user1", UserStatus.BANNED);
+    }
+
+    private static User user() {
+        return User.builder()
+                .userId("user1")
+                .email("user1@example.com")
+                .password("hash")
+                .nickname("닉네임")
+                .userStatus(UserStatus.LOGOUT)
+                .roleType(RoleType.USER)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package io.fundy.fundyserver.register.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class NicknameSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 19, 10, 0);
+
+    private NicknameSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NicknameSearchIndex(mock(JdbcTemplate.class), mock(DataSource.class));
+        // 트랜잭션 밖이므로 바로 반영, 가입 순서 1 → 4
+        index.put(1, "Apple", BASE);
+        index.put(2, "banana", BASE.plusMinutes(1));
+        index.put(3, "펀디유저", BASE.plusMinutes(2));
+        index.put(4, "pineapple", BASE.plusMinutes(3));
+    }
+
+    @Test
+    void singleCharacterQueryMatches() {
+        assertThat(index.search("a", null, null, 10)).containsExactly(4, 2, 1);
+        assertThat(index.search("유", null, null, 10)).containsExactly(3);
+        assertThat(index.search("z", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void multiCharacterQueryMatchesSubstringOnly() {
+        assertThat(index.search("pl", null, null, 10)).containsExactly(4, 1);
+        assertThat(index.search("APPLE", null, null, 10)).containsExactly(4, 1);
+        assertThat(index.search("디유", null, null, 10)).containsExactly(3);
+        // 두 조각(an, na)이 모두 있어도 이어져 있어야 한다
+        assertThat(index.search("ana", null, null, 10)).containsExactly(2);
+        assertThat(index.search("apa", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void renameReplacesOldNickname() {
+        index.put(2, "cherry", BASE.plusMinutes(1));
+
+        assertThat(index.search("ban", null, null, 10)).isEmpty();
+        assertThat(index.search("rr", null, null, 10)).containsExactly(2);
+        assertThat(index.search("a", null, null, 10)).containsExactly(4, 1);
+    }
+
+    @Test
+    void cursorContinuesAfterLastUser() {
+        List<Integer> first = index.search("a", null, null, 2);
+        assertThat(first).containsExactly(4, 2);
+
+        List<Integer> second = index.search("a", BASE.plusMinutes(1), 2, 2);
+        assertThat(second).containsExactly(1);
+    }
+}
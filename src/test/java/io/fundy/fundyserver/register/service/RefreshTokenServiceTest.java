@@ -0,0 +1,107 @@
+package io.fundy.fundyserver.register.service;
+
+import io.fundy.fundyserver.register.dto.TokenResponseDTO;
+import io.fundy.fundyserver.register.entity.RefreshToken;
+import io.fundy.fundyserver.register.entity.RoleType;
+import io.fundy.fundyserver.register.exception.ApiException;
+import io.fundy.fundyserver.register.exception.ErrorCode;
+import io.fundy.fundyserver.register.repository.RefreshTokenRepository;
+import io.fundy.fundyserver.register.security.jwt.JwtProperties;
+import io.fundy.fundyserver.register.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenServiceTest {
+
+    private RefreshTokenRepository refreshRepo;
+    private JwtTokenProvider jwtProvider;
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret("test-secret-test-secret-test-secret-0123456789");
+        props.setAccessTokenExpireMs(60_000);
+        props.setRefreshTokenExpireMs(600_000);
+        jwtProvider = new JwtTokenProvider(props);
+        jwtProvider.init();
+        refreshRepo = mock(RefreshTokenRepository.class);
+        service = new RefreshTokenService(refreshRepo, jwtProvider);
+    }
+
+    @Test
+    void refreshTokensIssuedTogetherDiffer() {
+        // 같은 초(iat)에 발급해도 jti 가 달라 토큰이 겹치지 않는다
+        String first = jwtProvider.createRefreshToken("user1");
+        String second = jwtProvider.createRefreshToken("user1");
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(RefreshTokenService.hash(first)).isNotEqualTo(RefreshTokenService.hash(second));
+    }
+
+    @Test
+    void refreshRotatesToNewToken() {
+        String old = jwtProvider.createRefreshToken("user1");
+        stored(old);
+        when(refreshRepo.rotate(eq("user1"), eq(RefreshTokenService.hash(old)), anyString(), any())).thenReturn(1);
+
+        TokenResponseDTO response = service.refresh(old);
+
+        assertThat(response.getRefreshToken()).isNotEqualTo(old);
+        assertThat(jwtProvider.getUserId(response.getRefreshToken())).isEqualTo("user1");
+        assertThat(jwtProvider.getRole(response.getAccessToken())).isEqualTo(RoleType.USER);
+        verify(refreshRepo).rotate(eq("user1"), eq(RefreshTokenService.hash(old)),
+                eq(RefreshTokenService.hash(response.getRefreshToken())), any(Instant.class));
+    }
+
+    @Test
+    void reusedTokenAfterRotationIsRejected() {
+        // 같은 토큰으로 동시에 두 번 재발급: 조건부 UPDATE 는 한쪽만 성공
+        String old = jwtProvider.createRefreshToken("user1");
+        stored(old);
+        when(refreshRepo.rotate(eq("user1"), eq(RefreshTokenService.hash(old)), anyString(), any()))
+                .thenReturn(1, 0);
+
+        service.refresh(old);
+
+        assertThatThrownBy(() -> service.refresh(old))
+                .isInstanceOf(ApiException.class)
+                .extracting(e -> ((ApiException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    void expiredStoredTokenIsRejected() {
+        String old = jwtProvider.createRefreshToken("user1");
+        when(refreshRepo.findByTokenHash(RefreshTokenService.hash(old))).thenReturn(Optional.of(RefreshToken.builder()
+                .userId("user1")
+                .tokenHash(RefreshTokenService.hash(old))
+                .roleType(RoleType.USER)
+                .expiryDate(Instant.now().minus(1, ChronoUnit.MINUTES))
+                .build()));
+
+        assertThatThrownBy(() -> service.refresh(old))
+                .isInstanceOf(ApiException.class)
+                .extracting(e -> ((ApiException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOKEN_EXPIRED);
+        verify(refreshRepo, never()).rotate(any(), any(), any(), any());
+    }
+
+    private void stored(String token) {
+        when(refreshRepo.findByTokenHash(RefreshTokenService.hash(token))).thenReturn(Optional.of(RefreshToken.builder()
+                .userId("user1")
+                .tokenHash(RefreshTokenService.hash(token))
+                .roleType(RoleType.USER)
+                .expiryDate(Instant.now().plus(10, ChronoUnit.MINUTES))
+                .build()));
+    }
+}
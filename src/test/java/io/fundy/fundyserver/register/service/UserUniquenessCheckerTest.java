@@ -0,0 +1,44 @@
+package io.fundy.fundyserver.register.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class UserUniquenessCheckerTest {
+
+    private final UserUniquenessChecker checker = new UserUniquenessChecker(mock(JdbcTemplate.class),
+            mock(DataSource.class), new UserUniquenessProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void keyIgnoresCaseAccentsAndWidth() {
+        // utf8mb4_0900_ai_ci 에서 같은 값으로 보는 문자열은 같은 키가 되어야 한다
+        assertThat(UserUniquenessChecker.key("José")).isEqualTo(UserUniquenessChecker.key("jose"));
+        assertThat(UserUniquenessChecker.key("ＡＢＣ１２３")).isEqualTo(UserUniquenessChecker.key("abc123"));
+        assertThat(UserUniquenessChecker.key("Ünïcode")).isEqualTo(UserUniquenessChecker.key("UNICODE"));
+        assertThat(UserUniquenessChecker.key("펀디")).isEqualTo(UserUniquenessChecker.key("펀디"));
+        assertThat(UserUniquenessChecker.key("펀디")).isNotEqualTo(UserUniquenessChecker.key("펀드"));
+    }
+
+    @Test
+    void violationMessageValuePicksField() {
+        String message = "Duplicate entry 'Fundy@Example.com' for key 'users.UK6dotkott2kjsp8vw4d0m25fb7'";
+
+        assertThat(checker.fieldOf(message, "user1", "fundy@example.com", "펀디"))
+                .isEqualTo(UserUniquenessChecker.Field.EMAIL);
+        assertThat(checker.fieldOf("Duplicate entry '펀디' for key 'users.UK1'", "user1", "a@b.com", "펀디"))
+                .isEqualTo(UserUniquenessChecker.Field.NICKNAME);
+    }
+
+    @Test
+    void unknownViolationFallsBackToUserId() {
+        assertThat(checker.fieldOf("Column 'phone' cannot be null", "user1", "a@b.com", "펀디"))
+                .isEqualTo(UserUniquenessChecker.Field.USER_ID);
+        assertThat(checker.fieldOf(null, "user1", "a@b.com", "펀디"))
+                .isEqualTo(UserUniquenessChecker.Field.USER_ID);
+    }
+}
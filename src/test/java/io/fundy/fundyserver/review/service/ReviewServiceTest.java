@@ -0,0 +1,106 @@
+package io.fundy.fundyserver.review.service;
+
+import io.fundy.fundyserver.media.service.MediaStorage;
+import io.fundy.fundyserver.project.repository.ProjectRepository;
+import io.fundy.fundyserver.register.repository.UserRepository;
+import io.fundy.fundyserver.review.dto.ReviewRequestDTO;
+import io.fundy.fundyserver.review.entity.ProjectReview;
+import io.fundy.fundyserver.review.repository.ProjectReviewRepository;
+import io.fundy.fundyserver.review.repository.ReviewStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.Optional;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReviewServiceTest {
+
+    private static final Long PROJECT_ID = 7L;
+    private static final Long REVIEW_ID = 70L;
+
+    private ProjectReviewRepository reviewRepository;
+    private ReviewStatsRepository statsRepository;
+    private ReviewService service;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository = mock(ProjectReviewRepository.class);
+        statsRepository = mock(ReviewStatsRepository.class);
+        ProjectRepository projectRepository = mock(ProjectRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        service = new ReviewService(reviewRepository, statsRepository, userRepository, projectRepository,
+                mock(MediaStorage.class));
+
+        when(projectRepository.existsById(PROJECT_ID)).thenReturn(true);
+        when(userRepository.findByUserId(anyString())).thenReturn(Optional.empty());
+    }
+
+    // 보상 GOOD(3), 기획 BAD(1), 소통 AVERAGE(2)
+    private ProjectReview existingReview() {
+        ProjectReview review = ProjectReview.builder()
+                .reviewId(REVIEW_ID)
+                .projectId(PROJECT_ID)
+                .userId("writer")
+                .rewardSatisfaction(3)
+                .planningSatisfaction(1)
+                .communicationSatisfaction(2)
+                .content("좋아요")
+                .build();
+        when(reviewRepository.findProjectId(REVIEW_ID)).thenReturn(Optional.of(PROJECT_ID));
+        when(reviewRepository.findByIdForUpdate(REVIEW_ID)).thenReturn(Optional.of(review));
+        return review;
+    }
+
+    @Test
+    void createAddsOneReviewAndItsThreeLevels() {
+        service.create("writer", new ReviewRequestDTO(PROJECT_ID, 3, 1, 2, "좋아요", null));
+
+        verify(statsRepository).applyDelta(eq(PROJECT_ID), eq(1), aryEq(new int[]{
+                0, 0, 1,
+                1, 0, 0,
+                0, 1, 0}));
+    }
+
+    @Test
+    void updateMovesOnlyTheChangedDimension() {
+        existingReview();
+
+        // 기획만 BAD → GOOD
+        service.update(REVIEW_ID, "writer", new ReviewRequestDTO(null, 3, 3, 2, "수정", null));
+
+        verify(statsRepository).applyDelta(eq(PROJECT_ID), eq(0), aryEq(new int[]{
+                0, 0, 0,
+                -1, 0, 1,
+                0, 0, 0}));
+    }
+
+    @Test
+    void updateWithoutSatisfactionChangeLeavesStatsAlone() {
+        existingReview();
+
+        service.update(REVIEW_ID, "writer", new ReviewRequestDTO(null, 3, 1, 2, "내용만 수정", null));
+
+        verify(statsRepository, never()).applyDelta(any(), anyInt(), any());
+    }
+
+    @Test
+    void deleteRemovesOneReviewAndItsThreeLevelsAfterLockingStatsFirst() {
+        ProjectReview review = existingReview();
+
+        service.delete(REVIEW_ID, "writer");
+
+        verify(reviewRepository).delete(review);
+        verify(statsRepository).applyDelta(eq(PROJECT_ID), eq(-1), aryEq(new int[]{
+                0, 0, -1,
+                -1, 0, 0,
+                0, -1, 0}));
+        // 잠금 순서: 집계 행 → 후기 행
+        InOrder order = inOrder(statsRepository, reviewRepository);
+        order.verify(statsRepository).lock(PROJECT_ID);
+        order.verify(reviewRepository).findByIdForUpdate(REVIEW_ID);
+    }
+}
@@ -0,0 +1,68 @@
+package io.fundy.fundyserver.review.service;
+
+import io.fundy.fundyserver.review.repository.ReviewStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReviewStatsRepairJobTest {
+
+    // 하루 간격으로 만든 snowflake ID 차이 (약 3.5e11)
+    private static final long DAY = 86_400_000L << 12;
+
+    private ReviewStatsRepository statsRepository;
+    private ReviewStatsRepairJob job;
+
+    @BeforeEach
+    void setUp() {
+        statsRepository = mock(ReviewStatsRepository.class);
+        ReviewStatsProperties props = new ReviewStatsProperties();
+        props.setRepairChunkSize(2);
+        props.setRepairParallelism(2);
+        job = new ReviewStatsRepairJob(statsRepository, mock(PlatformTransactionManager.class), props);
+        when(statsRepository.rebuildRange(anyLong(), anyLong())).thenReturn(1);
+    }
+
+    @Test
+    void sparseIdsAreRebuiltInKeysetChunks() {
+        long a = 10, b = a + DAY, c = b + DAY;
+        when(statsRepository.findProjectIdsAfter(Long.MIN_VALUE, 2)).thenReturn(List.of(a, b));
+        when(statsRepository.findProjectIdsAfter(b, 2)).thenReturn(List.of(c));
+
+        assertThat(job.repair()).isEqualTo(2);
+
+        // 구간은 빈틈 없이 이어진다: [a, b], [b + 1, c]
+        verify(statsRepository).rebuildRange(a, b);
+        verify(statsRepository).rebuildRange(b + 1, c);
+        verify(statsRepository, times(2)).rebuildRange(anyLong(), anyLong());
+        verify(statsRepository).deleteOutside(a, c);
+    }
+
+    @Test
+    void fullLastChunkReadsOnceMore() {
+        when(statsRepository.findProjectIdsAfter(Long.MIN_VALUE, 2)).thenReturn(List.of(1L, 2L));
+        when(statsRepository.findProjectIdsAfter(2L, 2)).thenReturn(List.of());
+
+        job.repair();
+
+        verify(statsRepository).rebuildRange(1L, 2L);
+        verify(statsRepository, times(1)).rebuildRange(anyLong(), anyLong());
+        verify(statsRepository).deleteOutside(1L, 2L);
+    }
+
+    @Test
+    void noReviewsClearsAllStats() {
+        when(statsRepository.findProjectIdsAfter(Long.MIN_VALUE, 2)).thenReturn(List.of());
+
+        assertThat(job.repair()).isZero();
+
+        verify(statsRepository).deleteAll();
+        verify(statsRepository, never()).rebuildRange(anyLong(), anyLong());
+    }
+}